@@ -21,8 +21,15 @@ in vec3 fragPos;
 in vec2 fragTex;
 in vec3 fragNormal;
 in float fragLighting; // Voxel lighting from vertex shader
+in float fragLayer;
 
 uniform sampler2D texture_sampler;
+// Chunk meshes sample the block texture array instead of the model atlas
+uniform sampler2DArray blockTextures;
+uniform bool useBlockTextures;
+// Texels below this alpha are discarded: 0 for opaque chunks (nothing to test),
+// raised for the cutout and translucent chunk layers and for non-chunk models
+uniform float alphaCutoff;
 
 uniform DirectionalLight dirLight;
 
@@ -44,10 +51,12 @@ vec3 CalcDirLight(DirectionalLight light, vec3 normal, vec3 texColor) {
 
 void main() {
     // 1. Sample the full RGBA color to get the alpha (transparency) channel
-    vec4 texColorFull = texture(texture_sampler, fragTex);
+    vec4 texColorFull = useBlockTextures
+            ? texture(blockTextures, vec3(fragTex, fragLayer))
+            : texture(texture_sampler, fragTex);
     
     // 2. Discard the fragment if it's transparent (alpha threshold)
-    if (texColorFull.a < 0.1) {
+    if (texColorFull.a < alphaCutoff) {
         discard;
     }
     
@@ -69,5 +78,6 @@ void main() {
     // Ensure minimum brightness
     result = max(result, texColor * 0.1);
     
-    fragColor = vec4(result, 1.0);
+    // Alpha only matters in the blended translucent pass
+    fragColor = vec4(result, texColorFull.a);
 }
\ No newline at end of file
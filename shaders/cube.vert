@@ -2,23 +2,29 @@
 layout (location = 0) in vec3 inPos;
 layout (location = 1) in vec2 inTex;
 layout (location = 2) in vec3 inNormal;
-layout (location = 3) in float inLighting; // Per-vertex lighting from voxel lighting system
+layout (location = 3) in vec2 inLight;     // Sky light, block light (0..1) from the voxel lighting system
+layout (location = 4) in float inLayer;    // Block texture array layer (chunk meshes only)
 
 uniform mat4 model;
 uniform mat4 view;
 uniform mat4 projection;
 uniform mat3 normalMatrix;
+uniform vec3 chunkOffset; // World offset of the chunk being drawn, zero for other objects
+uniform float skyLight;   // Time-of-day brightness of sky light, from DirectionalLight
 
 out vec3 fragPos;
 out vec2 fragTex;
 out vec3 fragNormal;
 out float fragLighting; // Pass lighting to fragment shader
+out float fragLayer;
 
 void main() {
-    fragPos = vec3(model * vec4(inPos, 1.0));
+    fragPos = vec3(model * vec4(inPos, 1.0)) + chunkOffset;
     fragTex = inTex;
     fragNormal = normalize(normalMatrix * inNormal);
-    fragLighting = inLighting; // Pass through the voxel lighting
+    // Sky light follows the time of day; block light (torches) doesn't
+    fragLighting = max(inLight.x * skyLight, inLight.y);
+    fragLayer = inLayer;
     
     gl_Position = projection * view * vec4(fragPos, 1.0);
 }
\ No newline at end of file
@@ -0,0 +1,124 @@
+package org.game.rendering;
+
+import java.util.List;
+
+import org.game.world.Chunk;
+import org.game.world.SectionVisibility;
+import org.game.world.World;
+
+/**
+ * Headless check of {@link OcclusionCuller} against small synthetic worlds.
+ *
+ * A 7x7 chunk area of solid ground (y below 32) with air above, and a cave
+ * sealed inside chunk (2,2) at y 4..19 (sections 0 and 1). Connectivity is
+ * computed with {@link SectionVisibility} and every chunk is marked meshed,
+ * so no GL context is needed. Checks that:
+ * <ul>
+ *   <li>from the surface, the sealed cave's interior section is never reached,</li>
+ *   <li>from inside the cave, only the cave's column is drawn, not the surface,</li>
+ *   <li>from above the world, every column's top section is drawn,</li>
+ *   <li>the frustum test limits what is reached,</li>
+ *   <li>once a shaft opens the cave to the surface, it is reached.</li>
+ * </ul>
+ * Exits with status 1 if any check fails.
+ *
+ * Usage: {@code OcclusionCullerCheck} (or {@code gradle cullCheck}).
+ */
+public class OcclusionCullerCheck {
+    private static final int RADIUS = 3;
+    private static final int GROUND_TOP = 32;
+    private static final int STONE = 1; // any non-air id; unregistered ids count as opaque
+    private static final int CAVE_X = 2, CAVE_Z = 2;
+
+    private static int failures;
+
+    public static void main(String[] args) {
+        World world = buildWorld(false);
+        OcclusionCuller culler = new OcclusionCuller();
+        Chunk cave = world.getChunk(CAVE_X, CAVE_Z);
+        Chunk far = world.getChunk(-RADIUS, -RADIUS);
+
+        List<Chunk> visible = culler.cull(world, 8, 40, 8, OcclusionCuller.NO_FRUSTUM);
+        report("surface", culler, visible);
+        check("surface: all columns reached", visible.size() == (2 * RADIUS + 1) * (2 * RADIUS + 1));
+        check("surface: sealed cave interior (section 0) hidden", !isVisible(culler, cave, 0));
+        check("surface: sky above the cave drawn", isVisible(culler, cave, 2));
+        int surfaceSections = culler.getVisibleSectionCount();
+
+        visible = culler.cull(world, CAVE_X * 16 + 8, 10, CAVE_Z * 16 + 8, OcclusionCuller.NO_FRUSTUM);
+        report("in cave", culler, visible);
+        check("in cave: cave sections drawn", isVisible(culler, cave, 0) && isVisible(culler, cave, 1));
+        check("in cave: distant surface hidden", !isVisible(culler, far, 2));
+        check("in cave: fewer sections than from the surface", culler.getVisibleSectionCount() < surfaceSections);
+
+        visible = culler.cull(world, 8, Chunk.SIZE_Y + 100, 8, OcclusionCuller.NO_FRUSTUM);
+        report("above world", culler, visible);
+        int top = SectionVisibility.SECTIONS - 1;
+        boolean allTops = true;
+        for (Chunk chunk : world.getAllChunks()) allTops &= isVisible(culler, chunk, top);
+        check("above world: every top section drawn", allTops);
+
+        // Frustum covering only boxes that reach past x = 16: columns east of the camera's
+        // (the camera's own section is always drawn)
+        visible = culler.cull(world, 8, 40, 8, (minX, minY, minZ, maxX, maxY, maxZ) -> maxX > 16);
+        report("half frustum", culler, visible);
+        boolean onlyEast = !visible.isEmpty();
+        for (Chunk chunk : visible) onlyEast &= chunk.getChunkX() >= 0;
+        check("half frustum: west columns culled", onlyEast && visible.size() < (2 * RADIUS + 1) * (2 * RADIUS + 1));
+
+        world = buildWorld(true);
+        cave = world.getChunk(CAVE_X, CAVE_Z);
+        visible = culler.cull(world, 8, 40, 8, OcclusionCuller.NO_FRUSTUM);
+        report("shaft", culler, visible);
+        check("shaft: opened cave reached from the surface", isVisible(culler, cave, 0));
+
+        System.out.println(failures == 0 ? "PASS" : failures + " check(s) FAILED");
+        if (failures > 0) System.exit(1);
+    }
+
+    private static World buildWorld(boolean shaft) {
+        World world = new World();
+        world.setViewDistance(RADIUS);
+        for (int cx = -RADIUS; cx <= RADIUS; cx++) {
+            for (int cz = -RADIUS; cz <= RADIUS; cz++) {
+                Chunk chunk = new Chunk(cx, cz);
+                for (int x = 0; x < Chunk.SIZE_X; x++) {
+                    for (int z = 0; z < Chunk.SIZE_Z; z++) {
+                        for (int y = 0; y < GROUND_TOP; y++) chunk.setBlock(x, y, z, STONE);
+                    }
+                }
+                if (cx == CAVE_X && cz == CAVE_Z) {
+                    carve(chunk, 2, 13, 4, 19, 2, 13);
+                    if (shaft) carve(chunk, 7, 8, 20, GROUND_TOP - 1, 7, 8);
+                }
+                world.setChunk(chunk);
+            }
+        }
+        for (Chunk chunk : world.getAllChunks()) {
+            chunk.setSectionConnectivity(SectionVisibility.computeAll(chunk));
+            chunk.setMeshBuilt(true);
+        }
+        return world;
+    }
+
+    private static void carve(Chunk chunk, int x0, int x1, int y0, int y1, int z0, int z1) {
+        for (int x = x0; x <= x1; x++) {
+            for (int y = y0; y <= y1; y++) {
+                for (int z = z0; z <= z1; z++) chunk.setBlock(x, y, z, 0);
+            }
+        }
+    }
+
+    private static boolean isVisible(OcclusionCuller culler, Chunk chunk, int section) {
+        return (chunk.getVisibleSections(culler.getFrame()) & (1 << section)) != 0;
+    }
+
+    private static void report(String name, OcclusionCuller culler, List<Chunk> visible) {
+        System.out.printf("%-12s %3d chunks, %3d sections%n", name, visible.size(), culler.getVisibleSectionCount());
+    }
+
+    private static void check(String name, boolean ok) {
+        System.out.println((ok ? "  ok   " : "  FAIL ") + name);
+        if (!ok) failures++;
+    }
+}
@@ -0,0 +1,128 @@
+package org.legendofvirelia.server.net;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+import org.engine.utils.LatencyHistogram;
+import org.joml.Vector3i;
+import org.legendofvirelia.shared.command.ServerCommand;
+import org.legendofvirelia.shared.commands.PlaceBlockCommand;
+import org.legendofvirelia.shared.packet.BlockChangePacket;
+import org.legendofvirelia.shared.packet.PacketCodec;
+import org.legendofvirelia.shared.packet.PlaceBlockPacket;
+
+/**
+ * Localhost benchmark comparing {@link VirtualThreadServer} with {@link NioSelectorServer}.
+ *
+ * Opens N simulated clients that each do M place-block round trips: send a
+ * PlaceBlockPacket, wait for the BlockChangePacket reply. A stand-in tick
+ * thread drains every connection's inbound queue and replies, exactly like the
+ * server tick would. Reports throughput, round-trip latency and live thread count.
+ *
+ * Usage: {@code TransportBenchmark [connections=200] [roundTrips=500]}
+ * (or {@code gradle netBenchmark}).
+ */
+public class TransportBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int connections = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        int roundTrips = args.length > 1 ? Integer.parseInt(args[1]) : 500;
+
+        // Warm up both paths once so the JIT does not favor whichever runs second
+        run("warmup-virtual", VirtualThreadServer::new, connections, roundTrips / 5, false);
+        run("warmup-nio", NioSelectorServer::new, connections, roundTrips / 5, false);
+
+        run("virtual-threads", VirtualThreadServer::new, connections, roundTrips, true);
+        run("nio-selector", NioSelectorServer::new, connections, roundTrips, true);
+    }
+
+    private static void run(String name, Supplier<ServerTransport> factory, int connections,
+                            int roundTrips, boolean report) throws Exception {
+        LatencyHistogram rtt = new LatencyHistogram();
+        try (ServerTransport server = factory.get()) {
+            server.start(0);
+
+            Thread tick = new Thread(() -> replyLoop(server), "bench-tick");
+            tick.setDaemon(true);
+            tick.start();
+
+            CountDownLatch connected = new CountDownLatch(connections);
+            CountDownLatch go = new CountDownLatch(1);
+            CountDownLatch done = new CountDownLatch(connections);
+            List<Thread> clients = new ArrayList<>(connections);
+            for (int i = 0; i < connections; i++) {
+                final int clientId = i;
+                clients.add(Thread.ofVirtual().start(() ->
+                        client(server.getPort(), clientId, roundTrips, rtt, connected, go, done)));
+            }
+
+            connected.await();
+            int peakThreads = ManagementFactory.getThreadMXBean().getThreadCount();
+            long start = System.nanoTime();
+            go.countDown();
+            done.await();
+            long elapsed = System.nanoTime() - start;
+            peakThreads = Math.max(peakThreads, ManagementFactory.getThreadMXBean().getThreadCount());
+
+            tick.interrupt();
+            for (Thread client : clients) client.join();
+
+            if (report) {
+                long total = (long) connections * roundTrips;
+                System.out.printf("%-16s %d conns x %d round trips: %.0f msg/s, rtt %s, platform threads %d%n",
+                        name, connections, roundTrips, total / (elapsed / 1e9), rtt.summary(), peakThreads);
+            }
+        }
+    }
+
+    /** Stand-in for the server tick: drain every connection and answer each place with a change. */
+    private static void replyLoop(ServerTransport server) {
+        while (!Thread.currentThread().isInterrupted()) {
+            boolean idle = true;
+            for (Connection connection : server.getConnections()) {
+                ServerCommand command;
+                while ((command = connection.pollInbound()) != null) {
+                    idle = false;
+                    if (command instanceof PlaceBlockCommand place) {
+                        Vector3i p = place.position;
+                        connection.send(new BlockChangePacket(p.x, p.y, p.z, place.blockId));
+                    }
+                }
+            }
+            if (idle) LockSupport.parkNanos(50_000);
+        }
+    }
+
+    private static void client(int port, int clientId, int roundTrips, LatencyHistogram rtt,
+                               CountDownLatch connected, CountDownLatch go, CountDownLatch done) {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+            socket.setTcpNoDelay(true);
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            connected.countDown();
+            go.await();
+
+            for (int i = 0; i < roundTrips; i++) {
+                long sent = System.nanoTime();
+                PacketCodec.write(out, new PlaceBlockPacket(clientId, i % 64, i, 1));
+                out.flush();
+                PacketCodec.read(in);
+                rtt.record(System.nanoTime() - sent);
+            }
+        } catch (Exception e) {
+            System.err.println("client " + clientId + " failed: " + e);
+        } finally {
+            done.countDown();
+        }
+    }
+}
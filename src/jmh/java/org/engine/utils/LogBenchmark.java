@@ -0,0 +1,49 @@
+package org.engine.utils;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a {@link Log} call on the calling thread. The disabled cases should
+ * be indistinguishable from the empty baseline and allocate nothing (check
+ * gc.alloc.rate.norm); the enabled case measures publishing into the ring
+ * buffer, with formatting and I/O left to the writer thread.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1, jvmArgsAppend = { "-Dlog.console=false", "-Dlog.file=build/jmh-log.txt" })
+public class LogBenchmark {
+    private int counter;
+    private final Object position = new Object();
+    private final Long elapsed = 1234L;
+
+    @Setup
+    public void setup() {
+        Log.setLevel(Log.Level.INFO);
+    }
+
+    @Benchmark
+    public int baseline() {
+        return ++counter;
+    }
+
+    @Benchmark
+    public int disabledDebug() {
+        Log.debug("Chunk meshed");
+        return ++counter;
+    }
+
+    @Benchmark
+    public int disabledDebugWithArgs() {
+        Log.debug("Chunk {} meshed in {} ns", position, elapsed);
+        return ++counter;
+    }
+
+    @Benchmark
+    public int enabledInfo() {
+        Log.info("Chunk {} meshed in {} ns", position, elapsed);
+        return ++counter;
+    }
+}
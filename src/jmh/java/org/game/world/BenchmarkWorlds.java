@@ -0,0 +1,33 @@
+package org.game.world;
+
+/**
+ * Fixed, GL-free worlds shared by the JMH benchmarks.
+ *
+ * Blocks are registered with {@link Blocks#registerHeadless}, so meshing runs
+ * without a window. Their model JSONs are read from assets/ relative to the
+ * working directory (the project root under {@code gradle jmh}).
+ */
+final class BenchmarkWorlds {
+    private BenchmarkWorlds() {
+    }
+
+    /** Generates every chunk within {@code radius} of chunk (0, 0) for the given seed. */
+    static World generate(int seed, int radius) {
+        Blocks.registerHeadless();
+        World world = new World(seed);
+        for (int cx = -radius; cx <= radius; cx++) {
+            for (int cz = -radius; cz <= radius; cz++) {
+                world.getOrGenerateChunk(cx, cz);
+            }
+        }
+        return world;
+    }
+
+    /** Lights every chunk of the world and returns the lighting system, also handed to the mesher. */
+    static ChunkLightingSystem light(World world) {
+        ChunkLightingSystem lighting = new ChunkLightingSystem(world);
+        for (Chunk chunk : world.getAllChunks()) lighting.updateChunkLighting(chunk);
+        ChunkMesher.setLightingSystem(lighting);
+        return lighting;
+    }
+}
@@ -0,0 +1,53 @@
+package org.game.world;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Random block reads through {@link World#getBlockAt} and
+ * {@link World#getBlockIdAt} over a fixed 5x5 chunk area. Positions come from
+ * a fixed-seed Random, so every run reads the same blocks.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(ChunkAccessBenchmark.READS)
+public class ChunkAccessBenchmark {
+    static final int READS = 4096;
+    private static final int RADIUS = 2;
+
+    private World world;
+    private final int[] xs = new int[READS], ys = new int[READS], zs = new int[READS];
+
+    @Setup
+    public void setup() {
+        world = BenchmarkWorlds.generate(World.DEFAULT_SEED, RADIUS);
+        Random random = new Random(42);
+        int span = (2 * RADIUS + 1) * Chunk.SIZE_X;
+        for (int i = 0; i < READS; i++) {
+            xs[i] = random.nextInt(span) - RADIUS * Chunk.SIZE_X;
+            ys[i] = random.nextInt(Chunk.SIZE_Y);
+            zs[i] = random.nextInt(span) - RADIUS * Chunk.SIZE_Z;
+        }
+    }
+
+    @Benchmark
+    public int getBlockAt() {
+        int solid = 0;
+        for (int i = 0; i < READS; i++) {
+            if (world.getBlockAt(xs[i], ys[i], zs[i]) != null) solid++;
+        }
+        return solid;
+    }
+
+    @Benchmark
+    public int getBlockIdAt() {
+        int sum = 0;
+        for (int i = 0; i < READS; i++) {
+            sum += world.getBlockIdAt(xs[i], ys[i], zs[i]);
+        }
+        return sum;
+    }
+}
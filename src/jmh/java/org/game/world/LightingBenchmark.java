@@ -0,0 +1,34 @@
+package org.game.world;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ChunkLightingSystem#updateChunkLighting} (sunlight + block light) on
+ * the centre chunk of a fixed 5x5 area, so light spreads into loaded neighbours.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LightingBenchmark {
+    @Param({"4000", "1337"})
+    public int seed;
+
+    private ChunkLightingSystem lighting;
+    private Chunk chunk;
+
+    @Setup
+    public void setup() {
+        World world = BenchmarkWorlds.generate(seed, 2);
+        lighting = BenchmarkWorlds.light(world);
+        chunk = world.getChunk(0, 0);
+    }
+
+    @Benchmark
+    public Chunk updateChunkLighting() {
+        chunk.setLightingDirty(true); // otherwise the update returns straight away
+        lighting.updateChunkLighting(chunk);
+        return chunk;
+    }
+}
@@ -0,0 +1,54 @@
+package org.game.world;
+
+import org.game.meshes.ChunkGeometry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CPU side of chunk meshing: {@link ChunkMesher#buildGeometry} over the
+ * inner 3x3 chunks of a lit 5x5 area, with flat and with smooth lighting.
+ * No GL context is needed; uploading to the arena is not measured.
+ *
+ * The smoothLighting=true score over the false one is the cost of smooth
+ * lighting + AO, which should stay within 30% of flat meshing:
+ * {@code gradle jmh -Pjmh.includes=Meshing}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MeshingBenchmark {
+    private static final int MESH_RADIUS = 1;
+
+    @Param({"4000", "1337"})
+    public int seed;
+
+    @Param({"true", "false"})
+    public boolean smoothLighting;
+
+    private World world;
+
+    @Setup
+    public void setup() {
+        world = BenchmarkWorlds.generate(seed, MESH_RADIUS + 1);
+        BenchmarkWorlds.light(world);
+        ChunkMesher.setSmoothLighting(smoothLighting);
+    }
+
+    @TearDown
+    public void tearDown() {
+        ChunkMesher.setSmoothLighting(true);
+    }
+
+    /** One op = 9 chunks. */
+    @Benchmark
+    public void buildGeometry(Blackhole blackhole) {
+        for (int cx = -MESH_RADIUS; cx <= MESH_RADIUS; cx++) {
+            for (int cz = -MESH_RADIUS; cz <= MESH_RADIUS; cz++) {
+                ChunkGeometry[] layers = ChunkMesher.buildGeometry(world, world.getChunk(cx, cz));
+                blackhole.consume(layers);
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package org.game.world;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/** {@link WorldGenerator#generateChunk} on fixed seeds, cycling through a fixed set of chunk columns. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WorldGenBenchmark {
+    // Spread out so terrain, biomes and caves differ between columns
+    private static final int[][] CHUNKS = {
+            {0, 0}, {1, 0}, {0, 1}, {-3, 2}, {7, -5}, {-12, -9}, {25, 14}, {-40, 31}
+    };
+
+    @Param({"4000", "1337"})
+    public int seed;
+
+    private WorldGenerator generator;
+    private int next;
+
+    @Setup
+    public void setup() {
+        Blocks.registerHeadless();
+        generator = new WorldGenerator(seed);
+    }
+
+    @Benchmark
+    public Chunk generateChunk() {
+        int[] c = CHUNKS[next++ & (CHUNKS.length - 1)];
+        Chunk chunk = new Chunk(c[0], c[1]);
+        generator.generateChunk(chunk);
+        return chunk;
+    }
+}
@@ -61,8 +61,8 @@ public class Window {
         // glCullFace(GL_BACK);
         // glFrontFace(GL_CCW); // Counter-clockwise winding = front face
 
-        // Enable blending for transparency (if needed)
-        glEnable(GL_BLEND);
+        // Blending stays off by default; the translucent chunk layer and the UI
+        // enable it only for their own draws
         glBlendFunc(GL_SRC_ALPHA, GL_ONE_MINUS_SRC_ALPHA);
 
         GLFW.glfwSetCursorPosCallback(windowHandle, new GLFWCursorPosCallback() {
@@ -119,6 +119,14 @@ public class Window {
         return vsync;
     }
 
+    /** Refresh rate in Hz of the monitor the window is on (the primary one when windowed), or 0 if unknown. */
+    public int getRefreshRate() {
+        long monitor = GLFW.glfwGetWindowMonitor(windowHandle);
+        if (monitor == 0) monitor = primaryMonitor;
+        var vidMode = monitor != 0 ? GLFW.glfwGetVideoMode(monitor) : null;
+        return vidMode != null ? vidMode.refreshRate() : 0;
+    }
+
     public void setVsync(boolean vsync) {
         this.vsync = vsync;
         if (vsync)
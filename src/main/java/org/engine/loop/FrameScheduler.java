@@ -0,0 +1,163 @@
+package org.engine.loop;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+
+import org.engine.metrics.Metrics;
+import org.engine.utils.LatencyHistogram;
+
+/**
+ * Frame pacing and the per-frame work budget of the render thread.
+ *
+ * Frame deadlines are absolute ({@code start + n * period}) like the server's
+ * {@link TickScheduler}, and the wait for the next one parks until about a
+ * millisecond before it and spins the rest, instead of a {@code sleep(1)}
+ * that may oversleep by a whole scheduler quantum. A frame that misses its
+ * deadline moves the schedule forward rather than rushing the next frames.
+ *
+ * With vsync, the swap already waits for the display's refresh, so frames
+ * are only paced here when the cap is below the refresh rate.
+ *
+ * Whatever time is left after a frame is presented goes to the registered
+ * {@link FrameTask}s (mesh uploads and similar backlogs), up to a deadline:
+ * <ul>
+ *   <li>capped: the start of the next frame,</li>
+ *   <li>vsync: the next vblank (at the monitor's refresh rate) minus the
+ *       recent cost of update + render,</li>
+ *   <li>uncapped: a fixed {@value #UNCAPPED_BUDGET_NANOS} ns.</li>
+ * </ul>
+ * Render thread only.
+ */
+public class FrameScheduler {
+
+    /** Deferrable render-thread work, run in the time left at the end of a frame. */
+    public interface FrameTask {
+        /**
+         * Does work until {@code System.nanoTime()} reaches {@code deadlineNanos}.
+         * Should check the clock between units of work and stop early; returns
+         * true if work is left for the next frame.
+         */
+        boolean run(long deadlineNanos);
+    }
+
+    private static final long SPIN_THRESHOLD_NANOS = 1_000_000;   // park until this close, then spin
+    private static final long BUDGET_MARGIN_NANOS = 500_000;      // kept free before the deadline
+    private static final long UNCAPPED_BUDGET_NANOS = 2_000_000;
+    private static final double FRAME_COST_SMOOTHING = 0.1;
+
+    private static final List<FrameTask> tasks = new ArrayList<>();
+
+    private static final int DEFAULT_REFRESH_RATE = 60; // when vsync is on but the rate is unknown
+
+    private final long periodNanos; // frame cap, or the vblank interval with vsync; 0 when uncapped
+    private final boolean vsync;    // true when the swap does the pacing
+    private final LatencyHistogram taskTime = Metrics.histogram("frame.tasks");
+
+    private long frameStart;
+    private long nextFrame;
+    private double frameCostNanos; // smoothed update + render time, before the swap
+    private boolean tasksPending;
+
+    /**
+     * @param targetFps   frame cap, or 0 for none
+     * @param refreshRate display refresh rate in Hz when buffer swaps wait for
+     *                    vblank (vsync), 0 when they don't; a negative value
+     *                    means vsync at an unknown rate
+     */
+    public FrameScheduler(int targetFps, int refreshRate) {
+        boolean swapWaits = refreshRate != 0;
+        int vblankRate = refreshRate > 0 ? refreshRate : DEFAULT_REFRESH_RATE;
+        // FIX: with vsync, the period was hard-coded to 60 Hz (a task budget twice the real
+        // vblank on 120/144 Hz displays) and an explicit cap was ignored
+        if (targetFps > 0 && (!swapWaits || targetFps < vblankRate)) {
+            this.periodNanos = 1_000_000_000L / targetFps;
+            this.vsync = false;
+        } else if (swapWaits) {
+            this.periodNanos = 1_000_000_000L / vblankRate;
+            this.vsync = true;
+        } else {
+            this.periodNanos = 0;
+            this.vsync = false;
+        }
+    }
+
+    public static void addTask(FrameTask task) {
+        if (!tasks.contains(task)) tasks.add(task);
+    }
+
+    public static void removeTask(FrameTask task) {
+        tasks.remove(task);
+    }
+
+    /** Marks the start of a frame (before updates); returns the current time. */
+    public long beginFrame() {
+        frameStart = System.nanoTime();
+        if (periodNanos > 0 && !vsync) {
+            // First frame, or more than a whole period late: restart the schedule from now
+            if (nextFrame == 0 || frameStart - nextFrame > periodNanos) nextFrame = frameStart;
+            nextFrame += periodNanos;
+        }
+        return frameStart;
+    }
+
+    /** Call right before the buffer swap, to track how long update + render take. */
+    public void beforeSwap() {
+        long cost = System.nanoTime() - frameStart;
+        frameCostNanos = frameCostNanos == 0 ? cost : frameCostNanos + (cost - frameCostNanos) * FRAME_COST_SMOOTHING;
+    }
+
+    /** Runs the frame tasks until the frame's budget is used up. Call after the swap. */
+    public void runTasks() {
+        if (tasks.isEmpty()) return;
+        long now = System.nanoTime();
+        long deadline = taskDeadline(now);
+        if (deadline - now <= 0) {
+            tasksPending = true;
+            return;
+        }
+
+        boolean pending = false;
+        for (int i = 0; i < tasks.size(); i++) {
+            if (System.nanoTime() >= deadline) {
+                pending = true;
+                break;
+            }
+            pending |= tasks.get(i).run(deadline);
+        }
+        tasksPending = pending;
+        taskTime.record(System.nanoTime() - now);
+    }
+
+    private long taskDeadline(long now) {
+        if (periodNanos == 0) return now + UNCAPPED_BUDGET_NANOS;
+        if (vsync) return now + periodNanos - (long) frameCostNanos - BUDGET_MARGIN_NANOS;
+        return nextFrame - BUDGET_MARGIN_NANOS;
+    }
+
+    /** Waits for the next frame deadline; returns at once when uncapped or on vsync. */
+    public void waitForNextFrame() {
+        if (periodNanos == 0 || vsync) return;
+        long remaining;
+        while ((remaining = nextFrame - System.nanoTime()) > SPIN_THRESHOLD_NANOS) {
+            LockSupport.parkNanos(remaining - SPIN_THRESHOLD_NANOS);
+        }
+        while (System.nanoTime() < nextFrame) {
+            Thread.onSpinWait();
+        }
+    }
+
+    /** Whether a task reported leftover work at the end of the last frame. */
+    public boolean hasPendingTasks() {
+        return tasksPending;
+    }
+
+    public long getPeriodNanos() {
+        return periodNanos;
+    }
+
+    /** Whether the buffer swap paces frames (vsync without a lower cap). */
+    public boolean isVsyncPaced() {
+        return vsync;
+    }
+}
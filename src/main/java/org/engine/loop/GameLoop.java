@@ -2,7 +2,11 @@ package org.engine.loop;
 
 import org.engine.io.Input;
 import org.engine.io.Window;
-import org.engine.utils.Debug;
+import org.engine.metrics.Counter;
+import org.engine.metrics.Metrics;
+import org.engine.profiling.Profiler;
+import org.engine.utils.LatencyHistogram;
+import org.engine.utils.Log;
 
 public class GameLoop {
     private final Window window;
@@ -13,66 +17,95 @@ public class GameLoop {
     private static  double TIME_BETWEEN_UPDATES = 1_000_000_000.0 / TARGET_UPS;
     private static  float FIXED_DELTA = 1f / TARGET_UPS;
 
-    // set to 0 for unlimited (use GPU/VSync), >0 to manually cap FPS
-    private static  int TARGET_FPS = 0; // change to 60 to force 60fps cap
+    // 0 for no cap (vsync, if on, paces at the refresh rate), >0 to cap FPS; -Dfps.cap=N
+    private static final int TARGET_FPS = Integer.getInteger("fps.cap", 0);
+
+    // Fixed steps run per frame at most; when further behind, the rest is dropped
+    // so a long stall (loading, window drag) doesn't turn into a burst of updates
+    private static final int MAX_UPDATES_PER_FRAME = 5;
 
     private int framesRendered = 0;
 
+    // Time between presented frames, and CPU time of render() alone
+    private final LatencyHistogram frameTime = Metrics.histogram("frame.time");
+    private final LatencyHistogram renderTime = Metrics.histogram("frame.render");
+    private final Counter droppedUpdates = Metrics.counter("frame.dropped_updates");
+
     public GameLoop(Window window, ClientSide game) {
         this.window = window;
         this.game = game;
         Input.defaultWindow = window;
-        
-        if(window.isVsync())
-            GameLoop.TARGET_FPS = 60;
-            
+
+        // FPS of the slowest 1% of frames, from the frame time p99
+        Metrics.gauge("frame.fps_1pct_low", () -> {
+            long p99 = frameTime.getPercentileNanos(99);
+            return p99 > 0 ? 1_000_000_000L / p99 : 0;
+        });
     }
 
     public void run() {
-        long lastUpdateTime = System.nanoTime();
-        long lastRenderTime = System.nanoTime();
-        long lastFpsTime = System.currentTimeMillis();
-
         game.init(window);
 
+        // -1: vsync at a rate GLFW doesn't report
+        int refreshRate = !window.isVsync() ? 0 : window.getRefreshRate() > 0 ? window.getRefreshRate() : -1;
+        FrameScheduler scheduler = new FrameScheduler(TARGET_FPS, refreshRate);
+        if (scheduler.getPeriodNanos() == 0) {
+            Log.info("Frame pacing: uncapped");
+        } else {
+            Log.info("Frame pacing: {} at {} Hz", scheduler.isVsyncPaced() ? "vsync" : "cap",
+                    1_000_000_000L / scheduler.getPeriodNanos());
+        }
+        long lastUpdateTime = System.nanoTime();
+        long lastFrameTime = 0;
+        long lastFpsTime = System.currentTimeMillis();
         double accumulator = 0.0;
 
         while (!window.shouldClose()) {
-            long now = System.nanoTime();
+            long now = scheduler.beginFrame();
             accumulator += (now - lastUpdateTime) / TIME_BETWEEN_UPDATES;
             lastUpdateTime = now;
 
-            // --- Fixed-step updates ---
-            while (accumulator >= 1.0) {
+            // --- Fixed-step updates, capped ---
+            int steps = 0;
+            while (accumulator >= 1.0 && steps < MAX_UPDATES_PER_FRAME) {
+                Profiler.begin("Update");
                 game.input(window);
                 game.update(FIXED_DELTA);
+                Profiler.end();
                 accumulator -= 1.0;
+                steps++;
             }
-
-            // --- Rendering ---
-            boolean shouldRender = true;
-            if (TARGET_FPS > 0) {
-                double timeBetweenFrames = 1_000_000_000.0 / TARGET_FPS;
-                shouldRender = (now - lastRenderTime) >= timeBetweenFrames;
+            if (accumulator >= 1.0) {
+                droppedUpdates.add((long) accumulator);
+                accumulator -= Math.floor(accumulator);
             }
 
-            if (shouldRender) {
-                lastRenderTime = now;
-                game.render();
-                window.update();
-                framesRendered++;
-            }
+            // --- Rendering ---
+            if (lastFrameTime != 0) frameTime.record(now - lastFrameTime); // the first frame also waited for init
+            lastFrameTime = now;
+            long renderStart = System.nanoTime();
+            Profiler.begin("Render");
+            game.render();
+            Profiler.end();
+            renderTime.record(System.nanoTime() - renderStart);
+            scheduler.beforeSwap();
+            Profiler.begin("Swap buffers");
+            window.update();
+            Profiler.end();
+            framesRendered++;
+
+            // --- Leftover frame time: background drains, then wait for the next frame ---
+            Profiler.begin("Frame tasks");
+            scheduler.runTasks();
+            Profiler.end();
+            scheduler.waitForNextFrame();
 
             // --- FPS counter ---
             if (System.currentTimeMillis() - lastFpsTime >= 1000) {
-                Debug.log("FPS: " + framesRendered);
+                Log.debug("FPS: {}", framesRendered);
                 framesRendered = 0;
                 lastFpsTime = System.currentTimeMillis();
             }
-
-            try {
-                Thread.sleep(1); // tiny pause for CPU
-            } catch (InterruptedException ignored) {}
         }
 
         game.cleanup();
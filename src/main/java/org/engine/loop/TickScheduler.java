@@ -0,0 +1,107 @@
+package org.engine.loop;
+
+import java.util.concurrent.locks.LockSupport;
+
+import org.engine.metrics.Metrics;
+import org.engine.profiling.Profiler;
+import org.engine.profiling.jfr.ServerTickEvent;
+import org.engine.utils.Log;
+
+/**
+ * Fixed-rate tick loop for the server.
+ *
+ * Tick deadlines are absolute ({@code start + n * period}), so time spent in a
+ * tick is not added on top of the period and the rate does not drift. When a
+ * tick overruns, the following ticks run back to back until the schedule is
+ * met again, but at most {@code maxCatchUpTicks} of them; anything beyond that
+ * is skipped (counted in {@link #getSkippedTicks()}) so an overloaded server
+ * degrades to running slower instead of spiralling further behind.
+ */
+public class TickScheduler {
+    private static final int SUMMARY_INTERVAL_TICKS = 600;
+
+    private final int ticksPerSecond;
+    private final long periodNanos;
+    private final float tickDelta;
+    private final TickTimings timings = new TickTimings();
+
+    private int maxCatchUpTicks = 5;
+    private volatile long tickCount = 0;
+    private volatile long skippedTicks = 0;
+
+    public TickScheduler(int ticksPerSecond) {
+        this.ticksPerSecond = ticksPerSecond;
+        this.periodNanos = 1_000_000_000L / ticksPerSecond;
+        this.tickDelta = 1f / ticksPerSecond;
+
+        Metrics.register("server.mspt", timings.getTickTime());
+        for (TickTimings.Phase phase : TickTimings.Phase.values()) {
+            Metrics.register("server.phase." + phase.name().toLowerCase(), timings.getPhase(phase));
+        }
+        Metrics.gauge("server.skipped_ticks", () -> skippedTicks);
+    }
+
+    /**
+     * Run {@code tick} at the fixed rate until the calling thread is interrupted.
+     * Exceptions thrown by a tick are logged and do not stop the loop.
+     */
+    public void run(Runnable tick) {
+        long nextTick = System.nanoTime();
+
+        while (!Thread.currentThread().isInterrupted()) {
+            long now = System.nanoTime();
+            long wait = nextTick - now;
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+                continue;
+            }
+
+            // How many whole periods are we behind? Drop the excess beyond the catch-up cap.
+            long behind = -wait / periodNanos;
+            if (behind > maxCatchUpTicks) {
+                long skip = behind - maxCatchUpTicks;
+                skippedTicks += skip;
+                nextTick += skip * periodNanos;
+            }
+
+            ServerTickEvent event = new ServerTickEvent();
+            event.begin();
+            timings.startTick();
+            Profiler.begin("Server tick");
+            try {
+                tick.run();
+            } catch (Exception e) {
+                Log.error("Server tick failed", e);
+            }
+            Profiler.end();
+            timings.endTick();
+            event.end();
+            if (event.shouldCommit()) {
+                event.tick = tickCount;
+                event.commands = timings.getLastPhaseNanos(TickTimings.Phase.COMMANDS);
+                event.world = timings.getLastPhaseNanos(TickTimings.Phase.WORLD);
+                event.flush = timings.getLastPhaseNanos(TickTimings.Phase.FLUSH);
+                event.commit();
+            }
+
+            nextTick += periodNanos;
+            tickCount++;
+
+            if (tickCount % SUMMARY_INTERVAL_TICKS == 0) {
+                Log.info("Server {}\n  skipped ticks: {}", timings.summary(), skippedTicks);
+            }
+        }
+    }
+
+    /** Simulation step to pass to the tick body; constant because the rate is fixed. */
+    public float getTickDelta()         { return tickDelta; }
+    public int getTicksPerSecond()      { return ticksPerSecond; }
+    public TickTimings getTimings()     { return timings; }
+    public long getTickCount()          { return tickCount; }
+    public long getSkippedTicks()       { return skippedTicks; }
+
+    public int getMaxCatchUpTicks()     { return maxCatchUpTicks; }
+    public void setMaxCatchUpTicks(int maxCatchUpTicks) {
+        this.maxCatchUpTicks = Math.max(0, maxCatchUpTicks);
+    }
+}
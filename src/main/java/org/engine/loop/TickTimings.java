@@ -0,0 +1,83 @@
+package org.engine.loop;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.engine.utils.LatencyHistogram;
+
+/**
+ * Per-tick phase timings for a fixed-rate tick loop.
+ *
+ * The scheduler calls {@link #startTick()} / {@link #endTick()} around every
+ * tick; the tick body calls {@link #mark(Phase)} after each phase, which records
+ * the time since the previous mark. Everything is written from the tick thread
+ * only and can be read from any thread.
+ */
+public class TickTimings {
+    public enum Phase {
+        COMMANDS,   // draining and executing incoming commands
+        WORLD,      // world simulation
+        FLUSH       // batching and queueing outgoing commands / chunk streaming
+    }
+
+    private final LatencyHistogram tickTime = new LatencyHistogram();
+    private final Map<Phase, LatencyHistogram> phases = new EnumMap<>(Phase.class);
+    private final long[] lastPhaseNanos = new long[Phase.values().length];
+
+    private long tickStart;
+    private long lastMark;
+
+    public TickTimings() {
+        for (Phase phase : Phase.values()) {
+            phases.put(phase, new LatencyHistogram());
+        }
+    }
+
+    public void startTick() {
+        tickStart = System.nanoTime();
+        lastMark = tickStart;
+        Arrays.fill(lastPhaseNanos, 0);
+    }
+
+    public void mark(Phase phase) {
+        long now = System.nanoTime();
+        phases.get(phase).record(now - lastMark);
+        lastPhaseNanos[phase.ordinal()] = now - lastMark;
+        lastMark = now;
+    }
+
+    /** Ends the tick and returns its duration in nanoseconds. */
+    public long endTick() {
+        long duration = System.nanoTime() - tickStart;
+        tickTime.record(duration);
+        return duration;
+    }
+
+    /** Whole-tick duration histogram (MSPT). */
+    public LatencyHistogram getTickTime() {
+        return tickTime;
+    }
+
+    /** Time spent in a phase during the current (or just finished) tick, in nanoseconds. */
+    public long getLastPhaseNanos(Phase phase) {
+        return lastPhaseNanos[phase.ordinal()];
+    }
+
+    public LatencyHistogram getPhase(Phase phase) {
+        return phases.get(phase);
+    }
+
+    public void reset() {
+        tickTime.reset();
+        for (LatencyHistogram h : phases.values()) h.reset();
+    }
+
+    public String summary() {
+        StringBuilder sb = new StringBuilder("MSPT ").append(tickTime.summary());
+        for (Phase phase : Phase.values()) {
+            sb.append("\n  ").append(phase).append(": ").append(phases.get(phase).summary());
+        }
+        return sb.toString();
+    }
+}
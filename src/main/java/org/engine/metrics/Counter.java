@@ -0,0 +1,20 @@
+package org.engine.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/** Monotonic count (events, bytes). Lock-free and cheap under contention. */
+public class Counter {
+    private final LongAdder value = new LongAdder();
+
+    public void increment() {
+        value.increment();
+    }
+
+    public void add(long amount) {
+        value.add(amount);
+    }
+
+    public long get() {
+        return value.sum();
+    }
+}
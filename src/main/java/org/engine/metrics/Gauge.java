@@ -0,0 +1,25 @@
+package org.engine.metrics;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Current value of something (queue depth, chunks loaded). Either set from a
+ * hot path, or sampled from a supplier when read, for values that are
+ * already tracked elsewhere.
+ */
+public class Gauge {
+    private volatile long value;
+    private final LongSupplier supplier;
+
+    Gauge(LongSupplier supplier) {
+        this.supplier = supplier;
+    }
+
+    public void set(long value) {
+        this.value = value;
+    }
+
+    public long get() {
+        return supplier != null ? supplier.getAsLong() : value;
+    }
+}
@@ -0,0 +1,44 @@
+package org.engine.metrics;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+
+import javax.management.NotificationEmitter;
+import javax.management.openmbean.CompositeData;
+
+import org.engine.utils.LatencyHistogram;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+
+/**
+ * Records GC pauses into {@code gc.pause} (and a {@code gc.count} counter)
+ * from the collectors' JMX notifications, so nothing polls. The duration is
+ * the one the JVM reports per collection; for concurrent collectors that
+ * covers the whole cycle, not only the stop-the-world part.
+ */
+public final class GcMetrics {
+    private static boolean installed;
+
+    private GcMetrics() {
+    }
+
+    public static synchronized void install() {
+        if (installed) return;
+        installed = true;
+
+        LatencyHistogram pauses = Metrics.histogram("gc.pause");
+        Counter count = Metrics.counter("gc.count");
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (!(gc instanceof NotificationEmitter emitter)) continue;
+            emitter.addNotificationListener((notification, handback) -> {
+                if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) return;
+                var info = GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+                pauses.record(info.getGcInfo().getDuration() * 1_000_000L);
+                count.increment();
+            }, null, null);
+        }
+
+        Runtime runtime = Runtime.getRuntime();
+        Metrics.gauge("jvm.heap_used_mb", () -> (runtime.totalMemory() - runtime.freeMemory()) >> 20);
+    }
+}
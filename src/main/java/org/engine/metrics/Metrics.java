@@ -0,0 +1,148 @@
+package org.engine.metrics;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import org.engine.utils.LatencyHistogram;
+import org.engine.utils.Log;
+
+/**
+ * Process-wide registry of named counters, gauges and duration histograms.
+ *
+ * Look a metric up once and keep it in a static field; after that, updates
+ * never touch the registry and take no locks ({@link Counter} is a LongAdder,
+ * {@link Gauge} a volatile, histograms are {@link LatencyHistogram}). Names
+ * are dotted, e.g. {@code render.frame_time}; the overlay and the dump list
+ * them sorted.
+ *
+ * Set {@code -Dmetrics.dump=metrics.json} (or {@code .csv}) to write every
+ * metric on exit via {@link #dumpFromSystemProperties()}.
+ */
+public final class Metrics {
+    private static final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private static final Map<String, Gauge> gauges = new ConcurrentHashMap<>();
+    private static final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    private Metrics() {
+    }
+
+    public static Counter counter(String name) {
+        return counters.computeIfAbsent(name, n -> new Counter());
+    }
+
+    /** Gauge set with {@link Gauge#set}. */
+    public static Gauge gauge(String name) {
+        return gauges.computeIfAbsent(name, n -> new Gauge(null));
+    }
+
+    /** Gauge sampled from {@code supplier} whenever it is read; replaces any earlier one. */
+    public static Gauge gauge(String name, LongSupplier supplier) {
+        Gauge gauge = new Gauge(supplier);
+        gauges.put(name, gauge);
+        return gauge;
+    }
+
+    public static LatencyHistogram histogram(String name) {
+        return histograms.computeIfAbsent(name, n -> new LatencyHistogram());
+    }
+
+    /** Publishes a histogram that is owned elsewhere (e.g. {@code TickTimings}). */
+    public static void register(String name, LatencyHistogram histogram) {
+        histograms.put(name, histogram);
+    }
+
+    public static Map<String, Counter> getCounters() {
+        return new TreeMap<>(counters);
+    }
+
+    public static Map<String, Gauge> getGauges() {
+        return new TreeMap<>(gauges);
+    }
+
+    public static Map<String, LatencyHistogram> getHistograms() {
+        return new TreeMap<>(histograms);
+    }
+
+    /** Writes every metric if {@code -Dmetrics.dump} is set; JSON unless the path ends in .csv. */
+    public static void dumpFromSystemProperties() {
+        String path = System.getProperty("metrics.dump");
+        if (path == null || path.isEmpty()) return;
+        try {
+            dump(Paths.get(path));
+            Log.info("Wrote metrics to {}", Paths.get(path).toAbsolutePath());
+        } catch (IOException e) {
+            Log.error("Failed to write metrics to " + path, e);
+        }
+    }
+
+    public static void dump(Path path) throws IOException {
+        try (Writer out = Files.newBufferedWriter(path)) {
+            if (path.toString().endsWith(".csv")) {
+                writeCsv(out);
+            } else {
+                writeJson(out);
+            }
+        }
+    }
+
+    /** One row per value: {@code name,type,field,value}. Histogram values are in milliseconds. */
+    public static void writeCsv(Writer out) throws IOException {
+        out.write("name,type,field,value\n");
+        for (var e : getCounters().entrySet()) {
+            out.write(e.getKey() + ",counter,value," + e.getValue().get() + "\n");
+        }
+        for (var e : getGauges().entrySet()) {
+            out.write(e.getKey() + ",gauge,value," + e.getValue().get() + "\n");
+        }
+        for (var e : getHistograms().entrySet()) {
+            LatencyHistogram h = e.getValue();
+            String prefix = e.getKey() + ",histogram,";
+            out.write(prefix + "count," + h.getCount() + "\n");
+            out.write(prefix + "mean_ms," + ms(h.getMeanNanos()) + "\n");
+            out.write(prefix + "p50_ms," + ms(h.getPercentileNanos(50)) + "\n");
+            out.write(prefix + "p90_ms," + ms(h.getPercentileNanos(90)) + "\n");
+            out.write(prefix + "p99_ms," + ms(h.getPercentileNanos(99)) + "\n");
+            out.write(prefix + "max_ms," + ms(h.getMaxNanos()) + "\n");
+        }
+    }
+
+    public static void writeJson(Writer out) throws IOException {
+        out.write("{\n  \"counters\": {");
+        String sep = "\n";
+        for (var e : getCounters().entrySet()) {
+            out.write(sep + "    \"" + e.getKey() + "\": " + e.getValue().get());
+            sep = ",\n";
+        }
+        out.write("\n  },\n  \"gauges\": {");
+        sep = "\n";
+        for (var e : getGauges().entrySet()) {
+            out.write(sep + "    \"" + e.getKey() + "\": " + e.getValue().get());
+            sep = ",\n";
+        }
+        out.write("\n  },\n  \"histograms\": {");
+        sep = "\n";
+        for (var e : getHistograms().entrySet()) {
+            LatencyHistogram h = e.getValue();
+            out.write(sep + "    \"" + e.getKey() + "\": {\"count\": " + h.getCount()
+                    + ", \"mean_ms\": " + ms(h.getMeanNanos())
+                    + ", \"p50_ms\": " + ms(h.getPercentileNanos(50))
+                    + ", \"p90_ms\": " + ms(h.getPercentileNanos(90))
+                    + ", \"p99_ms\": " + ms(h.getPercentileNanos(99))
+                    + ", \"max_ms\": " + ms(h.getMaxNanos()) + "}");
+            sep = ",\n";
+        }
+        out.write("\n  }\n}\n");
+    }
+
+    private static String ms(double nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1e6);
+    }
+}
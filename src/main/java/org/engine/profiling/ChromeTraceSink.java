@@ -0,0 +1,112 @@
+package org.engine.profiling;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.engine.utils.Log;
+
+
+/**
+ * Records zones in memory and writes them as a Chrome trace JSON file on
+ * {@link #close()}, for headless runs (server, pregen, benchmarks). Open the
+ * file in chrome://tracing or ui.perfetto.dev.
+ *
+ * Each thread appends to its own buffer, so recording takes no locks. A
+ * buffer stops recording at {@value #MAX_EVENTS_PER_THREAD} events; the
+ * number dropped is logged.
+ */
+public class ChromeTraceSink implements ProfilerSink {
+    private static final int MAX_EVENTS_PER_THREAD = 1 << 22;
+
+    private final Path path;
+    private final long startNanos = System.nanoTime();
+    private final List<ThreadBuffer> buffers = new CopyOnWriteArrayList<>();
+    private final ThreadLocal<ThreadBuffer> local = ThreadLocal.withInitial(() -> {
+        ThreadBuffer buffer = new ThreadBuffer(Thread.currentThread());
+        buffers.add(buffer);
+        return buffer;
+    });
+
+    public ChromeTraceSink(String path) {
+        this.path = Paths.get(path);
+    }
+
+    @Override
+    public void begin(String name) {
+        local.get().add(name, System.nanoTime());
+    }
+
+    @Override
+    public void end() {
+        local.get().add(null, System.nanoTime());
+    }
+
+    @Override
+    public void close() {
+        long dropped = 0;
+        try (BufferedWriter out = Files.newBufferedWriter(path)) {
+            out.write("{\"traceEvents\":[\n");
+            boolean first = true;
+            for (ThreadBuffer buffer : buffers) {
+                dropped += buffer.dropped;
+                if (!first) out.write(",\n");
+                first = false;
+                out.write("{\"ph\":\"M\",\"name\":\"thread_name\",\"pid\":1,\"tid\":" + buffer.threadId
+                        + ",\"args\":{\"name\":\"" + escape(buffer.threadName) + "\"}}");
+                int count = buffer.count;
+                for (int i = 0; i < count; i++) {
+                    String name = buffer.names[i];
+                    out.write(",\n{\"ph\":\"");
+                    out.write(name != null ? "B\",\"name\":\"" + escape(name) + "\"" : "E\"");
+                    out.write(",\"pid\":1,\"tid\":" + buffer.threadId + ",\"ts\":");
+                    out.write(String.format(Locale.ROOT, "%.3f", (buffer.times[i] - startNanos) / 1000.0));
+                    out.write('}');
+                }
+            }
+            out.write("\n]}\n");
+            Log.info("Wrote profiler trace to {}{}", path.toAbsolutePath(),
+                    dropped > 0 ? " (" + dropped + " events dropped)" : "");
+        } catch (IOException e) {
+            Log.error("Failed to write profiler trace " + path, e);
+        }
+    }
+
+    private static String escape(String s) {
+        return s.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    /** Events of one thread: a null name marks the end of the innermost zone. */
+    private static final class ThreadBuffer {
+        final long threadId;
+        final String threadName;
+        String[] names = new String[4096];
+        long[] times = new long[4096];
+        int count;
+        long dropped;
+
+        ThreadBuffer(Thread thread) {
+            threadId = thread.threadId();
+            threadName = thread.getName();
+        }
+
+        void add(String name, long time) {
+            if (count == names.length) {
+                if (count >= MAX_EVENTS_PER_THREAD) {
+                    dropped++;
+                    return;
+                }
+                names = Arrays.copyOf(names, count * 2);
+                times = Arrays.copyOf(times, count * 2);
+            }
+            names[count] = name;
+            times[count] = time;
+            count++;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package org.engine.profiling;
+
+import org.engine.utils.Log;
+
+/**
+ * Scoped, hierarchical CPU zones:
+ *
+ * <pre>
+ * Profiler.begin("ChunkMesher.buildGeometry");
+ * try {
+ *     ...
+ * } finally {
+ *     Profiler.end();
+ * }
+ * </pre>
+ *
+ * or bare {@link #begin}/{@link #end} pairs where nothing in between can throw.
+ * Zones nest per thread. With no sink installed (the default) a zone is one
+ * field read and a null check, so instrumentation can stay in hot paths.
+ *
+ * Sinks are picked with {@code -Dprofiler=remotery} (live view, open
+ * vis/index.html from Remotery and connect to port 17815) or
+ * {@code -Dprofiler=trace} (Chrome trace JSON written on shutdown, path from
+ * {@code -Dprofiler.trace}, default {@code profile.json}; open in
+ * chrome://tracing or Perfetto).
+ */
+public final class Profiler {
+    private static volatile ProfilerSink sink;
+
+    private Profiler() {
+    }
+
+    /** Installs the sink named by the {@code profiler} system property, if any. */
+    public static void initFromSystemProperties() {
+        String mode = System.getProperty("profiler");
+        if (mode == null || mode.isEmpty()) return;
+        try {
+            switch (mode) {
+                case "remotery" -> setSink(new RemoterySink());
+                case "trace" -> setSink(new ChromeTraceSink(System.getProperty("profiler.trace", "profile.json")));
+                default -> Log.warn("Unknown profiler '{}', expected remotery or trace", mode);
+            }
+        } catch (RuntimeException e) {
+            Log.error("Failed to start the " + mode + " profiler", e);
+        } catch (LinkageError e) {
+            // Remotery natives missing for this platform
+            Log.error("Failed to start the {} profiler: {}", mode, e);
+        }
+    }
+
+    /** Replaces the current sink (closing it); null disables profiling. */
+    public static synchronized void setSink(ProfilerSink newSink) {
+        ProfilerSink old = sink;
+        sink = newSink;
+        if (old != null) old.close();
+    }
+
+    /** Closes the sink, e.g. writing the trace file. Call once the instrumented threads are done. */
+    public static void shutdown() {
+        setSink(null);
+    }
+
+    public static boolean isEnabled() {
+        return sink != null;
+    }
+
+    public static void begin(String name) {
+        ProfilerSink s = sink;
+        if (s != null) s.begin(name);
+    }
+
+    public static void end() {
+        ProfilerSink s = sink;
+        if (s != null) s.end();
+    }
+}
@@ -0,0 +1,14 @@
+package org.engine.profiling;
+
+/**
+ * Receives the zones recorded through {@link Profiler}. Called on the thread
+ * that opened the zone; zones on one thread always nest.
+ */
+public interface ProfilerSink {
+    void begin(String name);
+
+    void end();
+
+    /** Flushes and releases the sink; no more zones arrive afterwards. */
+    void close();
+}
@@ -0,0 +1,71 @@
+package org.engine.profiling;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.engine.utils.Log;
+import org.lwjgl.PointerBuffer;
+import org.lwjgl.system.MemoryUtil;
+
+import static org.lwjgl.util.remotery.Remotery.*;
+
+/**
+ * Streams zones to Remotery for live inspection in its web viewer.
+ *
+ * Zone names are encoded once and kept with Remotery's per-name hash cache,
+ * so a zone costs no encoding or allocation after its first use.
+ */
+public class RemoterySink implements ProfilerSink {
+    private final long instance;
+    private final ConcurrentHashMap<String, Name> names = new ConcurrentHashMap<>();
+    private final ThreadLocal<Boolean> namedThread = new ThreadLocal<>();
+
+    public RemoterySink() {
+        PointerBuffer pointer = MemoryUtil.memAllocPointer(1);
+        try {
+            int error = rmt_CreateGlobalInstance(pointer);
+            if (error != RMT_ERROR_NONE) throw new IllegalStateException("Remotery failed to start: error " + error);
+            instance = pointer.get(0);
+        } finally {
+            MemoryUtil.memFree(pointer);
+        }
+        Log.info("Remotery profiler listening on port {}", rmt_Settings().port());
+    }
+
+    @Override
+    public void begin(String name) {
+        if (namedThread.get() == null) {
+            namedThread.set(Boolean.TRUE);
+            rmt_SetCurrentThreadName(Thread.currentThread().getName());
+        }
+        Name n = names.get(name);
+        if (n == null) n = names.computeIfAbsent(name, Name::new);
+        rmt_BeginCPUSample(n.utf8, RMTSF_Aggregate, n.hashCache);
+    }
+
+    @Override
+    public void end() {
+        rmt_EndCPUSample();
+    }
+
+    @Override
+    public void close() {
+        rmt_DestroyGlobalInstance(instance);
+        for (Name n : names.values()) {
+            MemoryUtil.memFree(n.utf8);
+            MemoryUtil.memFree(n.hashCache);
+        }
+        names.clear();
+    }
+
+    private static final class Name {
+        final ByteBuffer utf8;
+        final IntBuffer hashCache;
+
+        Name(String name) {
+            utf8 = MemoryUtil.memUTF8(name);
+            hashCache = MemoryUtil.memCallocInt(1);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package org.engine.profiling.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+import org.game.world.Chunk;
+
+/** Base for chunk lifecycle events; the event duration is the time the step took. */
+@Category({ "Virelia", "Chunks" })
+@StackTrace(false)
+public abstract class ChunkEvent extends Event {
+    @Label("Chunk X")
+    public int chunkX;
+
+    @Label("Chunk Z")
+    public int chunkZ;
+
+    public void set(Chunk chunk) {
+        chunkX = chunk.getChunkX();
+        chunkZ = chunk.getChunkZ();
+    }
+
+    public void set(int chunkX, int chunkZ) {
+        this.chunkX = chunkX;
+        this.chunkZ = chunkZ;
+    }
+}
@@ -0,0 +1,11 @@
+package org.engine.profiling.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("virelia.ChunkGenerated")
+@Label("Chunk Generated")
+@Description("Terrain, cave and decoration generation of one chunk")
+public class ChunkGeneratedEvent extends ChunkEvent {
+}
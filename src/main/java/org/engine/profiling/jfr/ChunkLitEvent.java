@@ -0,0 +1,11 @@
+package org.engine.profiling.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("virelia.ChunkLit")
+@Label("Chunk Lit")
+@Description("Sky and block light recalculation of one chunk")
+public class ChunkLitEvent extends ChunkEvent {
+}
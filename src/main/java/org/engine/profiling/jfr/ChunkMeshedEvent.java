@@ -0,0 +1,13 @@
+package org.engine.profiling.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("virelia.ChunkMeshed")
+@Label("Chunk Meshed")
+@Description("CPU mesh build of one chunk, all render layers")
+public class ChunkMeshedEvent extends ChunkEvent {
+    @Label("Vertices")
+    public int vertices;
+}
@@ -0,0 +1,11 @@
+package org.engine.profiling.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("virelia.ChunkSent")
+@Label("Chunk Sent")
+@Description("Server streamed a chunk to the client, including generating it if needed")
+public class ChunkSentEvent extends ChunkEvent {
+}
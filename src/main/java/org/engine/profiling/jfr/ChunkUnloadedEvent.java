@@ -0,0 +1,11 @@
+package org.engine.profiling.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("virelia.ChunkUnloaded")
+@Label("Chunk Unloaded")
+@Description("Client dropped a chunk and freed its mesh")
+public class ChunkUnloadedEvent extends ChunkEvent {
+}
@@ -0,0 +1,15 @@
+package org.engine.profiling.jfr;
+
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("virelia.ChunkUploaded")
+@Label("Chunk Uploaded")
+@Description("Copy of one chunk mesh into the GPU geometry arena")
+public class ChunkUploadedEvent extends ChunkEvent {
+    @Label("Upload Size")
+    @DataAmount
+    public long bytes;
+}
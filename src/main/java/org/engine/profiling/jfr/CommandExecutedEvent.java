@@ -0,0 +1,21 @@
+package org.engine.profiling.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("virelia.CommandExecuted")
+@Label("Command Executed")
+@Description("One client or server command applied to its world state")
+@Category({ "Virelia", "Commands" })
+@StackTrace(false)
+public class CommandExecutedEvent extends Event {
+    @Label("Side")
+    public String side;
+
+    @Label("Command")
+    public String command;
+}
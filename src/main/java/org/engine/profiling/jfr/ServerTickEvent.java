@@ -0,0 +1,32 @@
+package org.engine.profiling.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/** One server tick; the duration is the whole tick, the fields its phases (see TickTimings.Phase). */
+@Name("virelia.ServerTick")
+@Label("Server Tick")
+@Description("One fixed-rate server tick with its phase breakdown")
+@Category({ "Virelia", "Server" })
+@StackTrace(false)
+public class ServerTickEvent extends Event {
+    @Label("Tick")
+    public long tick;
+
+    @Label("Commands")
+    @Timespan
+    public long commands;
+
+    @Label("World")
+    @Timespan
+    public long world;
+
+    @Label("Flush")
+    @Timespan
+    public long flush;
+}
@@ -0,0 +1,19 @@
+/**
+ * Java Flight Recorder events for the chunk pipeline, server ticks and
+ * commands. They cost next to nothing unless a recording is running, e.g.
+ * {@code -XX:StartFlightRecording=filename=virelia.jfr} or
+ * {@code gradle run -Pjfr}; view them in JDK Mission Control under "Virelia"
+ * or with {@code jfr print --events 'virelia.*' virelia.jfr}.
+ *
+ * Usage pattern, so a disabled event never fills its fields:
+ * <pre>
+ * ChunkLitEvent event = new ChunkLitEvent();
+ * event.begin();
+ * ... work ...
+ * if (event.shouldCommit()) {
+ *     event.set(chunk);
+ *     event.commit();
+ * }
+ * </pre>
+ */
+package org.engine.profiling.jfr;
@@ -0,0 +1,109 @@
+package org.engine.rendering;
+
+import org.engine.metrics.Metrics;
+import org.engine.utils.LatencyHistogram;
+import org.engine.utils.Log;
+import org.lwjgl.opengl.GL;
+import org.lwjgl.opengl.GLCapabilities;
+
+import static org.lwjgl.opengl.GL15.GL_QUERY_RESULT;
+import static org.lwjgl.opengl.GL15.GL_QUERY_RESULT_AVAILABLE;
+import static org.lwjgl.opengl.GL15.glBeginQuery;
+import static org.lwjgl.opengl.GL15.glDeleteQueries;
+import static org.lwjgl.opengl.GL15.glEndQuery;
+import static org.lwjgl.opengl.GL15.glGenQueries;
+import static org.lwjgl.opengl.GL15.glGetQueryObjecti;
+import static org.lwjgl.opengl.GL33.GL_TIME_ELAPSED;
+import static org.lwjgl.opengl.GL33.glGetQueryObjecti64;
+
+/**
+ * GPU time of one render pass, measured with {@code GL_TIME_ELAPSED} queries.
+ *
+ * Each {@link #begin()} / {@link #end()} pair issues a query from a small ring.
+ * Results are collected at the next {@code begin()}, but only once the GPU
+ * reports them available (normally a frame or two later), so reading never
+ * stalls the pipeline. If every query in the ring is still in flight, the
+ * frame is simply not measured.
+ *
+ * Results go to the {@code gpu.<pass>} histogram and the CPU time spent
+ * between begin and end to {@code cpu.<pass>}, side by side in the metrics
+ * overlay and dumps. A pass with high GPU but low CPU time is GPU-bound; to
+ * tell vertex from fill cost, compare gpu times across window sizes.
+ *
+ * Time-elapsed queries can't nest, so passes must not overlap. Without GL 3.3
+ * or ARB_timer_query only the CPU time is recorded. Render thread only.
+ */
+public class GpuTimer {
+    private static final int RING_SIZE = 4;
+    private static GpuTimer active; // the one query that may be open
+
+    private final String pass;
+    private final LatencyHistogram gpuTime;
+    private final LatencyHistogram cpuTime;
+
+    private int[] queries;
+    private final boolean[] inFlight = new boolean[RING_SIZE];
+    private int next;       // ring slot for the next begin()
+    private int oldest;     // oldest slot that may be in flight
+    private boolean supported = true;
+    private boolean measuring;
+    private long cpuStart;
+
+    public GpuTimer(String pass) {
+        this.pass = pass;
+        this.gpuTime = Metrics.histogram("gpu." + pass);
+        this.cpuTime = Metrics.histogram("cpu." + pass);
+    }
+
+    public void begin() {
+        cpuStart = System.nanoTime();
+        if (!supported) return;
+        if (queries == null && !init()) return;
+
+        collect();
+        if (inFlight[next] || active != null) return; // ring full, or another pass is open
+        glBeginQuery(GL_TIME_ELAPSED, queries[next]);
+        active = this;
+        measuring = true;
+    }
+
+    public void end() {
+        if (measuring) {
+            glEndQuery(GL_TIME_ELAPSED);
+            inFlight[next] = true;
+            next = (next + 1) % RING_SIZE;
+            active = null;
+            measuring = false;
+        }
+        cpuTime.record(System.nanoTime() - cpuStart);
+    }
+
+    /** Records every finished query, oldest first, without waiting for the rest. */
+    private void collect() {
+        while (inFlight[oldest]) {
+            int query = queries[oldest];
+            if (glGetQueryObjecti(query, GL_QUERY_RESULT_AVAILABLE) == 0) return;
+            gpuTime.record(glGetQueryObjecti64(query, GL_QUERY_RESULT));
+            inFlight[oldest] = false;
+            oldest = (oldest + 1) % RING_SIZE;
+        }
+    }
+
+    private boolean init() {
+        GLCapabilities caps = GL.getCapabilities();
+        if (!caps.OpenGL33 && !caps.GL_ARB_timer_query) {
+            Log.warn("GPU timer queries not supported; {} pass records CPU time only", pass);
+            supported = false;
+            return false;
+        }
+        queries = new int[RING_SIZE];
+        for (int i = 0; i < RING_SIZE; i++) queries[i] = glGenQueries();
+        return true;
+    }
+
+    public void delete() {
+        if (queries == null) return;
+        for (int query : queries) glDeleteQueries(query);
+        queries = null;
+    }
+}
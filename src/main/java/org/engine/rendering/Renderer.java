@@ -1,12 +1,15 @@
 package org.engine.rendering;
 
-import org.engine.utils.Debug;
+import org.engine.utils.Log;
 import org.game.core.GameObject;
 import org.game.entities.Camera;
 import org.game.lighting.DirectionalLight;
+import org.game.meshes.Mesh;
 import org.game.meshes.Model;
 import org.game.rendering.FrustumCuller;
+import org.game.utils.BlockTextureArray;
 import org.game.world.Block;
+import org.game.world.RenderLayer;
 import org.joml.Matrix3f;
 import org.joml.Matrix4f;
 import org.joml.Vector3f;
@@ -15,18 +18,34 @@ import org.lwjgl.BufferUtils;
 import java.nio.FloatBuffer;
 import java.util.List;
 
+import static org.lwjgl.opengl.GL11.GL_BLEND;
 import static org.lwjgl.opengl.GL11.GL_TEXTURE_2D;
 import static org.lwjgl.opengl.GL11.glBindTexture;
+import static org.lwjgl.opengl.GL11.glDepthMask;
+import static org.lwjgl.opengl.GL11.glDisable;
+import static org.lwjgl.opengl.GL11.glEnable;
+import static org.lwjgl.opengl.GL13.GL_TEXTURE0;
+import static org.lwjgl.opengl.GL13.GL_TEXTURE1;
+import static org.lwjgl.opengl.GL13.glActiveTexture;
 
 import static org.lwjgl.opengl.GL20.*;
 
 public class Renderer {
     private final ShaderProgram shader;
     private final int uniModel, uniView, uniProj, uniNormal;
+    private final int uniChunkOffset, uniShininess, uniAlphaCutoff, uniUseBlockTextures, uniSkyLight;
+    private final int uniLightDirection, uniLightAmbient, uniLightDiffuse;
     private final FloatBuffer matrixBuffer = BufferUtils.createFloatBuffer(16);
     private final FloatBuffer matrixNormalBuffer = BufferUtils.createFloatBuffer(9);
+    private final Matrix4f identity = new Matrix4f();
+    private final Matrix3f identityNormal = new Matrix3f();
 
     private final FrustumCuller culler = new FrustumCuller();
+    private final GpuTimer objectPassTimer = new GpuTimer("objects");
+
+    // Alpha test thresholds for cube.frag; models outside the chunk pass keep the old 0.1
+    private static final float DEFAULT_ALPHA_CUTOFF = 0.1f;
+    private static final float CUTOUT_ALPHA_CUTOFF = 0.5f;
 
     public Renderer(ShaderProgram shader) {
         this.shader = shader;
@@ -35,11 +54,24 @@ public class Renderer {
         uniView = glGetUniformLocation(shader.getId(), "view");
         uniProj = glGetUniformLocation(shader.getId(), "projection");
         uniNormal = glGetUniformLocation(shader.getId(), "normalMatrix");
+        uniChunkOffset = glGetUniformLocation(shader.getId(), "chunkOffset");
+        uniShininess = glGetUniformLocation(shader.getId(), "shininess");
+        uniAlphaCutoff = glGetUniformLocation(shader.getId(), "alphaCutoff");
+        glUniform1f(uniAlphaCutoff, DEFAULT_ALPHA_CUTOFF);
+        uniUseBlockTextures = glGetUniformLocation(shader.getId(), "useBlockTextures");
+        uniSkyLight = glGetUniformLocation(shader.getId(), "skyLight");
+        // Atlas on unit 0 for models, block texture array on unit 1 for chunks
+        glUniform1i(glGetUniformLocation(shader.getId(), "blockTextures"), 1);
+        glUniform1i(uniUseBlockTextures, 0);
+        uniLightDirection = glGetUniformLocation(shader.getId(), "dirLight.direction");
+        uniLightAmbient = glGetUniformLocation(shader.getId(), "dirLight.ambient");
+        uniLightDiffuse = glGetUniformLocation(shader.getId(), "dirLight.diffuse");
 
         // Get the location of the texture sampler uniform
     }
 
     public void render(List<GameObject> objects, Camera camera, DirectionalLight light) {
+        objectPassTimer.begin();
         shader.use();
 
         Matrix4f view = camera.getView();
@@ -50,9 +82,9 @@ public class Renderer {
         glUniformMatrix4fv(uniProj, false, matrixBuffer);
         view.get(matrixBuffer);
         glUniformMatrix4fv(uniView, false, matrixBuffer);
-        light.uploadToShader(shader.getId());
-        int shininessLoc = glGetUniformLocation(shader.getId(), "shininess");
-        glUniform1f(shininessLoc, 64.0f); // Material shininess
+        light.uploadToShader(uniLightDirection, uniLightAmbient, uniLightDiffuse);
+        glUniform1f(uniShininess, 64.0f); // Material shininess
+        glUniform3f(uniChunkOffset, 0, 0, 0);
 
         for (GameObject obj : objects) {
 
@@ -69,17 +101,18 @@ public class Renderer {
                 if (model != null)
                     model.draw();
                 else {
-                    Debug.log("hi");
+                    Log.warn("Block {} has no model to draw", ((Block) obj).getName());
                 }
             }
             // Clean up by unbinding the texture (optional but good practice)
             glBindTexture(GL_TEXTURE_2D, 0);
             shader.stop();
         }
-
+        objectPassTimer.end();
     }
 
     public void render(List<GameObject> objects, Camera camera) {
+        objectPassTimer.begin();
         shader.use();
 
         Matrix4f view = camera.getView();
@@ -90,6 +123,7 @@ public class Renderer {
         glUniformMatrix4fv(uniProj, false, matrixBuffer);
         view.get(matrixBuffer);
         glUniformMatrix4fv(uniView, false, matrixBuffer);
+        glUniform3f(uniChunkOffset, 0, 0, 0);
 
         for (GameObject obj : objects) {
 
@@ -106,54 +140,78 @@ public class Renderer {
                 if (model != null)
                     model.draw();
                 else {
-                    Debug.log("hi");
+                    Log.warn("Block {} has no model to draw", ((Block) obj).getName());
                 }
             }
             // Clean up by unbinding the texture (optional but good practice)
             glBindTexture(GL_TEXTURE_2D, 0);
             shader.stop();
         }
-
+        objectPassTimer.end();
     }
 
-    public void render(Model model, Camera camera, DirectionalLight light, Vector3f position, Vector3f center,
-            float radius) {
+    /**
+     * Starts a chunk pass: binds the shader and uploads everything that is the
+     * same for every chunk this frame (camera matrices, sun, identity model and
+     * normal matrix) and binds the block texture array. Arena geometry is
+     * already in world space, so no per-chunk state is needed afterwards.
+     */
+    public void beginChunkPass(Camera camera, DirectionalLight light) {
         shader.use();
 
-        Matrix4f view = camera.getView();
-        Matrix4f proj = camera.getProjection();
-        // Matrix4f projView = new Matrix4f(proj).mul(view);
-        // culler.update(projView);
-        // Send projection & view once
-        proj.get(matrixBuffer);
+        camera.getProjection().get(matrixBuffer);
         glUniformMatrix4fv(uniProj, false, matrixBuffer);
-        view.get(matrixBuffer);
+        camera.getView().get(matrixBuffer);
         glUniformMatrix4fv(uniView, false, matrixBuffer);
 
-        light.uploadToShader(shader.getId());
-
-
-        // if (!culler.isVisible(center, radius)) {
-        //     shader.stop();
-        //     return;
-        // }
-
-        // Send the model matrix
-        Matrix4f modelMatrix = new Matrix4f().identity();
-        modelMatrix = modelMatrix.translate(position);
-        modelMatrix.get(matrixBuffer);
-
-        Matrix3f normalMatrix = new Matrix3f(modelMatrix).invert().transpose();
-        normalMatrix.get(matrixNormalBuffer);
+        identity.get(matrixBuffer);
         glUniformMatrix4fv(uniModel, false, matrixBuffer);
+        identityNormal.get(matrixNormalBuffer);
         glUniformMatrix3fv(uniNormal, false, matrixNormalBuffer);
 
+        light.uploadToShader(uniLightDirection, uniLightAmbient, uniLightDiffuse);
+        glUniform1f(uniSkyLight, light.getSkyLight()); // day/night without remeshing
+        glUniform3f(uniChunkOffset, 0, 0, 0);
 
-        // Tell the Model to draw itself
-        model.draw();
+        // Every chunk samples the same texture array, so bind it once for the pass
+        BlockTextureArray.getDefault().bind(GL_TEXTURE1);
+        glUniform1i(uniUseBlockTextures, 1);
+    }
 
-        // Clean up by unbinding the texture (optional but good practice)
-        glBindTexture(GL_TEXTURE_2D, 0);
+    /**
+     * Sets blend, depth-write and alpha-test state for the next chunk layer.
+     * Opaque and cutout write depth with blending off; opaque also skips the
+     * alpha test entirely. Translucent blends over them without writing depth,
+     * so it must come last and be drawn back to front.
+     */
+    public void setChunkLayer(RenderLayer layer) {
+        switch (layer) {
+            case OPAQUE:
+                glDisable(GL_BLEND);
+                glDepthMask(true);
+                glUniform1f(uniAlphaCutoff, 0.0f);
+                break;
+            case CUTOUT:
+                glDisable(GL_BLEND);
+                glDepthMask(true);
+                glUniform1f(uniAlphaCutoff, CUTOUT_ALPHA_CUTOFF);
+                break;
+            case TRANSLUCENT:
+                glEnable(GL_BLEND);
+                glDepthMask(false);
+                glUniform1f(uniAlphaCutoff, DEFAULT_ALPHA_CUTOFF);
+                break;
+        }
+    }
+
+    public void endChunkPass() {
+        glDisable(GL_BLEND);
+        glDepthMask(true);
+        glUniform1f(uniAlphaCutoff, DEFAULT_ALPHA_CUTOFF);
+        glUniform1i(uniUseBlockTextures, 0);
+        glUniform3f(uniChunkOffset, 0, 0, 0);
+        BlockTextureArray.getDefault().unbind(GL_TEXTURE1);
+        glActiveTexture(GL_TEXTURE0);
         shader.stop();
     }
 
@@ -169,6 +227,7 @@ public class Renderer {
         glUniformMatrix4fv(uniProj, false, matrixBuffer);
         view.get(matrixBuffer);
         glUniformMatrix4fv(uniView, false, matrixBuffer);
+        glUniform3f(uniChunkOffset, 0, 0, 0);
 
         if (!culler.isVisible(center, radius)) {
             shader.stop();
@@ -1,7 +1,7 @@
 package org.engine.rendering;
 import static org.lwjgl.opengl.GL20.*;
+import org.engine.utils.Log;
 
-import org.engine.utils.Logger;
 
 public class ShaderProgram {
     private final int id;
@@ -11,20 +11,20 @@ public class ShaderProgram {
         glShaderSource(vertex, vertexSource);
         glCompileShader(vertex);
         if (glGetShaderi(vertex, GL_COMPILE_STATUS) == GL_FALSE){
-            Logger.log("Vertex shader error: " + glGetShaderInfoLog(vertex));
+            Log.error("Vertex shader error: {}", glGetShaderInfoLog(vertex));
         }
         int fragment = glCreateShader(GL_FRAGMENT_SHADER);
         glShaderSource(fragment, fragmentSource);
         glCompileShader(fragment);
         if (glGetShaderi(fragment, GL_COMPILE_STATUS) == GL_FALSE)
-            Logger.log("Fragment shader error: " + glGetShaderInfoLog(fragment));
+            Log.error("Fragment shader error: {}", glGetShaderInfoLog(fragment));
 
         id = glCreateProgram();
         glAttachShader(id, vertex);
         glAttachShader(id, fragment);
         glLinkProgram(id);
         if (glGetProgrami(id, GL_LINK_STATUS) == GL_FALSE)
-            Logger.log("Shader link error: " + glGetProgramInfoLog(id));
+            Log.error("Shader link error: {}", glGetProgramInfoLog(id));
 
         glDeleteShader(vertex);
         glDeleteShader(fragment);
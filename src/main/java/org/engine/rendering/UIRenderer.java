@@ -16,7 +16,7 @@ import static org.lwjgl.opengl.GL20.glUniformMatrix4fv;
 
 import java.nio.FloatBuffer;
 
-import org.engine.utils.Debug;
+import org.engine.utils.Log;
 import org.game.meshes.Mesh2D;
 import org.game.ui.UIElement;
 import org.joml.Matrix4f;
@@ -40,15 +40,15 @@ public class UIRenderer {
 
         // Check if uniforms were found
         if (uniModel == -1)
-            Debug.log("Warning: 'model' uniform not found in UI shader");
+            Log.warn("'model' uniform not found in UI shader");
         if (uniProj == -1)
-            Debug.log("Warning: 'uProjection' uniform not found in UI shader");
+            Log.warn("'uProjection' uniform not found in UI shader");
         if (uniColor == -1)
-            Debug.log("Warning: 'color' uniform not found in UI shader");
+            Log.warn("'color' uniform not found in UI shader");
         if (uniHasTexture == -1)
-            Debug.log("Warning: 'hasTexture' uniform not found in UI shader");
+            Log.warn("'hasTexture' uniform not found in UI shader");
         if (uniIsTransparent == -1)
-            Debug.log("Warning: 'isTrasnparent' uniform not found in UI shader");
+            Log.warn("'isTrasnparent' uniform not found in UI shader");
         shader.stop();
     }
     /**
@@ -76,7 +76,7 @@ public class UIRenderer {
             boolean isTransparent) {
 
         if (element == null || element.getMesh() == null) {
-            Debug.log("Warning: UI element or mesh is null, cannot render.");
+            Log.warn("UI element or mesh is null, cannot render.");
             return;
         }
 
@@ -115,7 +115,7 @@ public class UIRenderer {
     }
     public void render(Mesh2D mesh, Texture texture, int windowWidth, int windowHeight, boolean useColor, float r, float g, float b, float a, boolean hasTexture, boolean isTrasnparent) {
         if (mesh == null) {
-            Debug.log("Warning: UI mesh is null, cannot render.");
+            Log.warn("UI mesh is null, cannot render.");
             return;
         }
 
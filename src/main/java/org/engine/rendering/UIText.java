@@ -6,9 +6,15 @@ import org.lwjgl.BufferUtils;
 import org.lwjgl.stb.STBTTAlignedQuad;
 import org.lwjgl.stb.STBTTBakedChar;
 import org.lwjgl.system.MemoryStack;
+import org.lwjgl.system.MemoryUtil;
 
 import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
 import java.nio.IntBuffer;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.lwjgl.opengl.GL11.*;
 import static org.lwjgl.opengl.GL33C.GL_TEXTURE_SWIZZLE_RGBA;
@@ -18,15 +24,105 @@ import static org.lwjgl.stb.STBTruetype.*;
 /**
  * Helper for generating Mesh2D text quads from a TTF font using stb_truetype.
  * Works with Mesh2D + UIRenderer pipeline.
+ *
+ * {@link #get} shares one baked atlas (texture and glyph metrics) per font
+ * and size between all labels. Text that changes often should go through
+ * {@link #acquireTextMesh} and {@link #writeTextMesh}, which rewrite a pooled
+ * mesh in place instead of creating GL buffers per update.
  */
 public class UIText {
 
     private static final int ATLAS_W = 512; // glyph atlas width
     private static final int ATLAS_H = 512; // glyph atlas height
+    private static final int FLOATS_PER_GLYPH = 4 * 4; // 4 vertices of x,y,u,v
+    private static final int INITIAL_MESH_GLYPHS = 32;
+
+    // Shared instances by "path@size"; GL thread only
+    private static final Map<String, UIText> fonts = new HashMap<>();
+    // Text meshes given back by released labels, reused before creating new ones
+    private static final ArrayDeque<Mesh2D> freeMeshes = new ArrayDeque<>();
+    // Glyph vertices of the text being written; GL thread only
+    private static float[] scratch = new float[INITIAL_MESH_GLYPHS * FLOATS_PER_GLYPH];
 
     private Texture texture;
     private STBTTBakedChar.Buffer cdata;
 
+    // CPU-side bakes by "path@size"; filled by preload() on loader threads
+    private static final Map<String, BakedFont> baked = new ConcurrentHashMap<>();
+
+    /** Glyph bitmap and metrics of one font size; no GL objects. */
+    private static class BakedFont {
+        final ByteBuffer bitmap;
+        final STBTTBakedChar.Buffer chars;
+
+        BakedFont(ByteBuffer bitmap, STBTTBakedChar.Buffer chars) {
+            this.bitmap = bitmap;
+            this.chars = chars;
+        }
+    }
+
+    /**
+     * Returns the shared instance for a font and size, uploading its atlas on
+     * first use (GL thread). Callers must not {@link #destroy} it.
+     */
+    public static UIText get(String fontPath, float pixelHeight) {
+        return fonts.computeIfAbsent(fontPath + "@" + pixelHeight, key -> {
+            UIText text = new UIText();
+            text.loadFont(fontPath, pixelHeight);
+            return text;
+        });
+    }
+
+    /** Frees every shared atlas and pooled mesh (GL thread, at shutdown). */
+    public static void destroyAll() {
+        for (UIText text : fonts.values()) text.destroy();
+        fonts.clear();
+        for (Mesh2D mesh : freeMeshes) mesh.delete();
+        freeMeshes.clear();
+    }
+
+    /** A text mesh from the pool, or a new one; fill it with {@link #writeTextMesh}. */
+    public static Mesh2D acquireTextMesh() {
+        Mesh2D mesh = freeMeshes.poll();
+        return mesh != null ? mesh : Mesh2D.createDynamic(INITIAL_MESH_GLYPHS);
+    }
+
+    /** Gives a mesh from {@link #acquireTextMesh} back to the pool. */
+    public static void releaseTextMesh(Mesh2D mesh) {
+        if (mesh == null) return;
+        mesh.updateQuads(scratch, 0);
+        freeMeshes.push(mesh);
+    }
+
+    /**
+     * Parses and bakes a font size ahead of time; no GL calls, safe on any
+     * thread. A later {@link #loadFont} with the same arguments only uploads.
+     */
+    public static void preload(String fontPath, float pixelHeight) {
+        bake(fontPath, pixelHeight);
+    }
+
+    private static BakedFont bake(String fontPath, float pixelHeight) {
+        return baked.computeIfAbsent(fontPath + "@" + pixelHeight, key -> {
+            ByteBuffer ttf = Resource.loadBinary(fontPath);
+            if (ttf == null) {
+                throw new RuntimeException("Could not load font at " + fontPath);
+            }
+
+            // allocate bitmap for glyph atlas
+            ByteBuffer bitmap = BufferUtils.createByteBuffer(ATLAS_W * ATLAS_H);
+            STBTTBakedChar.Buffer chars = STBTTBakedChar.malloc(96); // ASCII 32..127
+
+            int bakeResult = stbtt_BakeFontBitmap(ttf, pixelHeight, bitmap,
+                    ATLAS_W, ATLAS_H, 32, chars);
+            if (bakeResult <= 0) {
+                chars.free();
+                throw new RuntimeException("stbtt_BakeFontBitmap failed for " + fontPath);
+            }
+            return new BakedFont(bitmap, chars);
+        });
+    }
+
     /**
      * Load and bake the font.
      *
@@ -36,27 +132,19 @@ public class UIText {
      * @throws RuntimeException if loading or baking fails
      */
     public void loadFont(String fontPath, float pixelHeight) {
-        ByteBuffer ttf = Resource.loadBinary(fontPath);
-        if (ttf == null) {
-            throw new RuntimeException("Could not load font at " + fontPath);
-        }
+        BakedFont font = bake(fontPath, pixelHeight);
 
-        // allocate bitmap for glyph atlas
-        ByteBuffer bitmap = BufferUtils.createByteBuffer(ATLAS_W * ATLAS_H);
-        cdata = STBTTBakedChar.malloc(96); // ASCII 32..127
+        // Own copy of the glyph metrics; destroy() frees it
+        cdata = STBTTBakedChar.malloc(96);
+        MemoryUtil.memCopy(font.chars.address(), cdata.address(), 96L * STBTTBakedChar.SIZEOF);
 
-        int bakeResult = stbtt_BakeFontBitmap(ttf, pixelHeight, bitmap,
-                ATLAS_W, ATLAS_H, 32, cdata);
-        if (bakeResult <= 0) {
-            throw new RuntimeException("stbtt_BakeFontBitmap failed for " + fontPath);
-        }
         texture = new Texture(glGenTextures(), ATLAS_W, ATLAS_H);
         // upload to OpenGL
 
         texture.bind();
         glPixelStorei(GL_UNPACK_ALIGNMENT, 1); // important for 1-byte pixels!
         glTexImage2D(GL_TEXTURE_2D, 0, GL_RED, ATLAS_W, ATLAS_H, 0,
-                GL_RED, GL_UNSIGNED_BYTE, bitmap);
+                GL_RED, GL_UNSIGNED_BYTE, font.bitmap);
 
         // swizzle so shader sees it in all channels
         try (MemoryStack stack = MemoryStack.stackPush()) {
@@ -78,61 +166,62 @@ public class UIText {
      * @param y     start y in screen coordinates
      * @param scale scale multiplier (1.0 = baked pixelHeight)
      */
-     public Mesh2D buildTextMesh(String text, float x, float y, float scale) {
+    public Mesh2D buildTextMesh(String text, float x, float y, float scale) {
         if (text == null || text.isEmpty()) return null;
+        Mesh2D mesh = Mesh2D.createDynamic(text.length());
+        writeTextMesh(mesh, text, x, y, scale);
+        return mesh;
+    }
 
-        // each glyph 4 vertices, 6 indices
-        int quads = text.length();
-        float[] vertices = new float[quads * 4 * 4]; // x,y,u,v
-        int[] indices = new int[quads * 6];
+    /**
+     * Rewrites a dynamic mesh (see {@link #acquireTextMesh}) with the quads
+     * of the given text, in place. An empty or null text leaves it empty.
+     */
+    public void writeTextMesh(Mesh2D mesh, String text, float x, float y, float scale) {
+        mesh.updateQuads(scratch, writeQuads(text, x, y, scale));
+    }
 
-        int v = 0;
-        int i = 0;
-        int vertexIndex = 0;
-
-        // STB call gives correct positions & UVs
-        STBTTAlignedQuad q = STBTTAlignedQuad.malloc();
-        float cx = x;
-        float cy = y;
-
-        for (int idx = 0; idx < text.length(); idx++) {
-            char c = text.charAt(idx);
-            if (c < 32 || c >= 128) continue;
-
-            // STB will update cx,cy by reference, so use array wrappers
-            float[] px = {cx};
-            float[] py = {cy};
-            stbtt_GetBakedQuad(cdata, ATLAS_W, ATLAS_H, c - 32, px, py, q, true);
-            cx = px[0];
-            cy = py[0];
-
-            float x0 = q.x0() * scale;
-            float y0 = q.y0() * scale;
-            float x1 = q.x1() * scale;
-            float y1 = q.y1() * scale;
-
-            float s0 = q.s0();
-            float t0 = q.t0();
-            float s1 = q.s1();
-            float t1 = q.t1();
-
-            // 4 vertices x,y,u,v
-            vertices[v++] = x0; vertices[v++] = y0; vertices[v++] = s0; vertices[v++] = t0;
-            vertices[v++] = x1; vertices[v++] = y0; vertices[v++] = s1; vertices[v++] = t0;
-            vertices[v++] = x1; vertices[v++] = y1; vertices[v++] = s1; vertices[v++] = t1;
-            vertices[v++] = x0; vertices[v++] = y1; vertices[v++] = s0; vertices[v++] = t1;
-
-            indices[i++] = vertexIndex;
-            indices[i++] = vertexIndex + 1;
-            indices[i++] = vertexIndex + 2;
-            indices[i++] = vertexIndex + 2;
-            indices[i++] = vertexIndex + 3;
-            indices[i++] = vertexIndex;
-            vertexIndex += 4;
+    /** Fills {@link #scratch} with one quad per printable glyph; returns the quad count. */
+    private int writeQuads(String text, float x, float y, float scale) {
+        if (text == null || text.isEmpty()) return 0;
+        if (scratch.length < text.length() * FLOATS_PER_GLYPH) {
+            scratch = new float[Math.max(text.length(), scratch.length / FLOATS_PER_GLYPH * 2) * FLOATS_PER_GLYPH];
         }
-        q.free();
+        float[] vertices = scratch;
+        int v = 0;
+        int quads = 0;
+
+        try (MemoryStack stack = MemoryStack.stackPush()) {
+            // STB call gives correct positions & UVs, and advances the pen through px/py
+            STBTTAlignedQuad q = STBTTAlignedQuad.malloc(stack);
+            FloatBuffer px = stack.floats(x);
+            FloatBuffer py = stack.floats(y);
+
+            for (int idx = 0; idx < text.length(); idx++) {
+                char c = text.charAt(idx);
+                if (c < 32 || c >= 128) continue;
 
-        return new Mesh2D(vertices, indices);
+                stbtt_GetBakedQuad(cdata, ATLAS_W, ATLAS_H, c - 32, px, py, q, true);
+
+                float x0 = q.x0() * scale;
+                float y0 = q.y0() * scale;
+                float x1 = q.x1() * scale;
+                float y1 = q.y1() * scale;
+
+                float s0 = q.s0();
+                float t0 = q.t0();
+                float s1 = q.s1();
+                float t1 = q.t1();
+
+                // 4 vertices x,y,u,v
+                vertices[v++] = x0; vertices[v++] = y0; vertices[v++] = s0; vertices[v++] = t0;
+                vertices[v++] = x1; vertices[v++] = y0; vertices[v++] = s1; vertices[v++] = t0;
+                vertices[v++] = x1; vertices[v++] = y1; vertices[v++] = s1; vertices[v++] = t1;
+                vertices[v++] = x0; vertices[v++] = y1; vertices[v++] = s0; vertices[v++] = t1;
+                quads++;
+            }
+        }
+        return quads;
     }
 
 
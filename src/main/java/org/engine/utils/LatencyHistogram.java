@@ -0,0 +1,90 @@
+package org.engine.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size log-linear histogram for durations (HDR-style, ~6% resolution).
+ *
+ * Values are bucketed in microseconds: every power of two is split into 16
+ * linear sub-buckets, covering 1 us up to about a minute in 400 counters.
+ * Recording is allocation-free and lock-free, so it is cheap enough to call on
+ * every tick or frame from one thread while another thread reads percentiles.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = 400;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong totalNanos = new AtomicLong();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    /** Record one duration in nanoseconds. */
+    public void record(long nanos) {
+        if (nanos < 0) nanos = 0;
+        counts.incrementAndGet(indexFor(nanos / 1000));
+        totalCount.incrementAndGet();
+        totalNanos.addAndGet(nanos);
+        maxNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    private static int indexFor(long micros) {
+        if (micros < SUB_BUCKETS) return (int) micros;
+        int msb = 63 - Long.numberOfLeadingZeros(micros);
+        int shift = msb - SUB_BUCKET_BITS;
+        int index = (shift + 1) * SUB_BUCKETS + (int) ((micros >> shift) & (SUB_BUCKETS - 1));
+        return Math.min(index, BUCKET_COUNT - 1);
+    }
+
+    /** Upper bound (in microseconds) of the values that land in a bucket. */
+    private static long upperBoundMicros(int index) {
+        if (index < SUB_BUCKETS) return index;
+        int shift = index / SUB_BUCKETS - 1;
+        long sub = index % SUB_BUCKETS;
+        return ((SUB_BUCKETS + sub + 1) << shift) - 1;
+    }
+
+    /**
+     * Value at the given percentile (0-100) in nanoseconds, rounded up to the
+     * bucket bound. Returns 0 if nothing has been recorded.
+     */
+    public long getPercentileNanos(double percentile) {
+        long total = totalCount.get();
+        if (total == 0) return 0;
+
+        long target = Math.max(1, (long) Math.ceil(total * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts.get(i);
+            if (seen >= target) {
+                return Math.min(upperBoundMicros(i) * 1000, maxNanos.get());
+            }
+        }
+        return maxNanos.get();
+    }
+
+    public long getCount()      { return totalCount.get(); }
+    public long getMaxNanos()   { return maxNanos.get(); }
+
+    public double getMeanNanos() {
+        long total = totalCount.get();
+        return total == 0 ? 0 : (double) totalNanos.get() / total;
+    }
+
+    /** Clear all recorded values, e.g. to start a new measurement window. */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) counts.set(i, 0);
+        totalCount.set(0);
+        totalNanos.set(0);
+        maxNanos.set(0);
+    }
+
+    /** Compact "mean / p50 / p99 / max" summary in milliseconds. */
+    public String summary() {
+        return String.format("mean=%.2fms p50=%.2fms p99=%.2fms max=%.2fms (n=%d)",
+                getMeanNanos() / 1e6, getPercentileNanos(50) / 1e6,
+                getPercentileNanos(99) / 1e6, getMaxNanos() / 1e6, getCount());
+    }
+}
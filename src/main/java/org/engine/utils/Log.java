@@ -0,0 +1,312 @@
+package org.engine.utils;
+
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Asynchronous logging to the console and {@code logs.txt}.
+ *
+ * The level check comes first, so a disabled statement costs one static
+ * field read and a compare: no string building, no boxing (pass primitives
+ * through the {@code long} overloads), no allocation. Messages take
+ * {@code {}} placeholders and are formatted on the writer thread:
+ *
+ * <pre>
+ * Log.debug("Chunk {} meshed in {} ms", key, millis);
+ * </pre>
+ *
+ * Only immutable arguments (strings, boxed primitives, enums) are handed to
+ * the writer as they are. Anything else, such as a vector or a collection
+ * view that the caller keeps changing, is turned into a string on the calling
+ * thread before the statement returns, so the message shows the value at the
+ * time of the call and the writer never touches objects it doesn't own. A
+ * {@code toString()} that throws only costs that one message.
+ *
+ * An enabled statement claims a slot in a preallocated ring buffer and stores
+ * the format, arguments and timestamp; no lock and no allocation. A single
+ * background thread formats whatever has been published and writes it in
+ * batches, flushing once per batch. When the buffer is full the message is
+ * dropped and counted rather than blocking the game or server thread.
+ *
+ * Configured with {@code -Dlog.level=DEBUG|INFO|WARN|ERROR|OFF} (default
+ * DEBUG), {@code -Dlog.file} (default logs.txt, empty for none) and
+ * {@code -Dlog.console=false}.
+ */
+public final class Log {
+    public enum Level { DEBUG, INFO, WARN, ERROR, OFF }
+
+    private static final int CAPACITY = 1 << 13; // slots; power of two
+    private static final int MASK = CAPACITY - 1;
+    private static final int MAX_ARGS = 3;
+    private static final long IDLE_PARK_NANOS = 2_000_000;
+
+    private static volatile int threshold = parseLevel(System.getProperty("log.level", "DEBUG")).ordinal();
+
+    private static final Slot[] slots = new Slot[CAPACITY];
+    private static final AtomicLong claimed = new AtomicLong();
+    private static final AtomicLong dropped = new AtomicLong();
+    private static volatile long consumed;
+    private static long reportedDrops; // writer thread only
+    private static volatile boolean shuttingDown;
+
+    private static final Thread writerThread;
+    private static final Writer file;
+    private static final boolean console = !"false".equals(System.getProperty("log.console"));
+
+    static {
+        for (int i = 0; i < CAPACITY; i++) slots[i] = new Slot(i - CAPACITY);
+        file = openFile(System.getProperty("log.file", "logs.txt"));
+
+        writerThread = new Thread(Log::writeLoop, "LoggerThread");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        // Daemon writer: drain what is left when the JVM exits
+        Runtime.getRuntime().addShutdownHook(new Thread(Log::shutdown, "LoggerShutdown"));
+    }
+
+    private Log() {
+    }
+
+    // --- Level control ---
+
+    public static void setLevel(Level level) {
+        threshold = level.ordinal();
+    }
+
+    public static Level getLevel() {
+        return Level.values()[threshold];
+    }
+
+    public static boolean isEnabled(Level level) {
+        return level.ordinal() >= threshold;
+    }
+
+    public static boolean isDebugEnabled() {
+        return threshold <= 0;
+    }
+
+    /** Messages lost because the ring buffer was full. */
+    public static long getDroppedCount() {
+        return dropped.get();
+    }
+
+    // --- Logging; every overload checks the level before doing anything else ---
+
+    public static void debug(String message)                        { if (threshold <= 0) publish(Level.DEBUG, message, null, 0, null, null, null, 0, false); }
+    public static void debug(String format, Object a)               { if (threshold <= 0) publish(Level.DEBUG, format, null, 1, a, null, null, 0, false); }
+    public static void debug(String format, long a)                 { if (threshold <= 0) publish(Level.DEBUG, format, null, 1, null, null, null, a, true); }
+    public static void debug(String format, Object a, Object b)     { if (threshold <= 0) publish(Level.DEBUG, format, null, 2, a, b, null, 0, false); }
+    public static void debug(String format, Object a, Object b, Object c) { if (threshold <= 0) publish(Level.DEBUG, format, null, 3, a, b, c, 0, false); }
+
+    public static void info(String message)                         { if (threshold <= 1) publish(Level.INFO, message, null, 0, null, null, null, 0, false); }
+    public static void info(String format, Object a)                { if (threshold <= 1) publish(Level.INFO, format, null, 1, a, null, null, 0, false); }
+    public static void info(String format, long a)                  { if (threshold <= 1) publish(Level.INFO, format, null, 1, null, null, null, a, true); }
+    public static void info(String format, Object a, Object b)      { if (threshold <= 1) publish(Level.INFO, format, null, 2, a, b, null, 0, false); }
+    public static void info(String format, Object a, Object b, Object c) { if (threshold <= 1) publish(Level.INFO, format, null, 3, a, b, c, 0, false); }
+
+    public static void warn(String message)                         { if (threshold <= 2) publish(Level.WARN, message, null, 0, null, null, null, 0, false); }
+    public static void warn(String format, Object a)                { if (threshold <= 2) publish(Level.WARN, format, null, 1, a, null, null, 0, false); }
+    public static void warn(String format, Object a, Object b)      { if (threshold <= 2) publish(Level.WARN, format, null, 2, a, b, null, 0, false); }
+    public static void warn(String format, Object a, Object b, Object c) { if (threshold <= 2) publish(Level.WARN, format, null, 3, a, b, c, 0, false); }
+    public static void warn(String message, Throwable t)            { if (threshold <= 2) publish(Level.WARN, message, t, 0, null, null, null, 0, false); }
+
+    public static void error(String message)                        { if (threshold <= 3) publish(Level.ERROR, message, null, 0, null, null, null, 0, false); }
+    public static void error(String format, Object a)               { if (threshold <= 3) publish(Level.ERROR, format, null, 1, a, null, null, 0, false); }
+    public static void error(String format, Object a, Object b)     { if (threshold <= 3) publish(Level.ERROR, format, null, 2, a, b, null, 0, false); }
+    public static void error(String format, Object a, Object b, Object c) { if (threshold <= 3) publish(Level.ERROR, format, null, 3, a, b, c, 0, false); }
+    public static void error(String message, Throwable t)           { if (threshold <= 3) publish(Level.ERROR, message, t, 0, null, null, null, 0, false); }
+
+    private static void publish(Level level, String format, Throwable thrown, int argCount,
+                                Object a, Object b, Object c, long longArg, boolean isLong) {
+        long seq;
+        do {
+            seq = claimed.get();
+            if (seq - consumed >= CAPACITY) {
+                dropped.incrementAndGet();
+                return;
+            }
+        } while (!claimed.compareAndSet(seq, seq + 1));
+
+        Slot slot = slots[(int) (seq & MASK)];
+        slot.level = level;
+        slot.timeMillis = System.currentTimeMillis();
+        slot.thread = Thread.currentThread();
+        slot.format = format;
+        slot.thrown = thrown;
+        slot.argCount = argCount;
+        slot.args[0] = snapshot(a);
+        slot.args[1] = snapshot(b);
+        slot.args[2] = snapshot(c);
+        slot.longArg = longArg;
+        slot.isLong = isLong;
+        slot.sequence = seq; // publish: the writer reads the slot only after seeing this
+        // Wake the writer early for errors and bursts instead of waiting out its idle park
+        if (level == Level.ERROR || (seq & (CAPACITY / 4 - 1)) == 0) LockSupport.unpark(writerThread);
+    }
+
+    /** The argument itself if it is immutable, otherwise its string form taken now. */
+    private static Object snapshot(Object arg) {
+        // Not Number: AtomicInteger, LongAdder and friends are mutable
+        if (arg == null || arg instanceof String || arg instanceof Integer || arg instanceof Long
+                || arg instanceof Double || arg instanceof Float || arg instanceof Short || arg instanceof Byte
+                || arg instanceof Boolean || arg instanceof Character || arg instanceof Enum) {
+            return arg;
+        }
+        try {
+            return String.valueOf(arg);
+        } catch (RuntimeException e) {
+            return "<" + arg.getClass().getName() + ".toString() threw " + e + ">";
+        }
+    }
+
+    // --- Writer thread ---
+
+    private static void writeLoop() {
+        StringBuilder line = new StringBuilder(256);
+        PrintWriter out = console ? new PrintWriter(System.out, false) : null;
+        while (true) {
+            int written = drain(line, out);
+            if (written == 0) {
+                if (shuttingDown) return;
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+    }
+
+    /** Writes every published message, then flushes once. Returns how many were written. */
+    private static int drain(StringBuilder line, PrintWriter out) {
+        int written = 0;
+        long next = consumed;
+        while (true) {
+            Slot slot = slots[(int) (next & MASK)];
+            if (slot.sequence != next) break;
+
+            line.setLength(0);
+            try {
+                format(slot, line);
+            } catch (RuntimeException e) {
+                // FIX: a failing argument used to kill the writer and leave this slot
+                // unconsumed, so every later message was dropped; log a placeholder instead
+                line.setLength(0);
+                line.append("[log] could not format \"").append(slot.format).append("\": ").append(e).append('\n');
+            }
+            try {
+                if (file != null) file.append(line);
+            } catch (IOException ignored) {
+                // keep going; the console still gets the message
+            }
+            if (out != null) out.append(line);
+
+            slot.clear();
+            consumed = ++next; // frees the slot for producers
+            written++;
+        }
+        if (written > 0) {
+            long lost = dropped.get() - reportedDrops;
+            reportedDrops += lost;
+            try {
+                if (lost > 0 && file != null) file.append("[log] ").append(String.valueOf(lost)).append(" messages dropped\n");
+                if (file != null) file.flush();
+            } catch (IOException ignored) {
+            }
+            if (out != null) out.flush();
+        }
+        return written;
+    }
+
+    private static void format(Slot slot, StringBuilder line) {
+        line.append('[').append(LocalDateTime.ofInstant(Instant.ofEpochMilli(slot.timeMillis), ZoneId.systemDefault()))
+                .append("] ").append(slot.level).append(' ')
+                .append('[').append(slot.thread.getName()).append("] ");
+
+        String format = slot.format;
+        int arg = 0, from = 0;
+        while (arg < slot.argCount) {
+            int at = format.indexOf("{}", from);
+            if (at < 0) break;
+            line.append(format, from, at);
+            if (slot.isLong) line.append(slot.longArg);
+            else line.append(slot.args[arg]);
+            arg++;
+            from = at + 2;
+        }
+        line.append(format, from, format.length()).append('\n');
+
+        if (slot.thrown != null) {
+            StringWriter trace = new StringWriter();
+            slot.thrown.printStackTrace(new PrintWriter(trace));
+            line.append(trace);
+        }
+    }
+
+    /** Drains everything published so far and stops the writer. */
+    public static void shutdown() {
+        shuttingDown = true;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!writerThread.isAlive()) {
+            // Pick up anything published by other shutdown hooks while the writer was stopping
+            drain(new StringBuilder(256), console ? new PrintWriter(System.out, false) : null);
+        }
+        try {
+            if (file != null) file.close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    private static Writer openFile(String path) {
+        if (path == null || path.isEmpty()) return null;
+        try {
+            return new BufferedWriter(new FileWriter(path, true), 1 << 16);
+        } catch (IOException e) {
+            System.err.println("Cannot open log file " + path + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static Level parseLevel(String name) {
+        try {
+            return Level.valueOf(name.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return Level.DEBUG;
+        }
+    }
+
+    /** One preallocated ring-buffer entry; {@code sequence} is the publish flag. */
+    private static final class Slot {
+        volatile long sequence;
+        Level level;
+        long timeMillis;
+        Thread thread;
+        String format;
+        Throwable thrown;
+        int argCount;
+        final Object[] args = new Object[MAX_ARGS];
+        long longArg;
+        boolean isLong;
+
+        Slot(long initialSequence) {
+            sequence = initialSequence;
+        }
+
+        void clear() {
+            thread = null;
+            format = null;
+            thrown = null;
+            args[0] = args[1] = args[2] = null;
+        }
+    }
+}
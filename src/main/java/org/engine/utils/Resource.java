@@ -25,12 +25,12 @@ public class Resource {
         try {
             Path filePath = BASE_DIR.resolve(relativePath);
             if (!Files.exists(filePath)) {
-                Logger.log("Text file not found: " + filePath);
+                Log.error("Text file not found: {}", filePath);
                 return null;
             }
             return Files.readString(filePath);
         } catch (Exception e) {
-            Logger.log("Failed to load text file: " + relativePath, e);
+            Log.error("Failed to load text file: " + relativePath, e);
             return null;
         }
     }
@@ -40,7 +40,7 @@ public class Resource {
         try {
             Path filePath = BASE_DIR.resolve(relativePath);
             if (!Files.exists(filePath)) {
-                Logger.log("Binary file not found: " + filePath);
+                Log.error("Binary file not found: {}", filePath);
                 return null;
             }
             byte[] data = Files.readAllBytes(filePath);
@@ -48,7 +48,7 @@ public class Resource {
             buffer.put(data).flip();
             return buffer;
         } catch (Exception e) {
-            Logger.log("Failed to load binary file: " + relativePath, e);
+            Log.error("Failed to load binary file: " + relativePath, e);
             return null;
         }
     }
@@ -58,7 +58,7 @@ public class Resource {
             int desiredChannels) {
         Path filePath = BASE_DIR.resolve(relativePath);
         if (!Files.exists(filePath)) {
-            Logger.log("Image file not found: " + filePath);
+            Log.error("Image file not found: {}", filePath);
             return null;
         }
 
@@ -79,12 +79,12 @@ public class Resource {
             tmp.flip();
             ByteBuffer pixels = stbi_load_from_memory(tmp, width, height, channels, desiredChannels);
             if (pixels == null) {
-                Logger.log("STB failed to decode image: " + relativePath + " reason: " + stbi_failure_reason());
+                Log.error("STB failed to decode image: {} reason: {}", relativePath, stbi_failure_reason());
                 return null;
             }
             return pixels;
         } catch (Exception e) {
-            Logger.log("Failed to load image: " + relativePath, e);
+            Log.error("Failed to load image: " + relativePath, e);
             return null;
         }
     }
@@ -100,7 +100,7 @@ public class Resource {
             String json = loadText(path);
             return GSON.fromJson(json, clazz);
         } catch (Exception e) {
-            Logger.log("Failed to load model: " + path, e);
+            Log.error("Failed to load model: " + path, e);
             return null;
         }
     }
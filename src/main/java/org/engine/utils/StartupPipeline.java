@@ -0,0 +1,125 @@
+package org.engine.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs startup work in two kinds of phases and reports how long each took.
+ *
+ * {@link #background} phases (file reads, PNG decoding, JSON parsing, font
+ * baking) go to a pool of worker threads right away; {@link #main} phases run
+ * on the calling thread, which owns the GL context, and typically start by
+ * {@link #await}ing the background result they upload. Time the main thread
+ * spends blocked in {@code await} is reported as its own phase, so the report
+ * shows both the CPU cost of each step and how much of it was hidden.
+ */
+public class StartupPipeline implements AutoCloseable {
+    private static final String WAIT_PHASE = "Waiting for workers";
+
+    private final long start = System.nanoTime();
+    private final int workerCount = Math.max(2, Runtime.getRuntime().availableProcessors());
+    private final ExecutorService workers;
+    private final List<Phase> phases = new ArrayList<>(); // guarded by itself
+    private long waitNanos;
+
+    public StartupPipeline() {
+        AtomicInteger threadId = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(workerCount, r -> {
+            Thread t = new Thread(r, "AssetLoader-" + threadId.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /** Starts a timed phase on a worker thread. */
+    public <T> Future<T> background(String name, Callable<T> task) {
+        return workers.submit(() -> {
+            long t0 = System.nanoTime();
+            try {
+                return task.call();
+            } finally {
+                record(name, true, System.nanoTime() - t0);
+            }
+        });
+    }
+
+    /**
+     * Runs a timed phase on the calling (main) thread. Time spent in
+     * {@link #await} inside it counts as waiting, not as the phase.
+     */
+    public void main(String name, Runnable task) {
+        long t0 = System.nanoTime();
+        long waitedBefore = waitNanos;
+        try {
+            task.run();
+        } finally {
+            record(name, false, System.nanoTime() - t0 - (waitNanos - waitedBefore));
+        }
+    }
+
+    /**
+     * Waits for a background phase and returns its result, or null (logged)
+     * if it failed, so one missing asset doesn't abort the whole startup.
+     */
+    public <T> T await(Future<T> future) {
+        long t0 = System.nanoTime();
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Log.error("Startup task failed", e.getCause());
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } finally {
+            waitNanos += System.nanoTime() - t0;
+        }
+    }
+
+    private void record(String name, boolean background, long nanos) {
+        synchronized (phases) {
+            phases.add(new Phase(name, background, nanos));
+        }
+    }
+
+    /** Per-phase breakdown, background phases first, then the main thread in order. */
+    public String report() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Startup took %.0f ms (%d workers)", (System.nanoTime() - start) / 1e6, workerCount));
+        synchronized (phases) {
+            for (int pass = 0; pass < 2; pass++) {
+                boolean background = pass == 0;
+                for (Phase phase : phases) {
+                    if (phase.background != background) continue;
+                    sb.append(String.format("%n  %-10s %-28s %7.1f ms",
+                            background ? "worker" : "main", phase.name, phase.nanos / 1e6));
+                }
+            }
+        }
+        sb.append(String.format("%n  %-10s %-28s %7.1f ms", "main", WAIT_PHASE, waitNanos / 1e6));
+        return sb.toString();
+    }
+
+    @Override
+    public void close() {
+        workers.shutdown();
+    }
+
+    private static class Phase {
+        final String name;
+        final boolean background;
+        final long nanos;
+
+        Phase(String name, boolean background, long nanos) {
+            this.name = name;
+            this.background = background;
+            this.nanos = nanos;
+        }
+    }
+}
@@ -12,7 +12,7 @@ public class Camera {
     public Vector3f up = new Vector3f(0, 1, 0);
     public float fov = (float) Math.toRadians(60.0f);
     public float near = 0.1f;
-    public float far = 100.0f;
+    public float far = 512.0f; // reaches the outer LOD terrain ring
     public float aspect;
 
     // Mouse movement variables
@@ -25,6 +25,10 @@ public class Camera {
     private float fpYaw = 0;
     private float fpPitch = 0;
 
+    // Reused every frame; see getView()/getProjection()
+    private final Matrix4f view = new Matrix4f();
+    private final Matrix4f projection = new Matrix4f();
+
     public Camera(float aspect) {
         this.aspect = aspect;
         // Initialize first-person angles from current position/target
@@ -34,12 +38,17 @@ public class Camera {
         fpPitch = (float) Math.asin(-forward.y);
     }
 
+    /**
+     * Recomputes the view matrix into a camera-owned instance and returns it.
+     * Callers must treat it as read-only (copy it before modifying).
+     */
     public Matrix4f getView() {
-        return new Matrix4f().lookAt(position, target, up);
+        return view.setLookAt(position, target, up);
     }
 
+    /** Same contract as {@link #getView()}: the returned matrix is reused. */
     public Matrix4f getProjection() {
-        return new Matrix4f().perspective(fov, aspect, near, far);
+        return projection.setPerspective(fov, aspect, near, far);
     }
 
     public void processInput(Window window) {
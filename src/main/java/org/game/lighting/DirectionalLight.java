@@ -12,6 +12,9 @@ public class DirectionalLight {
     private Vector3f ambient;
     private Vector3f diffuse;
     private Vector3f specular;
+    // Brightness of voxel sky light (0..1), fed to cube.vert; block light is unaffected
+    private float skyLight = 1.0f;
+    private static final float NIGHT_SKY_LIGHT = 0.2f;
     
     /**
      * Creates a directional light with default sun-like properties.
@@ -50,6 +53,14 @@ public class DirectionalLight {
         int ambientLoc = glGetUniformLocation(shaderProgram, "dirLight.ambient");
         int diffuseLoc = glGetUniformLocation(shaderProgram, "dirLight.diffuse");
         
+        uploadToShader(directionLoc, ambientLoc, diffuseLoc);
+    }
+
+    /**
+     * Uploads this light using uniform locations the caller already looked up,
+     * avoiding three glGetUniformLocation calls per upload.
+     */
+    public void uploadToShader(int directionLoc, int ambientLoc, int diffuseLoc) {
         // Upload values to shader (no specular needed for voxel games)
         glUniform3f(directionLoc, direction.x, direction.y, direction.z);
         glUniform3f(ambientLoc, ambient.x, ambient.y, ambient.z);
@@ -72,6 +83,14 @@ public class DirectionalLight {
     public Vector3f getSpecular() {
         return new Vector3f(specular);
     }
+
+    public float getSkyLight() {
+        return skyLight;
+    }
+
+    public void setSkyLight(float skyLight) {
+        this.skyLight = skyLight;
+    }
     
     // Setters
     public void setDirection(Vector3f direction) {
@@ -157,12 +176,14 @@ public class DirectionalLight {
             setAmbient(0.2f * intensity, 0.2f * intensity, 0.2f * intensity);
             setDiffuse(0.8f * intensity, 0.8f * intensity, 0.7f * intensity);
             setSpecular(intensity, intensity, intensity);
+            setSkyLight(NIGHT_SKY_LIGHT + (1.0f - NIGHT_SKY_LIGHT) * intensity);
         } else {
             // Nighttime - moonlight
             float intensity = Math.abs(sunHeight) * 0.3f;
             setAmbient(0.05f * intensity, 0.05f * intensity, 0.1f * intensity);
             setDiffuse(0.3f * intensity, 0.3f * intensity, 0.4f * intensity);
             setSpecular(0.5f * intensity, 0.5f * intensity, 0.6f * intensity);
+            setSkyLight(NIGHT_SKY_LIGHT);
         }
     }
     
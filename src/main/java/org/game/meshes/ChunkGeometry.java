@@ -0,0 +1,122 @@
+package org.game.meshes;
+
+import org.game.world.SectionVisibility;
+
+import java.util.Arrays;
+
+/**
+ * CPU-side result of meshing a chunk: interleaved quad vertices with no GL
+ * objects attached. ChunkMesher fills one of these and the renderer uploads it
+ * into the shared {@link org.game.rendering.ChunkGeometryArena}.
+ *
+ * Vertices come in groups of four, one group per quad, in {@link Quad} corner
+ * order; the indices are implied ({@link Quad#indices} + 4 per quad) and served
+ * by the shared QuadIndexBuffer, so none are stored here.
+ *
+ * Vertex layout matches cube.vert: pos(3) + tex(2) + normal(3) + skyLight(1) +
+ * blockLight(1) + layer(1), where tex is 0..1 within the block's
+ * {@link org.game.utils.BlockTextureArray} layer and both lights are 0..1.
+ * Sky light is scaled by the time of day in the shader, not here.
+ * Positions are chunk-local; the arena adds the chunk offset on upload.
+ */
+public class ChunkGeometry {
+    public static final int FLOATS_PER_VERTEX = 11;
+    public static final int VERTICES_PER_QUAD = 4;
+
+    private float[] vertices;
+    private int vertexCount;
+
+    // First quad of each 16-high section (sections are emitted bottom to top)
+    private final int[] sectionQuadStart = new int[SectionVisibility.SECTIONS];
+
+    public ChunkGeometry() {
+        this(1024);
+    }
+
+    public ChunkGeometry(int expectedVertices) {
+        vertices = new float[Math.max(VERTICES_PER_QUAD, expectedVertices) * FLOATS_PER_VERTEX];
+    }
+
+    /** @return the index of the added vertex */
+    public int addVertex(float x, float y, float z, float u, float v,
+                         float nx, float ny, float nz, float skyLight, float blockLight, float layer) {
+        int base = vertexCount * FLOATS_PER_VERTEX;
+        if (base + FLOATS_PER_VERTEX > vertices.length) {
+            vertices = Arrays.copyOf(vertices, vertices.length * 2);
+        }
+        vertices[base]     = x;
+        vertices[base + 1] = y;
+        vertices[base + 2] = z;
+        vertices[base + 3] = u;
+        vertices[base + 4] = v;
+        vertices[base + 5] = nx;
+        vertices[base + 6] = ny;
+        vertices[base + 7] = nz;
+        vertices[base + 8] = skyLight;
+        vertices[base + 9] = blockLight;
+        vertices[base + 10] = layer;
+        return vertexCount++;
+    }
+
+    /** Marks the start of a section; quads added from now on belong to it. */
+    public void beginSection(int section) {
+        for (int s = section; s < sectionQuadStart.length; s++) {
+            sectionQuadStart[s] = getQuadCount();
+        }
+    }
+
+    public int getSectionQuadStart(int section) {
+        return sectionQuadStart[section];
+    }
+
+    /**
+     * Reorders the quads farthest first as seen from the given eye position (in
+     * the same space as the vertices), for blending translucent faces. The quads
+     * are no longer grouped by section afterwards, so every section start is
+     * reset and the layer has to be drawn whole.
+     */
+    public void sortQuadsBackToFront(float eyeX, float eyeY, float eyeZ) {
+        int quads = getQuadCount();
+        if (quads < 2) return;
+
+        int quadFloats = VERTICES_PER_QUAD * FLOATS_PER_VERTEX;
+        long[] keys = new long[quads];
+        for (int q = 0; q < quads; q++) {
+            float cx = 0, cy = 0, cz = 0;
+            for (int v = 0, base = q * quadFloats; v < VERTICES_PER_QUAD; v++, base += FLOATS_PER_VERTEX) {
+                cx += vertices[base];
+                cy += vertices[base + 1];
+                cz += vertices[base + 2];
+            }
+            float dx = cx * 0.25f - eyeX, dy = cy * 0.25f - eyeY, dz = cz * 0.25f - eyeZ;
+            // Non-negative floats order the same as their bit patterns; quad index in the low half
+            keys[q] = ((long) Float.floatToIntBits(dx * dx + dy * dy + dz * dz) << 32) | q;
+        }
+        Arrays.sort(keys);
+
+        float[] sorted = new float[vertices.length];
+        for (int i = 0; i < quads; i++) {
+            int q = (int) keys[quads - 1 - i];
+            System.arraycopy(vertices, q * quadFloats, sorted, i * quadFloats, quadFloats);
+        }
+        vertices = sorted;
+        Arrays.fill(sectionQuadStart, 0);
+    }
+
+    public boolean isEmpty() {
+        return vertexCount == 0;
+    }
+
+    /** Backing array; only the first {@code getVertexCount() * FLOATS_PER_VERTEX} floats are valid. */
+    public float[] getVertices() {
+        return vertices;
+    }
+
+    public int getVertexCount() {
+        return vertexCount;
+    }
+
+    public int getQuadCount() {
+        return vertexCount / VERTICES_PER_QUAD;
+    }
+}
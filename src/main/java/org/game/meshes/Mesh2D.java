@@ -5,8 +5,14 @@ import java.nio.IntBuffer;
 import static org.lwjgl.opengl.GL30.*;
 
 public class Mesh2D {
+    private static final int FLOATS_PER_QUAD = 4 * 4; // 4 vertices of x,y,u,v
+
+    // Staging buffer for updateQuads(); render thread only
+    private static FloatBuffer upload = BufferUtils.createFloatBuffer(64 * FLOATS_PER_QUAD);
+
     private final int vao, vbo, ebo;
-    private final int indexCount;
+    private int indexCount;
+    private int quadCapacity; // dynamic meshes only
 
     public Mesh2D(float[] vertices, int[] indices) {
         indexCount = indices.length;
@@ -28,16 +34,84 @@ public class Mesh2D {
         glBindBuffer(GL_ELEMENT_ARRAY_BUFFER, ebo);
         glBufferData(GL_ELEMENT_ARRAY_BUFFER, ib, GL_STATIC_DRAW);
 
+        setupAttributes();
+        glBindVertexArray(0);
+    }
+
+    /** Empty dynamic mesh of up to {@code quadCapacity} quads, filled by {@link #updateQuads}. */
+    private Mesh2D(int quadCapacity) {
+        vao = glGenVertexArrays();
+        vbo = glGenBuffers();
+        ebo = glGenBuffers();
+
+        glBindVertexArray(vao);
+        glBindBuffer(GL_ARRAY_BUFFER, vbo);
+        glBindBuffer(GL_ELEMENT_ARRAY_BUFFER, ebo);
+        allocate(Math.max(1, quadCapacity));
+        setupAttributes();
+        glBindVertexArray(0);
+    }
+
+    /**
+     * Creates a mesh for quads that change often (text). Its buffers are
+     * rewritten in place by {@link #updateQuads} instead of being recreated.
+     */
+    public static Mesh2D createDynamic(int quadCapacity) {
+        return new Mesh2D(quadCapacity);
+    }
+
+    private static void setupAttributes() {
         int stride = 4 * Float.BYTES; // 2 pos + 2 uv
         glVertexAttribPointer(0, 2, GL_FLOAT, false, stride, 0);
         glEnableVertexAttribArray(0);
         glVertexAttribPointer(1, 2, GL_FLOAT, false, stride, 2 * Float.BYTES);
         glEnableVertexAttribArray(1);
+    }
+
+    /** Sizes the buffers (bound by the caller) for the given number of quads. */
+    private void allocate(int quads) {
+        quadCapacity = quads;
+        glBufferData(GL_ARRAY_BUFFER, (long) quads * FLOATS_PER_QUAD * Float.BYTES, GL_DYNAMIC_DRAW);
+
+        // Every quad uses the same index pattern, so the indices only change with the capacity
+        IntBuffer ib = BufferUtils.createIntBuffer(quads * 6);
+        for (int q = 0, v = 0; q < quads; q++, v += 4) {
+            ib.put(v).put(v + 1).put(v + 2).put(v + 2).put(v + 3).put(v);
+        }
+        ib.flip();
+        glBufferData(GL_ELEMENT_ARRAY_BUFFER, ib, GL_STATIC_DRAW);
+    }
+
+    /**
+     * Replaces the contents of a dynamic mesh with the first {@code quads}
+     * quads of {@code vertices} (16 floats each: x,y,u,v per corner).
+     *
+     * The vertex buffer is orphaned before the sub-update, so the driver hands
+     * out fresh storage instead of waiting for draws still reading the old
+     * contents. The buffers only grow (doubling) when a longer text arrives.
+     */
+    public void updateQuads(float[] vertices, int quads) {
+        glBindVertexArray(vao);
+        glBindBuffer(GL_ARRAY_BUFFER, vbo);
+        if (quads > quadCapacity) {
+            allocate(Math.max(quads, quadCapacity * 2));
+        } else {
+            glBufferData(GL_ARRAY_BUFFER, (long) quadCapacity * FLOATS_PER_QUAD * Float.BYTES, GL_DYNAMIC_DRAW);
+        }
 
+        int floats = quads * FLOATS_PER_QUAD;
+        if (floats > 0) {
+            if (upload.capacity() < floats) upload = BufferUtils.createFloatBuffer(floats);
+            upload.clear();
+            upload.put(vertices, 0, floats).flip();
+            glBufferSubData(GL_ARRAY_BUFFER, 0, upload);
+        }
         glBindVertexArray(0);
+        indexCount = quads * 6;
     }
 
     public void draw() {
+        if (indexCount == 0) return;
         glBindVertexArray(vao);
         glDrawElements(GL_TRIANGLES, indexCount, GL_UNSIGNED_INT, 0);
         glBindVertexArray(0);
@@ -1,7 +1,7 @@
 package org.game.meshes;
 
+import org.engine.utils.Log;
 import org.joml.Vector3f;
-import org.engine.utils.Debug;
 import org.game.utils.AtlasBuilder;
 import org.joml.Vector2f;
 
@@ -13,7 +13,7 @@ public class MeshConverter {
     public static ArrayList<Mesh> processModel(Model modelJson) {
         if (modelJson == null) return null;
 
-        Debug.log("Model type: " + modelJson.type);
+        Log.debug("Model type: {}", modelJson.type);
 
         switch (modelJson.type) {
             case ModelTypes.CUBE_ALL:
@@ -50,7 +50,7 @@ public class MeshConverter {
             String texName = modelJson.textures.get("0").replace("#", "");
             float[] atlasCoords = AtlasBuilder.getDefault().getUV(texName);
             if (atlasCoords == null) {
-                Debug.log("Missing atlas UV for: " + texName);
+                Log.warn("Missing atlas UV for: {}", texName);
                 continue;
             }
 
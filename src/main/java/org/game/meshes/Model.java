@@ -4,8 +4,8 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
-import org.engine.utils.Debug;
 
+import org.engine.utils.Log;
 import org.game.utils.AtlasBuilder;
 
 
@@ -39,7 +39,7 @@ public class Model {
         }
         if(mesh!=null){
             this.meshes.addAll(mesh);
-            Debug.log("Initialized model with " + mesh.size() + " meshes.");
+            Log.debug("Initialized model with {} meshes.", mesh.size());
         }
 
     }
@@ -1,12 +1,48 @@
 package org.game.meshes;
 
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.engine.utils.Resource;
 
 public class ModelLoader {
+    // Models parsed ahead of time by preload(), waiting for their GL meshes
+    private static final Map<String, Model> parsed = new ConcurrentHashMap<>();
 
+    /**
+     * Loads a model and creates its meshes (GL thread). Uses the result of an
+     * earlier {@link #preload} for the same path if there is one, so only the
+     * mesh upload is left to do here. Returns null if the file can't be read.
+     */
     public static Model loadModel(String path) {
-        Model model = Resource.loadJson(path, Model.class);
+        Model model = parsed.remove(path);
+        if (model == null) model = Resource.loadJson(path, Model.class);
+        if (model == null) return null;
         model.initializeMeshes();
         return model;
     }
-}
\ No newline at end of file
+
+    /** Parses every model JSON in a folder; no GL calls, safe on any thread. */
+    public static int preloadFolder(String folderPath) throws IOException {
+        int count = 0;
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(Paths.get(folderPath), "*.json")) {
+            for (Path p : stream) {
+                if (preload(folderPath + "/" + p.getFileName())) count++;
+            }
+        }
+        return count;
+    }
+
+    /** Parses one model JSON for a later {@link #loadModel} of the same path. */
+    public static boolean preload(String path) {
+        Model model = Resource.loadJson(path, Model.class);
+        if (model == null) return false;
+        parsed.put(path, model);
+        return true;
+    }
+}
@@ -0,0 +1,398 @@
+package org.game.rendering;
+
+import org.engine.utils.Log;
+import org.game.meshes.ChunkGeometry;
+import org.game.world.SectionVisibility;
+import org.joml.Vector3f;
+import org.lwjgl.BufferUtils;
+import org.lwjgl.PointerBuffer;
+
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.lwjgl.opengl.GL11.*;
+import static org.lwjgl.opengl.GL15.*;
+import static org.lwjgl.opengl.GL20.*;
+import static org.lwjgl.opengl.GL30.*;
+import static org.lwjgl.opengl.GL31.*;
+import static org.lwjgl.opengl.GL32.*;
+
+/**
+ * One big vertex buffer shared by every chunk mesh, indexed through the static
+ * {@link QuadIndexBuffer}.
+ *
+ * Chunks get sub-ranges of the vertex buffer from a {@link RangeAllocator}, and
+ * all visible chunk sections are drawn with glMultiDrawElementsBaseVertex (one
+ * call per run of queued ranges sharing an index type, nearly always just one)
+ * instead of one VAO bind + glDrawElements per chunk. Vertex positions are baked to world
+ * space on upload, so no per-chunk uniform is needed.
+ *
+ * The buffer grows by doubling (GPU-side copy) and is compacted when freed holes
+ * make up too much of the free space. All methods must run on the GL thread.
+ */
+public class ChunkGeometryArena {
+    private static final int VERTEX_BYTES = ChunkGeometry.FLOATS_PER_VERTEX * Float.BYTES;
+
+    // Compact once holes are more than half the free space and at least 1/8 of the buffer
+    private static final float DEFRAG_FRAGMENTATION = 0.5f;
+    private static final int DEFRAG_MIN_WASTE_DIVISOR = 8;
+
+    public static final int ALL_SECTIONS = (1 << SectionVisibility.SECTIONS) - 1;
+
+    private final int vao;
+    private int vbo;
+    private final QuadIndexBuffer quadIndices;
+    private final RangeAllocator vertexSpace;
+    private final List<Allocation> live = new ArrayList<>();
+
+    // Reused upload staging and multi-draw argument buffers, grown on demand
+    private FloatBuffer vertexStaging = BufferUtils.createFloatBuffer(0);
+    private IntBuffer drawCounts = BufferUtils.createIntBuffer(0);
+    private IntBuffer drawBaseVertices = BufferUtils.createIntBuffer(0);
+    private PointerBuffer drawOffsets = BufferUtils.createPointerBuffer(0);
+
+    // Draw ranges queued since the last flush (first vertex, quad count)
+    private int[] pendingFirstVertex = new int[256];
+    private int[] pendingQuads = new int[256];
+    private int pendingRanges;
+
+    private int growCount;
+    private int defragCount;
+
+    public ChunkGeometryArena(int initialVertices) {
+        vao = glGenVertexArrays();
+        vbo = createBuffer((long) initialVertices * VERTEX_BYTES);
+        quadIndices = new QuadIndexBuffer(4096);
+        vertexSpace = new RangeAllocator(initialVertices);
+        bindVertexLayout();
+    }
+
+    /**
+     * Copies a chunk mesh into the arena, translated by {@code offset}.
+     *
+     * @return the allocation to draw and later free, or null for an empty mesh
+     */
+    public Allocation upload(ChunkGeometry geometry, Vector3f offset) {
+        if (geometry.isEmpty()) return null;
+
+        int vertexCount = geometry.getVertexCount();
+        int quadCount = geometry.getQuadCount();
+        int vertexOffset = allocate(vertexCount);
+        if (quadIndices.ensureCapacity(quadCount)) bindVertexLayout();
+
+        writeVertices(vertexOffset, geometry, offset);
+
+        int[] sectionQuadStart = new int[SectionVisibility.SECTIONS];
+        for (int section = 0; section < sectionQuadStart.length; section++) {
+            sectionQuadStart[section] = geometry.getSectionQuadStart(section);
+        }
+
+        Allocation allocation = new Allocation(vertexOffset, vertexCount, quadCount, sectionQuadStart);
+        allocation.liveIndex = live.size();
+        live.add(allocation);
+        return allocation;
+    }
+
+    /**
+     * Overwrites an allocation in place with a reordered copy of the geometry it
+     * was uploaded from (same vertex count), e.g. re-sorted translucent quads.
+     */
+    public void rewrite(Allocation allocation, ChunkGeometry geometry, Vector3f offset) {
+        if (allocation.freed || geometry.getVertexCount() != allocation.vertexCount) {
+            throw new IllegalArgumentException("Rewrite must keep the allocation's vertex count");
+        }
+        writeVertices(allocation.vertexOffset, geometry, offset);
+        for (int section = 0; section < allocation.sectionQuadStart.length; section++) {
+            allocation.sectionQuadStart[section] = geometry.getSectionQuadStart(section);
+        }
+    }
+
+    private void writeVertices(int vertexOffset, ChunkGeometry geometry, Vector3f offset) {
+        int vertexCount = geometry.getVertexCount();
+        float[] src = geometry.getVertices();
+        int floatCount = vertexCount * ChunkGeometry.FLOATS_PER_VERTEX;
+        if (vertexStaging.capacity() < floatCount) {
+            vertexStaging = BufferUtils.createFloatBuffer(Math.max(floatCount, vertexStaging.capacity() * 2));
+        }
+        vertexStaging.clear();
+        vertexStaging.put(src, 0, floatCount);
+        for (int i = 0; i < floatCount; i += ChunkGeometry.FLOATS_PER_VERTEX) {
+            vertexStaging.put(i,     src[i]     + offset.x);
+            vertexStaging.put(i + 1, src[i + 1] + offset.y);
+            vertexStaging.put(i + 2, src[i + 2] + offset.z);
+        }
+        vertexStaging.flip();
+
+        // Vertex data only: indices come from the shared quad pattern
+        glBindBuffer(GL_COPY_WRITE_BUFFER, vbo);
+        glBufferSubData(GL_COPY_WRITE_BUFFER, (long) vertexOffset * VERTEX_BYTES, vertexStaging);
+        glBindBuffer(GL_COPY_WRITE_BUFFER, 0);
+    }
+
+    /** Draws every allocation in full. Shader and textures must already be bound. */
+    public void draw(List<Allocation> allocations) {
+        for (int i = 0; i < allocations.size(); i++) {
+            queue(allocations.get(i), ALL_SECTIONS);
+        }
+        flush();
+    }
+
+    /**
+     * Adds the given sections of a chunk to the pending draw list. Runs of
+     * adjacent sections are contiguous in the buffer and become one draw range.
+     */
+    public void queue(Allocation allocation, int sectionMask) {
+        int section = 0;
+        while (section < SectionVisibility.SECTIONS) {
+            if ((sectionMask & (1 << section)) == 0) {
+                section++;
+                continue;
+            }
+            int first = section;
+            while (section < SectionVisibility.SECTIONS && (sectionMask & (1 << section)) != 0) section++;
+
+            int startQuad = allocation.sectionQuadStart[first];
+            int endQuad = section < SectionVisibility.SECTIONS ? allocation.sectionQuadStart[section] : allocation.quadCount;
+            if (endQuad > startQuad) {
+                addRange(allocation.vertexOffset + startQuad * ChunkGeometry.VERTICES_PER_QUAD, endQuad - startQuad);
+            }
+        }
+    }
+
+    /**
+     * Issues everything queued since the last flush in queue order, which the
+     * translucent pass relies on for back-to-front blending. Consecutive ranges
+     * with the same index type share one multi-draw.
+     */
+    public void flush() {
+        if (pendingRanges == 0) return;
+
+        if (drawCounts.capacity() < pendingRanges) {
+            int capacity = Math.max(pendingRanges, drawCounts.capacity() * 2);
+            drawCounts = BufferUtils.createIntBuffer(capacity);
+            drawBaseVertices = BufferUtils.createIntBuffer(capacity);
+            drawOffsets = BufferUtils.createPointerBuffer(capacity);
+        }
+
+        glBindVertexArray(vao);
+        int runStart = 0;
+        while (runStart < pendingRanges) {
+            int indexType = QuadIndexBuffer.getIndexType(pendingQuads[runStart]);
+            int runEnd = runStart + 1;
+            while (runEnd < pendingRanges && QuadIndexBuffer.getIndexType(pendingQuads[runEnd]) == indexType) runEnd++;
+            drawRun(runStart, runEnd, indexType);
+            runStart = runEnd;
+        }
+        glBindVertexArray(0);
+        pendingRanges = 0;
+    }
+
+    private void addRange(int firstVertex, int quads) {
+        if (pendingRanges == pendingFirstVertex.length) {
+            pendingFirstVertex = Arrays.copyOf(pendingFirstVertex, pendingRanges * 2);
+            pendingQuads = Arrays.copyOf(pendingQuads, pendingRanges * 2);
+        }
+        pendingFirstVertex[pendingRanges] = firstVertex;
+        pendingQuads[pendingRanges] = quads;
+        pendingRanges++;
+    }
+
+    /** Draws pending ranges [start, end), which all use {@code indexType}. */
+    private void drawRun(int start, int end, int indexType) {
+        drawCounts.clear();
+        drawBaseVertices.clear();
+        drawOffsets.clear();
+        for (int i = start; i < end; i++) {
+            int quads = pendingQuads[i];
+            drawCounts.put(QuadIndexBuffer.getIndexCount(quads));
+            drawBaseVertices.put(pendingFirstVertex[i]);
+            drawOffsets.put(quadIndices.getByteOffset(quads));
+        }
+
+        drawCounts.flip();
+        drawBaseVertices.flip();
+        drawOffsets.flip();
+        glMultiDrawElementsBaseVertex(GL_TRIANGLES, drawCounts, indexType, drawOffsets, drawBaseVertices);
+    }
+
+    /** Compacts the buffer if freed holes are wasting a meaningful part of it. Call once per frame. */
+    public void maybeDefragment() {
+        int waste = vertexSpace.getFree() - vertexSpace.getLargestFreeRange();
+        if (vertexSpace.getFragmentation() > DEFRAG_FRAGMENTATION
+                && waste > vertexSpace.getCapacity() / DEFRAG_MIN_WASTE_DIVISOR) {
+            defragment();
+        }
+    }
+
+    /**
+     * Moves every live allocation to the front of a fresh buffer (GPU-side copies
+     * only) so all free space becomes one range at the end.
+     */
+    public void defragment() {
+        int vertexCursor = 0;
+        live.sort(Comparator.comparingInt(a -> a.vertexOffset));
+        int newVbo = createBuffer((long) vertexSpace.getCapacity() * VERTEX_BYTES);
+        glBindBuffer(GL_COPY_READ_BUFFER, vbo);
+        glBindBuffer(GL_COPY_WRITE_BUFFER, newVbo);
+        for (int i = 0; i < live.size(); i++) {
+            Allocation a = live.get(i);
+            a.liveIndex = i;
+            glCopyBufferSubData(GL_COPY_READ_BUFFER, GL_COPY_WRITE_BUFFER,
+                    (long) a.vertexOffset * VERTEX_BYTES, (long) vertexCursor * VERTEX_BYTES,
+                    (long) a.vertexCount * VERTEX_BYTES);
+            a.vertexOffset = vertexCursor;
+            vertexCursor += a.vertexCount;
+        }
+        glBindBuffer(GL_COPY_READ_BUFFER, 0);
+        glBindBuffer(GL_COPY_WRITE_BUFFER, 0);
+
+        glDeleteBuffers(vbo);
+        vbo = newVbo;
+        vertexSpace.resetCompacted(vertexCursor);
+        bindVertexLayout();
+        defragCount++;
+    }
+
+    public void delete() {
+        glDeleteVertexArrays(vao);
+        glDeleteBuffers(vbo);
+        quadIndices.delete();
+        live.clear();
+    }
+
+    // --- Metrics ---
+
+    /** Fraction of the vertex buffer holding live chunk geometry. */
+    public float getOccupancy() {
+        return (float) vertexSpace.getUsed() / vertexSpace.getCapacity();
+    }
+
+    public float getFragmentation() {
+        return vertexSpace.getFragmentation();
+    }
+
+    public long getCapacityBytes() {
+        return (long) vertexSpace.getCapacity() * VERTEX_BYTES + quadIndices.getSizeBytes();
+    }
+
+    public int getAllocationCount() {
+        return live.size();
+    }
+
+    public int getGrowCount() {
+        return growCount;
+    }
+
+    public int getDefragCount() {
+        return defragCount;
+    }
+
+    // --- Internals ---
+
+    private int allocate(int size) {
+        int offset = vertexSpace.allocate(size);
+        if (offset >= 0) return offset;
+
+        // Enough room in total, just not in one piece: compacting is cheaper than growing
+        if (vertexSpace.getFree() >= size) {
+            defragment();
+            offset = vertexSpace.allocate(size);
+            if (offset >= 0) return offset;
+        }
+
+        grow(Math.max(vertexSpace.getCapacity() * 2, vertexSpace.getCapacity() + size));
+        return vertexSpace.allocate(size);
+    }
+
+    private void grow(int newCapacity) {
+        int newVbo = createBuffer((long) newCapacity * VERTEX_BYTES);
+
+        glBindBuffer(GL_COPY_READ_BUFFER, vbo);
+        glBindBuffer(GL_COPY_WRITE_BUFFER, newVbo);
+        glCopyBufferSubData(GL_COPY_READ_BUFFER, GL_COPY_WRITE_BUFFER, 0, 0, (long) vertexSpace.getCapacity() * VERTEX_BYTES);
+        glBindBuffer(GL_COPY_READ_BUFFER, 0);
+        glBindBuffer(GL_COPY_WRITE_BUFFER, 0);
+        glDeleteBuffers(vbo);
+
+        vbo = newVbo;
+        vertexSpace.grow(newCapacity);
+        bindVertexLayout();
+        growCount++;
+        Log.info("Chunk arena grew to {} vertices ({} MB total)", newCapacity, getCapacityBytes() >> 20);
+    }
+
+    private void free(Allocation allocation) {
+        vertexSpace.free(allocation.vertexOffset, allocation.vertexCount);
+        // Swap-remove: live order doesn't matter between defragments, which re-sort it
+        Allocation last = live.remove(live.size() - 1);
+        if (last != allocation) {
+            live.set(allocation.liveIndex, last);
+            last.liveIndex = allocation.liveIndex;
+        }
+    }
+
+    private static int createBuffer(long bytes) {
+        int buffer = glGenBuffers();
+        glBindBuffer(GL_COPY_WRITE_BUFFER, buffer);
+        glBufferData(GL_COPY_WRITE_BUFFER, bytes, GL_DYNAMIC_DRAW);
+        glBindBuffer(GL_COPY_WRITE_BUFFER, 0);
+        return buffer;
+    }
+
+    /** Points the VAO at the current buffers; needed again whenever either is replaced. */
+    private void bindVertexLayout() {
+        glBindVertexArray(vao);
+        glBindBuffer(GL_ARRAY_BUFFER, vbo);
+        glBindBuffer(GL_ELEMENT_ARRAY_BUFFER, quadIndices.getBufferId());
+
+        int stride = VERTEX_BYTES;
+        glVertexAttribPointer(0, 3, GL_FLOAT, false, stride, 0);
+        glEnableVertexAttribArray(0);
+        glVertexAttribPointer(1, 2, GL_FLOAT, false, stride, 3 * Float.BYTES);
+        glEnableVertexAttribArray(1);
+        glVertexAttribPointer(2, 3, GL_FLOAT, false, stride, 5 * Float.BYTES);
+        glEnableVertexAttribArray(2);
+        glVertexAttribPointer(3, 2, GL_FLOAT, false, stride, 8 * Float.BYTES);
+        glEnableVertexAttribArray(3);
+        glVertexAttribPointer(4, 1, GL_FLOAT, false, stride, 10 * Float.BYTES);
+        glEnableVertexAttribArray(4);
+
+        glBindVertexArray(0);
+        glBindBuffer(GL_ARRAY_BUFFER, 0);
+    }
+
+    /** A chunk's slice of the arena. Free it when the chunk's mesh is discarded. */
+    public class Allocation {
+        private int vertexOffset;
+        private final int vertexCount;
+        private final int quadCount;
+        private final int[] sectionQuadStart;
+        private int liveIndex;
+        private boolean freed;
+
+        private Allocation(int vertexOffset, int vertexCount, int quadCount, int[] sectionQuadStart) {
+            this.vertexOffset = vertexOffset;
+            this.vertexCount = vertexCount;
+            this.quadCount = quadCount;
+            this.sectionQuadStart = sectionQuadStart;
+        }
+
+        public void free() {
+            if (freed) return;
+            freed = true;
+            ChunkGeometryArena.this.free(this);
+        }
+
+        public int getVertexCount() {
+            return vertexCount;
+        }
+
+        public int getQuadCount() {
+            return quadCount;
+        }
+    }
+}
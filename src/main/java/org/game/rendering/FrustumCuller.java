@@ -6,12 +6,24 @@ import org.joml.Vector3f;
 
 public class FrustumCuller {
     private final FrustumIntersection frustum = new FrustumIntersection();
+    private final Matrix4f projView = new Matrix4f();
 
     public void update(Matrix4f projView) {
         frustum.set(projView);
     }
 
+    /** Rebuild the frustum planes from the camera matrices. Call once per frame. */
+    public void update(Matrix4f projection, Matrix4f view) {
+        projection.mul(view, projView);
+        frustum.set(projView);
+    }
+
     public boolean isVisible(Vector3f center, float radius) {
         return frustum.testSphere(center.x, center.y, center.z, radius);
     }
-}
\ No newline at end of file
+
+    /** Axis-aligned box test, conservative: boxes straddling a plane count as visible. */
+    public boolean isBoxVisible(float minX, float minY, float minZ, float maxX, float maxY, float maxZ) {
+        return frustum.testAab(minX, minY, minZ, maxX, maxY, maxZ);
+    }
+}
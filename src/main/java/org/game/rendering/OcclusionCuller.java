@@ -0,0 +1,158 @@
+package org.game.rendering;
+
+import org.game.world.Chunk;
+import org.game.world.SectionVisibility;
+import org.game.world.World;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.game.world.SectionVisibility.*;
+
+/**
+ * Cave culling over the section connectivity graph.
+ *
+ * Breadth-first search from the camera's section. A step from section A into
+ * neighbour B through face d is allowed only if
+ *  - the view could have entered A on face e and leave it through d
+ *    ({@link SectionVisibility} says e and d are connected),
+ *  - the search has never stepped in the direction opposite to d (sight lines
+ *    only move away from the camera, so a cave can't be reached by looping back),
+ *  - B is loaded, meshed, within view distance, and its box passes the frustum test.
+ *
+ * Sections never reached are not drawn. A sealed cave under the player's feet
+ * is never reached from the surface, so its geometry is skipped entirely.
+ *
+ * Pure CPU code with no GL: the frustum is passed in as a {@link BoxTest}, so
+ * it can run headless against hand-built worlds.
+ */
+public class OcclusionCuller {
+
+    /** Axis-aligned box visibility test, e.g. {@code FrustumCuller::isBoxVisible}. */
+    public interface BoxTest {
+        boolean isVisible(float minX, float minY, float minZ, float maxX, float maxY, float maxZ);
+    }
+
+    /** Accepts every box; for headless use. */
+    public static final BoxTest NO_FRUSTUM = (minX, minY, minZ, maxX, maxY, maxZ) -> true;
+
+    // Queue entry: chunkX, section, chunkZ, entry face (-1 at the start), mask of directions travelled
+    private static final int ENTRY_INTS = 5;
+
+    private int[] queue = new int[ENTRY_INTS * 256];
+    private final List<Chunk> visibleChunks = new ArrayList<>();
+    private int frame;
+    private int visibleSectionCount;
+
+    /**
+     * Finds the sections visible from the camera. Afterwards, each returned
+     * chunk's {@code getVisibleSections(getFrame())} holds its visible section bits.
+     *
+     * @return the chunks with at least one visible section (reused between calls)
+     */
+    public List<Chunk> cull(World world, float cameraX, float cameraY, float cameraZ, BoxTest frustum) {
+        frame++;
+        visibleChunks.clear();
+        visibleSectionCount = 0;
+
+        int viewDistance = world.getViewDistance();
+        int originX = Math.floorDiv((int) Math.floor(cameraX), Chunk.SIZE_X);
+        int originZ = Math.floorDiv((int) Math.floor(cameraZ), Chunk.SIZE_Z);
+        int originSection = Math.floorDiv((int) Math.floor(cameraY), SECTION_SIZE);
+
+        int tail = 0;
+        if (originSection >= 0 && originSection < SECTIONS) {
+            Chunk start = world.getChunk(originX, originZ);
+            if (start == null || !start.isMeshBuilt()) {
+                // Nothing to walk through yet (still loading): fall back to frustum-only
+                markAllInFrustum(world, originX, originZ, viewDistance, frustum);
+                return visibleChunks;
+            }
+            mark(start, originSection);
+            tail = push(0, originX, originSection, originZ, -1, 0);
+        } else {
+            // Camera above or below the world: enter every column through the boundary layer
+            boolean above = originSection >= SECTIONS;
+            int section = above ? SECTIONS - 1 : 0;
+            int entry = above ? UP : DOWN;
+            for (int dx = -viewDistance; dx <= viewDistance; dx++) {
+                for (int dz = -viewDistance; dz <= viewDistance; dz++) {
+                    int cx = originX + dx, cz = originZ + dz;
+                    Chunk chunk = world.getChunk(cx, cz);
+                    if (chunk == null || !chunk.isMeshBuilt()) continue;
+                    if (!sectionInFrustum(cx, section, cz, frustum)) continue;
+                    mark(chunk, section);
+                    tail = push(tail, cx, section, cz, entry, 1 << opposite(entry));
+                }
+            }
+        }
+
+        for (int head = 0; head < tail; head += ENTRY_INTS) {
+            int cx = queue[head], sy = queue[head + 1], cz = queue[head + 2];
+            int entry = queue[head + 3], travelled = queue[head + 4];
+            Chunk chunk = world.getChunk(cx, cz);
+            long connectivity = chunk.getSectionConnectivity(sy);
+
+            for (int face = 0; face < FACE_COUNT; face++) {
+                if ((travelled & (1 << opposite(face))) != 0) continue;
+                if (entry >= 0 && !isConnected(connectivity, entry, face)) continue;
+
+                int nx = cx + FACE_DX[face], ny = sy + FACE_DY[face], nz = cz + FACE_DZ[face];
+                if (ny < 0 || ny >= SECTIONS) continue;
+                if (Math.abs(nx - originX) > viewDistance || Math.abs(nz - originZ) > viewDistance) continue;
+
+                Chunk neighbor = (nx == cx && nz == cz) ? chunk : world.getChunk(nx, nz);
+                if (neighbor == null || !neighbor.isMeshBuilt()) continue;
+                if ((neighbor.getVisibleSections(frame) & (1 << ny)) != 0) continue;
+                if (!sectionInFrustum(nx, ny, nz, frustum)) continue;
+
+                mark(neighbor, ny);
+                tail = push(tail, nx, ny, nz, opposite(face), travelled | (1 << face));
+            }
+        }
+        return visibleChunks;
+    }
+
+    private void markAllInFrustum(World world, int originX, int originZ, int viewDistance, BoxTest frustum) {
+        for (int dx = -viewDistance; dx <= viewDistance; dx++) {
+            for (int dz = -viewDistance; dz <= viewDistance; dz++) {
+                int cx = originX + dx, cz = originZ + dz;
+                Chunk chunk = world.getChunk(cx, cz);
+                if (chunk == null || !chunk.isMeshBuilt()) continue;
+                for (int sy = 0; sy < SECTIONS; sy++) {
+                    if (sectionInFrustum(cx, sy, cz, frustum)) mark(chunk, sy);
+                }
+            }
+        }
+    }
+
+    private void mark(Chunk chunk, int section) {
+        if (chunk.markSectionVisible(frame, section)) visibleChunks.add(chunk);
+        visibleSectionCount++;
+    }
+
+    private int push(int tail, int cx, int sy, int cz, int entry, int travelled) {
+        if (tail + ENTRY_INTS > queue.length) queue = Arrays.copyOf(queue, queue.length * 2);
+        queue[tail] = cx;
+        queue[tail + 1] = sy;
+        queue[tail + 2] = cz;
+        queue[tail + 3] = entry;
+        queue[tail + 4] = travelled;
+        return tail + ENTRY_INTS;
+    }
+
+    private static boolean sectionInFrustum(int cx, int sy, int cz, BoxTest frustum) {
+        float minX = cx * Chunk.SIZE_X, minY = sy * SECTION_SIZE, minZ = cz * Chunk.SIZE_Z;
+        return frustum.isVisible(minX, minY, minZ, minX + Chunk.SIZE_X, minY + SECTION_SIZE, minZ + Chunk.SIZE_Z);
+    }
+
+    /** Frame id to pass to {@code Chunk.getVisibleSections} for the last cull. */
+    public int getFrame() {
+        return frame;
+    }
+
+    public int getVisibleSectionCount() {
+        return visibleSectionCount;
+    }
+}
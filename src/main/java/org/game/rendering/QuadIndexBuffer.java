@@ -0,0 +1,108 @@
+package org.game.rendering;
+
+import org.lwjgl.BufferUtils;
+
+import java.nio.ByteBuffer;
+
+import static org.lwjgl.opengl.GL11.GL_UNSIGNED_INT;
+import static org.lwjgl.opengl.GL11.GL_UNSIGNED_SHORT;
+import static org.lwjgl.opengl.GL15.*;
+import static org.lwjgl.opengl.GL31.GL_COPY_WRITE_BUFFER;
+
+/**
+ * The one index buffer every chunk draw uses.
+ *
+ * Chunk geometry is nothing but quads, and each quad is always indexed
+ * {0,1,2,2,3,0} + 4*q (see Quad.indices), so the indices never need to be
+ * uploaded per chunk. Draws use base-vertex, so every chunk starts at index 0.
+ *
+ * The buffer holds a 16-bit region (enough for 16384 quads, the most a 16-bit
+ * index can address) followed by a 32-bit region that only exists once some
+ * chunk needs more. Both regions grow lazily by doubling.
+ */
+public class QuadIndexBuffer {
+    public static final int MAX_SHORT_QUADS = 65536 / 4;
+    private static final int INDICES_PER_QUAD = 6;
+    private static final int[] PATTERN = {0, 1, 2, 2, 3, 0};
+
+    private int ebo;
+    private int shortQuads;
+    private int intQuads;
+
+    public QuadIndexBuffer(int initialQuads) {
+        rebuild(Math.min(initialQuads, MAX_SHORT_QUADS), 0);
+    }
+
+    /**
+     * Makes sure a chunk of {@code quads} quads can be drawn.
+     *
+     * @return true if the GL buffer was replaced and VAOs must rebind it
+     */
+    public boolean ensureCapacity(int quads) {
+        if (quads <= MAX_SHORT_QUADS) {
+            if (quads <= shortQuads) return false;
+            rebuild(Math.min(MAX_SHORT_QUADS, grownSize(shortQuads, quads)), intQuads);
+        } else {
+            if (quads <= intQuads) return false;
+            rebuild(MAX_SHORT_QUADS, grownSize(intQuads, quads));
+        }
+        return true;
+    }
+
+    private static int grownSize(int current, int needed) {
+        int size = Math.max(1024, current);
+        while (size < needed) size *= 2;
+        return size;
+    }
+
+    /** GL_UNSIGNED_SHORT while the chunk fits in 16-bit indices, GL_UNSIGNED_INT beyond. */
+    public static int getIndexType(int quads) {
+        return quads <= MAX_SHORT_QUADS ? GL_UNSIGNED_SHORT : GL_UNSIGNED_INT;
+    }
+
+    /** Byte offset of the region matching {@link #getIndexType(int)}. */
+    public long getByteOffset(int quads) {
+        return quads <= MAX_SHORT_QUADS ? 0 : shortRegionBytes();
+    }
+
+    public static int getIndexCount(int quads) {
+        return quads * INDICES_PER_QUAD;
+    }
+
+    public int getBufferId() {
+        return ebo;
+    }
+
+    public long getSizeBytes() {
+        return shortRegionBytes() + (long) intQuads * INDICES_PER_QUAD * Integer.BYTES;
+    }
+
+    public void delete() {
+        glDeleteBuffers(ebo);
+    }
+
+    private long shortRegionBytes() {
+        return (long) shortQuads * INDICES_PER_QUAD * Short.BYTES;
+    }
+
+    /** The contents are fully determined by the sizes, so growing just regenerates them. */
+    private void rebuild(int newShortQuads, int newIntQuads) {
+        shortQuads = newShortQuads;
+        intQuads = newIntQuads;
+
+        ByteBuffer data = BufferUtils.createByteBuffer((int) getSizeBytes());
+        for (int q = 0; q < shortQuads; q++) {
+            for (int i : PATTERN) data.putShort((short) (q * 4 + i));
+        }
+        for (int q = 0; q < intQuads; q++) {
+            for (int i : PATTERN) data.putInt(q * 4 + i);
+        }
+        data.flip();
+
+        if (ebo != 0) glDeleteBuffers(ebo);
+        ebo = glGenBuffers();
+        glBindBuffer(GL_COPY_WRITE_BUFFER, ebo);
+        glBufferData(GL_COPY_WRITE_BUFFER, data, GL_STATIC_DRAW);
+        glBindBuffer(GL_COPY_WRITE_BUFFER, 0);
+    }
+}
@@ -0,0 +1,103 @@
+package org.game.rendering;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * First-fit free-list allocator over the integer range [0, capacity).
+ *
+ * Pure bookkeeping, no GL: {@link ChunkGeometryArena} uses one instance per GPU
+ * buffer and handles the actual data moves. Units are whatever the caller
+ * chooses (vertices, indices); adjacent free ranges are merged on free.
+ */
+public class RangeAllocator {
+    // offset -> length of every free range, ordered by offset so neighbours are easy to merge
+    private final TreeMap<Integer, Integer> freeRanges = new TreeMap<>();
+    private int capacity;
+    private int used;
+
+    public RangeAllocator(int capacity) {
+        this.capacity = capacity;
+        if (capacity > 0) freeRanges.put(0, capacity);
+    }
+
+    /** @return the offset of a free range of {@code size} units, or -1 if none fits */
+    public int allocate(int size) {
+        if (size <= 0) throw new IllegalArgumentException("size must be positive: " + size);
+
+        Iterator<Map.Entry<Integer, Integer>> it = freeRanges.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Integer, Integer> range = it.next();
+            int length = range.getValue();
+            if (length < size) continue;
+
+            int offset = range.getKey();
+            it.remove();
+            if (length > size) freeRanges.put(offset + size, length - size);
+            used += size;
+            return offset;
+        }
+        return -1;
+    }
+
+    public void free(int offset, int size) {
+        used -= size;
+        int start = offset;
+        int length = size;
+
+        Map.Entry<Integer, Integer> before = freeRanges.floorEntry(offset);
+        if (before != null && before.getKey() + before.getValue() == offset) {
+            start = before.getKey();
+            length += before.getValue();
+            freeRanges.remove(before.getKey());
+        }
+        Integer afterLength = freeRanges.remove(offset + size);
+        if (afterLength != null) length += afterLength;
+
+        freeRanges.put(start, length);
+    }
+
+    /** Extends the range; existing allocations keep their offsets. */
+    public void grow(int newCapacity) {
+        if (newCapacity <= capacity) return;
+        free(capacity, newCapacity - capacity);
+        used += newCapacity - capacity; // free() above is not a real release
+        capacity = newCapacity;
+    }
+
+    /**
+     * Forgets every allocation and marks [0, usedUnits) as taken, for use after
+     * the owner has compacted its live data to the start of the buffer.
+     */
+    public void resetCompacted(int usedUnits) {
+        freeRanges.clear();
+        used = usedUnits;
+        if (usedUnits < capacity) freeRanges.put(usedUnits, capacity - usedUnits);
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getUsed() {
+        return used;
+    }
+
+    public int getFree() {
+        return capacity - used;
+    }
+
+    public int getLargestFreeRange() {
+        int largest = 0;
+        for (int length : freeRanges.values()) largest = Math.max(largest, length);
+        return largest;
+    }
+
+    /** 0 when all free space is one range, approaching 1 as it splinters into small holes. */
+    public float getFragmentation() {
+        int free = getFree();
+        if (free == 0) return 0f;
+        return 1f - (float) getLargestFreeRange() / free;
+    }
+}
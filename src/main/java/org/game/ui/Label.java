@@ -4,6 +4,8 @@ import org.engine.rendering.UIRenderer;
 import org.engine.rendering.UIText;
 
 public class Label extends UIElement {
+    public static final String FONT = "fonts/Minecraft.ttf";
+
     private String text;
     private int fontSize;
     private UIText uiText;
@@ -14,9 +16,10 @@ public class Label extends UIElement {
         super(x, y, width, height);
         this.text = text;
         this.fontSize = fontSize;
-        this.uiText = new UIText();
-        this.mesh = null;
-        uiText.loadFont("fonts/Minecraft.ttf", fontSize);
+        this.uiText = UIText.get(FONT, fontSize);
+        // FIX: the base quad from UIElement was dropped without being freed
+        this.mesh.delete();
+        this.mesh = UIText.acquireTextMesh();
 
         recreateMesh();
         // Initialize font and other resources as needed
@@ -38,15 +41,24 @@ public class Label extends UIElement {
 
     public void setFontSize(int fontSize) {
         this.fontSize = fontSize;
+        this.uiText = UIText.get(FONT, fontSize);
         recreateMesh();
         // Update mesh or other resources if necessary
     }
 
     @Override
     public void recreateMesh() {
+        if (mesh == null) return; // released
         int centerdPosX = x + width / 2 - (text.length() * fontSize) / 4;
         int centerdPosY = y + height / 2 + fontSize / 4;
-        this.mesh = uiText.buildTextMesh(text, centerdPosX, centerdPosY, 1);
+        // Rewritten in place: no new GL buffers per text change
+        uiText.writeTextMesh(mesh, text, centerdPosX, centerdPosY, 1);
+    }
+
+    /** Returns the text mesh to the shared pool; the label can't be drawn afterwards. */
+    public void release() {
+        UIText.releaseTextMesh(mesh);
+        mesh = null;
     }
 
     @Override
@@ -59,7 +71,7 @@ public class Label extends UIElement {
 
     @Override
     public void draw(UIRenderer uiRenderer, int windowWidth, int windowHeight) {
-        if (!visible) {
+        if (!visible || mesh == null) {
             return;
         }
 
@@ -0,0 +1,83 @@
+package org.game.ui;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.engine.metrics.Counter;
+import org.engine.metrics.Gauge;
+import org.engine.metrics.Metrics;
+import org.engine.utils.LatencyHistogram;
+
+/**
+ * Debug overlay listing every registered metric, one {@link Label} per line:
+ * gauges and counters as plain values, histograms as p50 / p99 / max in ms.
+ *
+ * Labels share one font atlas and rewrite their pooled text meshes in place,
+ * so a refresh costs a buffer sub-update per changed line and no new GL
+ * objects. The text is refreshed every {@value #REFRESH_INTERVAL} s, fast
+ * enough to follow but still readable. Hidden by default.
+ */
+public class MetricsOverlay extends Container {
+    private static final float REFRESH_INTERVAL = 0.1f;
+    private static final int LINE_HEIGHT = 16;
+    public static final int FONT_SIZE = 14;
+    private static final int PADDING = 6;
+
+    private final List<Label> lines = new ArrayList<>();
+    private float sinceRefresh = REFRESH_INTERVAL;
+
+    public MetricsOverlay(int x, int y, int width) {
+        super(x, y, width, PADDING * 2);
+        setVisible(false);
+    }
+
+    public void toggle() {
+        setVisible(!isVisible());
+        sinceRefresh = REFRESH_INTERVAL; // show current values right away
+    }
+
+    /** Call once per update; refreshes the text while visible. */
+    public void update(float delta) {
+        if (!isVisible()) return;
+        sinceRefresh += delta;
+        if (sinceRefresh < REFRESH_INTERVAL) return;
+        sinceRefresh = 0;
+
+        List<String> text = new ArrayList<>();
+        for (Map.Entry<String, Gauge> e : Metrics.getGauges().entrySet()) {
+            text.add(e.getKey() + ": " + e.getValue().get());
+        }
+        for (Map.Entry<String, Counter> e : Metrics.getCounters().entrySet()) {
+            text.add(e.getKey() + ": " + e.getValue().get());
+        }
+        for (Map.Entry<String, LatencyHistogram> e : Metrics.getHistograms().entrySet()) {
+            LatencyHistogram h = e.getValue();
+            text.add(String.format("%s: %.2f / %.2f / %.2f ms", e.getKey(),
+                    h.getPercentileNanos(50) / 1e6, h.getPercentileNanos(99) / 1e6, h.getMaxNanos() / 1e6));
+        }
+
+        while (lines.size() < text.size()) {
+            Label label = new Label(PADDING, PADDING + lines.size() * LINE_HEIGHT, 1, LINE_HEIGHT, "", FONT_SIZE);
+            addChild(label);
+            lines.add(label);
+        }
+        // Lines no longer needed give their meshes back to the pool
+        while (lines.size() > text.size()) {
+            Label label = lines.remove(lines.size() - 1);
+            removeChild(label);
+            label.release();
+        }
+        for (int i = 0; i < lines.size(); i++) {
+            Label label = lines.get(i);
+            String line = text.get(i);
+            if (line.equals(label.getText())) continue;
+            // Label centres its text; sizing it to the text keeps the lines left-aligned
+            label.width = line.length() * FONT_SIZE / 2;
+            label.setText(line);
+        }
+        if (height != PADDING * 2 + text.size() * LINE_HEIGHT) {
+            setSize(width, PADDING * 2 + text.size() * LINE_HEIGHT);
+        }
+    }
+}
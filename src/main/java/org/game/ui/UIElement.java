@@ -23,6 +23,8 @@ public abstract class UIElement {
     }
 
     public void recreateMesh() {
+        // FIX: free the old quad; every move or resize leaked one
+        if (mesh != null) mesh.delete();
         this.mesh = Mesh2D.createQuad(x, y, width, height);
     }
 
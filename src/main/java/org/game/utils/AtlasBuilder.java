@@ -14,6 +14,13 @@ import org.engine.utils.Resource;
 import org.lwjgl.BufferUtils;
 import org.lwjgl.opengl.GL11;
 import org.lwjgl.opengl.GL30;
+/**
+ * Packs every PNG of a folder into one texture for standalone models.
+ *
+ * Built in two steps so the PNG decoding can run off the GL thread:
+ * {@link #decode} fills a CPU-side atlas (any thread), {@link #create(Pixels)}
+ * uploads it (GL thread).
+ */
 public class AtlasBuilder {
     private Texture atlasTexture;
     private Map<String, float[]> uvMap = new HashMap<>();
@@ -22,17 +29,35 @@ public class AtlasBuilder {
         return atlasBuilder;
     }
     public static AtlasBuilder create(String folderPath, int atlasSize, int cellSize) throws IOException{
+        return create(decode(folderPath, atlasSize, cellSize));
+    }
+    public static AtlasBuilder create(Pixels pixels) {
         if(atlasBuilder == null){
-            atlasBuilder = new AtlasBuilder(folderPath, atlasSize, cellSize);
+            atlasBuilder = new AtlasBuilder(pixels);
         }
         return atlasBuilder;
     }
-    private AtlasBuilder(String folderPath, int atlasSize, int cellSize) throws IOException {
+
+    /** Decoded atlas, ready to upload. */
+    public static class Pixels {
+        final ByteBuffer buffer;
+        final int atlasSize;
+        final Map<String, float[]> uvMap = new HashMap<>();
+
+        Pixels(int atlasSize) {
+            this.atlasSize = atlasSize;
+            this.buffer = BufferUtils.createByteBuffer(atlasSize * atlasSize * 4);
+        }
+    }
+
+    /** Decodes the folder's PNGs into an atlas buffer; no GL calls, safe on any thread. */
+    public static Pixels decode(String folderPath, int atlasSize, int cellSize) throws IOException {
+        Pixels pixels = new Pixels(atlasSize);
         // scan folder for PNGs
         try (DirectoryStream<Path> stream =
                      Files.newDirectoryStream(Paths.get(folderPath), "*.png")) {
             int x = 0, y = 0;
-            ByteBuffer atlasBuffer = BufferUtils.createByteBuffer(atlasSize * atlasSize * 4);
+            ByteBuffer atlasBuffer = pixels.buffer;
 
             for (Path p : stream) {
                 String fileName = p.getFileName().toString();
@@ -46,16 +71,11 @@ public class AtlasBuilder {
                 int width = w[0];
                 int height = h[0];
 
-                // copy pixels into atlas buffer
+                // copy pixels into atlas buffer, one bulk copy per row
                 for (int row = 0; row < height; row++) {
-                    for (int col = 0; col < width; col++) {
-                        int srcIndex = (row * width + col) * 4;
-                        int destIndex = ((y + row) * atlasSize + (x + col)) * 4;
-                        atlasBuffer.put(destIndex, image.get(srcIndex));
-                        atlasBuffer.put(destIndex + 1, image.get(srcIndex + 1));
-                        atlasBuffer.put(destIndex + 2, image.get(srcIndex + 2));
-                        atlasBuffer.put(destIndex + 3, image.get(srcIndex + 3));
-                    }
+                    int srcIndex = row * width * 4;
+                    int destIndex = ((y + row) * atlasSize + x) * 4;
+                    atlasBuffer.put(destIndex, image, srcIndex, width * 4);
                 }
 
                 Resource.freeImage(image); // free STB buffer
@@ -65,25 +85,31 @@ public class AtlasBuilder {
                 float v0 = (float) y / atlasSize;
                 float u1 = (float) (x + width) / atlasSize;
                 float v1 = (float) (y + height) / atlasSize;
-                uvMap.put(key, new float[]{u0, v0, u1, v1});
+                pixels.uvMap.put(key, new float[]{u0, v0, u1, v1});
 
                 // next cell
                 x += cellSize;
                 if (x + cellSize > atlasSize) { x = 0; y += cellSize; }
             }
-
-            // upload atlasBuffer to GPU once
-            int texId = GL11.glGenTextures();
-            GL11.glBindTexture(GL11.GL_TEXTURE_2D, texId);
-            GL11.glTexImage2D(GL11.GL_TEXTURE_2D, 0, GL11.GL_RGBA8, atlasSize, atlasSize, 0,
-                              GL11.GL_RGBA, GL11.GL_UNSIGNED_BYTE, atlasBuffer);
-            GL30.glGenerateMipmap(GL11.GL_TEXTURE_2D);
-            GL11.glTexParameteri(GL11.GL_TEXTURE_2D, GL11.GL_TEXTURE_MIN_FILTER,
-                                 GL11.GL_NEAREST_MIPMAP_LINEAR);
-            GL11.glTexParameteri(GL11.GL_TEXTURE_2D, GL11.GL_TEXTURE_MAG_FILTER, GL11.GL_NEAREST);
-
-            atlasTexture = new Texture(texId, atlasSize, atlasSize); // your Texture wrapper
         }
+        return pixels;
+    }
+
+    private AtlasBuilder(Pixels pixels) {
+        int atlasSize = pixels.atlasSize;
+        uvMap.putAll(pixels.uvMap);
+
+        // upload atlasBuffer to GPU once
+        int texId = GL11.glGenTextures();
+        GL11.glBindTexture(GL11.GL_TEXTURE_2D, texId);
+        GL11.glTexImage2D(GL11.GL_TEXTURE_2D, 0, GL11.GL_RGBA8, atlasSize, atlasSize, 0,
+                          GL11.GL_RGBA, GL11.GL_UNSIGNED_BYTE, pixels.buffer);
+        GL30.glGenerateMipmap(GL11.GL_TEXTURE_2D);
+        GL11.glTexParameteri(GL11.GL_TEXTURE_2D, GL11.GL_TEXTURE_MIN_FILTER,
+                             GL11.GL_NEAREST_MIPMAP_LINEAR);
+        GL11.glTexParameteri(GL11.GL_TEXTURE_2D, GL11.GL_TEXTURE_MAG_FILTER, GL11.GL_NEAREST);
+
+        atlasTexture = new Texture(texId, atlasSize, atlasSize); // your Texture wrapper
     }
 
     public Texture getAtlasTexture() { return atlasTexture; }
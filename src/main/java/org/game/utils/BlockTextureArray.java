@@ -0,0 +1,272 @@
+package org.game.utils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.engine.utils.Log;
+import org.engine.utils.Resource;
+import org.lwjgl.BufferUtils;
+
+import static org.lwjgl.opengl.GL11.*;
+import static org.lwjgl.opengl.GL12.glTexImage3D;
+import static org.lwjgl.opengl.GL12.glTexSubImage3D;
+import static org.lwjgl.opengl.GL13.glActiveTexture;
+import static org.lwjgl.opengl.GL30.GL_TEXTURE_2D_ARRAY;
+import static org.lwjgl.opengl.GL30.glGenerateMipmap;
+
+/**
+ * Block textures as one GL_TEXTURE_2D_ARRAY, one layer per PNG, for chunk
+ * meshes. Vertices carry the layer index and plain 0..1 UVs within it, so the
+ * mesher does no atlas remapping, and mipmaps never mix neighbouring tiles.
+ *
+ * Every texture must have the same size as the first one (sorted by name);
+ * others are skipped. The decoded RGBA layers are cached on disk together with
+ * a fingerprint of the folder (names, sizes, timestamps), so later startups
+ * skip PNG decoding and upload the cached bytes in a single call.
+ *
+ * Reading the cache or decoding happens in {@link #prepare} (any thread);
+ * only {@link #create(Pixels)} touches GL.
+ */
+public class BlockTextureArray {
+    private static final int CACHE_MAGIC = 0x54584131; // "TXA1"
+
+    private static BlockTextureArray instance;
+
+    private final int textureId;
+    private final Map<String, Integer> layers = new HashMap<>();
+    private final int width, height;
+    private final boolean loadedFromCache;
+
+    public static BlockTextureArray getDefault() {
+        return instance;
+    }
+
+    public static BlockTextureArray create(String folderPath, String cachePath) throws IOException {
+        if (instance != null) return instance;
+        return create(prepare(folderPath, cachePath));
+    }
+
+    public static BlockTextureArray create(Pixels pixels) {
+        if (instance == null) {
+            instance = new BlockTextureArray(pixels);
+        }
+        return instance;
+    }
+
+    /** Layers read from the cache or decoded, packed layer after layer from position 0. */
+    public static class Pixels {
+        final Map<String, Integer> layers = new HashMap<>();
+        int width, height;
+        ByteBuffer data;
+        boolean fromCache;
+    }
+
+    /**
+     * Reads the cached layers, or decodes the PNGs and refreshes the cache when
+     * the folder has changed. No GL calls, safe on any thread.
+     */
+    public static Pixels prepare(String folderPath, String cachePath) throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(Paths.get(folderPath), "*.png")) {
+            for (Path p : stream) files.add(p);
+        }
+        // Stable layer order, so cached layers line up with the names in the header
+        Collections.sort(files);
+        long fingerprint = fingerprint(files);
+
+        Path cacheFile = Paths.get(cachePath);
+        Pixels pixels = loadCache(cacheFile, fingerprint);
+        if (pixels == null) {
+            pixels = decodeAll(files);
+            writeCache(cacheFile, fingerprint, pixels);
+        }
+        return pixels;
+    }
+
+    private BlockTextureArray(Pixels pixels) {
+        layers.putAll(pixels.layers);
+        width = pixels.width;
+        height = pixels.height;
+        loadedFromCache = pixels.fromCache;
+
+        textureId = glGenTextures();
+        glBindTexture(GL_TEXTURE_2D_ARRAY, textureId);
+        upload(pixels.data);
+        glGenerateMipmap(GL_TEXTURE_2D_ARRAY);
+        glTexParameteri(GL_TEXTURE_2D_ARRAY, GL_TEXTURE_MIN_FILTER, GL_NEAREST_MIPMAP_LINEAR);
+        glTexParameteri(GL_TEXTURE_2D_ARRAY, GL_TEXTURE_MAG_FILTER, GL_NEAREST);
+        glTexParameteri(GL_TEXTURE_2D_ARRAY, GL_TEXTURE_WRAP_S, GL_REPEAT);
+        glTexParameteri(GL_TEXTURE_2D_ARRAY, GL_TEXTURE_WRAP_T, GL_REPEAT);
+        glBindTexture(GL_TEXTURE_2D_ARRAY, 0);
+
+        Log.info("Block texture array: {} layers of {} {}", layers.size(), width + "x" + height,
+                loadedFromCache ? "(from cache)" : "(decoded)");
+    }
+
+    /** Decodes every PNG into one tightly packed RGBA buffer, layer after layer. */
+    private static Pixels decodeAll(List<Path> files) {
+        Pixels pixels = new Pixels();
+        List<ByteBuffer> images = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        for (Path p : files) {
+            int[] w = new int[1], h = new int[1], c = new int[1];
+            ByteBuffer image = Resource.loadImage(p.toString(), w, h, c, 4);
+            if (image == null) continue;
+            if (images.isEmpty()) {
+                pixels.width = w[0];
+                pixels.height = h[0];
+            } else if (w[0] != pixels.width || h[0] != pixels.height) {
+                Log.warn("Skipping {}: {} doesn't match the {} texture array", p, w[0] + "x" + h[0],
+                        pixels.width + "x" + pixels.height);
+                Resource.freeImage(image);
+                continue;
+            }
+            images.add(image);
+            names.add(nameOf(p));
+        }
+
+        int layerBytes = pixels.width * pixels.height * 4;
+        pixels.data = BufferUtils.createByteBuffer(Math.max(1, images.size() * layerBytes));
+        for (int i = 0; i < images.size(); i++) {
+            ByteBuffer image = images.get(i);
+            pixels.data.put(i * layerBytes, image, 0, layerBytes); // whole layer in one copy
+            Resource.freeImage(image);
+            pixels.layers.put(names.get(i), i);
+        }
+        return pixels;
+    }
+
+    private void upload(ByteBuffer pixels) {
+        int layerCount = Math.max(1, layers.size());
+        glTexImage3D(GL_TEXTURE_2D_ARRAY, 0, GL_RGBA8, Math.max(1, width), Math.max(1, height), layerCount,
+                0, GL_RGBA, GL_UNSIGNED_BYTE, (ByteBuffer) null);
+        if (!layers.isEmpty()) {
+            pixels.position(0).limit(layers.size() * width * height * 4);
+            glTexSubImage3D(GL_TEXTURE_2D_ARRAY, 0, 0, 0, 0, width, height, layers.size(),
+                    GL_RGBA, GL_UNSIGNED_BYTE, pixels);
+            pixels.clear();
+        }
+    }
+
+    // Cache layout: magic, fingerprint, width, height, layer count, names (length-prefixed UTF-8), RGBA layers
+
+    /** Returns the cached layers, or null if the cache is missing, stale or unreadable. */
+    private static Pixels loadCache(Path cacheFile, long fingerprint) {
+        if (!Files.exists(cacheFile)) return null;
+        try (FileChannel channel = FileChannel.open(cacheFile, StandardOpenOption.READ)) {
+            // FIX: the header is written big-endian (ByteBuffer.allocate); BufferUtils buffers
+            // are native order, so on little-endian machines the magic never matched and
+            // the cache was rewritten on every start instead of being used
+            ByteBuffer data = BufferUtils.createByteBuffer((int) channel.size()).order(ByteOrder.BIG_ENDIAN);
+            while (data.hasRemaining() && channel.read(data) >= 0) { }
+            data.flip();
+
+            if (data.getInt() != CACHE_MAGIC || data.getLong() != fingerprint) return null;
+            Pixels pixels = new Pixels();
+            pixels.width = data.getInt();
+            pixels.height = data.getInt();
+            int layerCount = data.getInt();
+            for (int i = 0; i < layerCount; i++) {
+                byte[] name = new byte[data.getShort()];
+                data.get(name);
+                pixels.layers.put(new String(name, StandardCharsets.UTF_8), i);
+            }
+            if (data.remaining() != layerCount * pixels.width * pixels.height * 4) return null;
+
+            pixels.data = data.slice();
+            pixels.fromCache = true;
+            return pixels;
+        } catch (IOException | RuntimeException e) {
+            Log.warn("Ignoring unreadable texture cache " + cacheFile, e);
+            return null;
+        }
+    }
+
+    private static void writeCache(Path cacheFile, long fingerprint, Pixels pixels) {
+        String[] names = new String[pixels.layers.size()];
+        pixels.layers.forEach((name, layer) -> names[layer] = name);
+        int width = pixels.width, height = pixels.height;
+
+        int headerBytes = 4 + 8 + 4 + 4 + 4;
+        for (String name : names) headerBytes += 2 + name.getBytes(StandardCharsets.UTF_8).length;
+        int pixelBytes = names.length * width * height * 4;
+
+        ByteBuffer header = ByteBuffer.allocate(headerBytes);
+        header.putInt(CACHE_MAGIC).putLong(fingerprint).putInt(width).putInt(height).putInt(names.length);
+        for (String name : names) {
+            byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+            header.putShort((short) bytes.length).put(bytes);
+        }
+        header.flip();
+
+        try {
+            if (cacheFile.getParent() != null) Files.createDirectories(cacheFile.getParent());
+            try (FileChannel channel = FileChannel.open(cacheFile, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                channel.write(header);
+                ByteBuffer body = pixels.data.duplicate();
+                body.position(0).limit(pixelBytes);
+                while (body.hasRemaining()) channel.write(body);
+            }
+        } catch (IOException e) {
+            Log.error("Failed to write texture cache " + cacheFile, e);
+        }
+    }
+
+    private static long fingerprint(List<Path> files) throws IOException {
+        long hash = 17;
+        for (Path p : files) {
+            hash = hash * 31 + p.getFileName().toString().hashCode();
+            hash = hash * 31 + Files.size(p);
+            hash = hash * 31 + Files.getLastModifiedTime(p).toMillis();
+        }
+        return hash;
+    }
+
+    private static String nameOf(Path p) {
+        String fileName = p.getFileName().toString();
+        return fileName.substring(0, fileName.length() - 4);
+    }
+
+    /** Binds the array to the given texture unit (e.g. GL_TEXTURE1). */
+    public void bind(int unit) {
+        glActiveTexture(unit);
+        glBindTexture(GL_TEXTURE_2D_ARRAY, textureId);
+    }
+
+    public void unbind(int unit) {
+        glActiveTexture(unit);
+        glBindTexture(GL_TEXTURE_2D_ARRAY, 0);
+    }
+
+    /** Layer of the named texture (file name without .png), or 0 if it is missing. */
+    public int getLayer(String name) {
+        Integer layer = layers.get(name);
+        return layer != null ? layer : 0;
+    }
+
+    public int getLayerCount() {
+        return layers.size();
+    }
+
+    public boolean isLoadedFromCache() {
+        return loadedFromCache;
+    }
+
+    public void delete() {
+        glDeleteTextures(textureId);
+    }
+}
@@ -1,6 +1,7 @@
 package org.game.world;
 
-import org.engine.utils.Logger;
+import org.engine.utils.Log;
+import org.engine.utils.Resource;
 import org.game.core.GameObject;
 import org.game.meshes.Mesh;
 import org.game.meshes.Model;
@@ -12,6 +13,7 @@ public class Block extends GameObject {
     public static final float SIZE = 1.0f;
     protected Model model;
     protected boolean isTransparent;
+    protected RenderLayer renderLayer = RenderLayer.OPAQUE;
     protected int lightLevel;
     private static int idCounter = 1;
      
@@ -51,7 +53,7 @@ public class Block extends GameObject {
         // Convert the JSON data into a MeshData object
         // ArrayList<Mesh> meshes = MeshConverter.processModel(modelJson);
         if(model==null){
-            Logger.log("Failed to load model: " + modelName);
+            Log.error("Failed to load model: {}", modelName);
             return;
         }
         this.model = model;
@@ -62,6 +64,23 @@ public class Block extends GameObject {
         this(name);
         this.lightLevel = lightLevel;
     }
+    public Block(String name, int lightLevel, RenderLayer renderLayer){
+        this(name, lightLevel);
+        setRenderLayer(renderLayer);
+    }
+    /**
+     * Block with its model data but no GL meshes, for meshing without a window
+     * (benchmarks, tools). Only the face UVs of the model are used there.
+     */
+    public static Block createHeadless(String modelName, int lightLevel, RenderLayer renderLayer) {
+        Block block = new Block();
+        block.type = modelName;
+        block.name = modelName;
+        block.model = Resource.loadJson("assets/models/" + modelName + ".json", Model.class);
+        block.lightLevel = lightLevel;
+        block.setRenderLayer(renderLayer);
+        return block;
+    }
     public String toString() {
         return "Block[type=" + type + "]";
     }
@@ -96,6 +115,25 @@ public class Block extends GameObject {
     public void setTransparent(boolean isTransparent) {
         this.isTransparent = isTransparent;
     }
+    public RenderLayer getRenderLayer() {
+        return renderLayer;
+    }
+
+    /**
+     * Only affects how the block is drawn. Whether light passes through it is
+     * {@link #isTransparent()}, which stays as it was set.
+     */
+    public void setRenderLayer(RenderLayer renderLayer) {
+        this.renderLayer = renderLayer;
+    }
+
+    /**
+     * Whether what lies behind this block can be seen through it: cutout and
+     * translucent blocks don't hide their neighbours' faces or wall off a section.
+     */
+    public boolean isSeeThrough() {
+        return isTransparent || renderLayer != RenderLayer.OPAQUE;
+    }
     public int getLightLevel(){
         return this.lightLevel;
     }
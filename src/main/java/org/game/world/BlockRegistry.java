@@ -1,5 +1,6 @@
 package org.game.world;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -8,13 +9,36 @@ public class BlockRegistry {
     private static final Map<Integer, Block> idToBlock = new HashMap<>();
     private static int nextId = 1;
 
+    // Opacity by id for per-voxel loops; ids never registered count as opaque,
+    // like Chunk.isTransparent. Captured at register time.
+    private static boolean[] opaqueById = newOpaqueTable(16);
+
     public static int register(String name, Block block) {
         int id = nextId++;
         nameToId.put(name, id);
         idToBlock.put(id, block);
+        if (id >= opaqueById.length) {
+            boolean[] grown = newOpaqueTable(id * 2);
+            System.arraycopy(opaqueById, 0, grown, 0, opaqueById.length);
+            opaqueById = grown;
+        }
+        opaqueById[id] = block == null || !block.isTransparent();
         return id;
     }
 
+    /** Same answer as {@code !Chunk.isTransparent} for a block id, without the map lookup. */
+    public static boolean isOpaque(int id) {
+        if (id == 0) return false;
+        return id >= opaqueById.length || opaqueById[id];
+    }
+
+    private static boolean[] newOpaqueTable(int size) {
+        boolean[] table = new boolean[size];
+        Arrays.fill(table, true);
+        table[0] = false; // air
+        return table;
+    }
+
     public static int getId(String name) {
         return nameToId.getOrDefault(name, 0);
     }
@@ -1,16 +1,66 @@
 package org.game.world;
 
+import java.util.List;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 public class Blocks {
+    /** Every block type, in registration order: the first one gets id 1. */
+    public static final List<Definition> ALL = List.of(
+            new Definition("dirt", 0, RenderLayer.OPAQUE),
+            new Definition("torch", 15, RenderLayer.CUTOUT),
+            new Definition("dirt2", 0, RenderLayer.OPAQUE),
+            new Definition("water", 0, RenderLayer.TRANSLUCENT));
+
     final public static Block AIR = null;
-    final public static Supplier<Block> DIRT = () -> new Block("dirt");
-    final public static Supplier<Block> Torch = () -> new Block("torch", 15);
-    final public static Supplier<Block> DIRT2 = () -> new Block("dirt2");
-    final public static Supplier<Block> WATER = () -> new Block("water");
+    final public static Supplier<Block> DIRT = definition("dirt")::create;
+    final public static Supplier<Block> Torch = definition("torch")::create;
+    final public static Supplier<Block> DIRT2 = definition("dirt2")::create;
+    final public static Supplier<Block> WATER = definition("water")::create;
+
+    /** Creates every block in {@link #ALL} with {@code factory} and registers it under its name. */
+    public static void registerAll(Function<Definition, Block> factory) {
+        for (Definition definition : ALL) {
+            BlockRegistry.register(definition.name, factory.apply(definition));
+        }
+    }
+
+    /**
+     * Registers the same blocks as the client, in the same id order, but built
+     * with {@link Block#createHeadless} so no GL context is needed (benchmarks,
+     * tools). Does nothing if they are already registered.
+     */
+    public static void registerHeadless() {
+        if (BlockRegistry.getId(ALL.get(0).name) != 0) return;
+        registerAll(Definition::createHeadless);
+    }
+
+    public static Definition definition(String name) {
+        for (Definition definition : ALL) {
+            if (definition.name.equals(name)) return definition;
+        }
+        throw new IllegalArgumentException("Unknown block: " + name);
+    }
 
+    /** Name (also the model file), light level and render layer of one block type. */
+    public static class Definition {
+        public final String name;
+        public final int lightLevel;
+        public final RenderLayer renderLayer;
 
+        private Definition(String name, int lightLevel, RenderLayer renderLayer) {
+            this.name = name;
+            this.lightLevel = lightLevel;
+            this.renderLayer = renderLayer;
+        }
 
+        /** Loads the model with GL meshes; needs the GL context. */
+        public Block create() {
+            return new Block(name, lightLevel, renderLayer);
+        }
 
-  
+        public Block createHeadless() {
+            return Block.createHeadless(name, lightLevel, renderLayer);
+        }
+    }
 }
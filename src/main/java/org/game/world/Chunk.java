@@ -1,6 +1,7 @@
 package org.game.world;
 
-import org.game.meshes.Model;
+import org.game.meshes.ChunkGeometry;
+import org.game.rendering.ChunkGeometryArena;
 import org.joml.Vector3f;
 
 public class Chunk implements Cloneable {
@@ -8,7 +9,13 @@ public class Chunk implements Cloneable {
     private static final int MAX_LIGHT_LEVEL = 15;
 
     private int[][][] blocks = new int[SIZE_X][SIZE_Y][SIZE_Z];
-    private Model model;
+    // Slices of the shared chunk arena, one per RenderLayer; null when unmeshed or the layer is empty
+    private final ChunkGeometryArena.Allocation[] geometry = new ChunkGeometryArena.Allocation[RenderLayer.COUNT];
+
+    // CPU copy of the translucent layer and the chunk-local eye position it was
+    // last sorted for, so it can be re-sorted back to front as the camera moves
+    private ChunkGeometry translucentGeometry;
+    private final Vector3f translucentSortEye = new Vector3f();
 
     // Lighting data
     private byte[][][] sunlight = new byte[SIZE_X][SIZE_Y][SIZE_Z];
@@ -26,6 +33,18 @@ public class Chunk implements Cloneable {
     // one flag was stale. One field is enough: a chunk has a mesh or it doesn't.
     private boolean meshBuilt = false;
 
+    // Vertical range [meshMinY, meshMaxY) covered by the current mesh, set by
+    // ChunkMesher. Starts at the full height so an unmeshed chunk is never culled.
+    private int meshMinY = 0;
+    private int meshMaxY = SIZE_Y;
+
+    // Face connectivity per 16-high section, set by ChunkMesher (see SectionVisibility)
+    private long[] sectionConnectivity;
+
+    // Occlusion-culler scratch: which sections were reached in frame cullFrame
+    private int cullFrame = -1;
+    private int visibleSections;
+
     public Chunk(int chunkX, int chunkZ) {
         this.chunkX = chunkX;
         this.chunkZ = chunkZ;
@@ -35,21 +54,67 @@ public class Chunk implements Cloneable {
 
     // --- Mesh state ---
 
-    /** True only when the chunk has a valid compiled GPU mesh ready to draw. */
+    /**
+     * True only when the chunk has a valid uploaded mesh. An all-air chunk is
+     * meshed with no geometry, so this no longer requires a non-null allocation.
+     */
     public boolean isMeshBuilt() {
-        return meshBuilt && model != null;
+        return meshBuilt;
     }
 
     /**
-     * Set to true after a successful buildModel + setModel call.
-     * Set to false (with built=false) to delete GPU resources and require a rebuild.
+     * Set to true after a successful buildGeometry + setGeometry call.
+     * Set to false (with built=false) to release the arena slice and require a rebuild.
      */
     public void setMeshBuilt(boolean built) {
         this.meshBuilt = built;
-        if (!built && this.model != null) {
-            this.model.delete(); // Free OpenGL buffers
-            this.model = null;
+        if (!built) {
+            for (int i = 0; i < geometry.length; i++) {
+                if (geometry[i] != null) {
+                    geometry[i].free(); // Return the range to the arena
+                    geometry[i] = null;
+                }
+            }
+            translucentGeometry = null;
+        }
+    }
+
+    public void setMeshBounds(int minY, int maxY) {
+        this.meshMinY = minY;
+        this.meshMaxY = maxY;
+    }
+
+    public int getMeshMinY() {
+        return meshMinY;
+    }
+
+    public int getMeshMaxY() {
+        return meshMaxY;
+    }
+
+    /** Connectivity of the given section, or fully connected before the first mesh. */
+    public long getSectionConnectivity(int section) {
+        return sectionConnectivity != null ? sectionConnectivity[section] : SectionVisibility.ALL_CONNECTED;
+    }
+
+    public void setSectionConnectivity(long[] connectivity) {
+        this.sectionConnectivity = connectivity;
+    }
+
+    /** Bit s set when section s was found visible by the occlusion culler in the given frame. */
+    public int getVisibleSections(int frame) {
+        return cullFrame == frame ? visibleSections : 0;
+    }
+
+    /** @return true if this was the first section of this chunk marked in the frame */
+    public boolean markSectionVisible(int frame, int section) {
+        boolean first = cullFrame != frame;
+        if (first) {
+            cullFrame = frame;
+            visibleSections = 0;
         }
+        visibleSections |= 1 << section;
+        return first;
     }
 
     /** Force a mesh rebuild on next generateVisibleMeshes pass. */
@@ -79,13 +144,12 @@ public class Chunk implements Cloneable {
                 System.arraycopy(this.sunlight[x][y],   0, c.sunlight[x][y],   0, SIZE_Z);
                 System.arraycopy(this.blocklight[x][y], 0, c.blocklight[x][y], 0, SIZE_Z);
             }
-        // FIX: Do NOT copy the model reference into the clone.
+        // FIX: Do NOT copy the geometry reference into the clone.
         // The server-side Chunk and the client-side Chunk must never share an
-        // OpenGL Model object. Sharing it means both sides think they own the
-        // GPU buffers; when either calls model.delete() the other side crashes.
+        // arena allocation. Sharing it means both sides think they own the
+        // GPU range; when either frees it the other draws garbage.
         // Clones always start without a mesh — the client will build one.
         c.meshBuilt = false;
-        c.model = null;
         c.lightingDirty = this.lightingDirty;
         return c;
     }
@@ -96,10 +160,19 @@ public class Chunk implements Cloneable {
     public int getChunkX()        { return chunkX; }
     public int getChunkZ()        { return chunkZ; }
 
-    // --- Model ---
+    // --- Geometry ---
+
+    public ChunkGeometryArena.Allocation getGeometry(RenderLayer layer) {
+        return geometry[layer.ordinal()];
+    }
 
-    public Model getModel()              { return model; }
-    public void  setModel(Model model)   { this.model = model; }
+    public void setGeometry(RenderLayer layer, ChunkGeometryArena.Allocation allocation) {
+        geometry[layer.ordinal()] = allocation;
+    }
+
+    public ChunkGeometry getTranslucentGeometry()                  { return translucentGeometry; }
+    public void setTranslucentGeometry(ChunkGeometry geometry)     { this.translucentGeometry = geometry; }
+    public Vector3f getTranslucentSortEye()                        { return translucentSortEye; }
 
     // --- Blocks ---
 
@@ -119,6 +192,11 @@ public class Chunk implements Cloneable {
         }
     }
 
+    // Raw z-rows for bulk access in this package (ChunkSnapshot, ChunkStorage)
+    int[] blockRow(int x, int y)      { return blocks[x][y]; }
+    byte[] sunlightRow(int x, int y)  { return sunlight[x][y]; }
+    byte[] blocklightRow(int x, int y){ return blocklight[x][y]; }
+
     // --- Lighting getters/setters ---
 
     public byte getSunlight(int x, int y, int z) {
@@ -163,6 +241,15 @@ public class Chunk implements Cloneable {
         return block != null && block.isTransparent();
     }
 
+    /** Whether faces behind this voxel can be seen, see {@link Block#isSeeThrough()}. */
+    public boolean isSeeThrough(int x, int y, int z) {
+        if (!inBounds(x, y, z)) return true;
+        int blockId = blocks[x][y][z];
+        if (blockId == 0) return true;
+        Block block = BlockRegistry.getBlock(blockId);
+        return block != null && block.isSeeThrough();
+    }
+
     public int getLightEmission(int x, int y, int z) {
         if (!inBounds(x, y, z)) return 0;
         int blockId = blocks[x][y][z];
@@ -3,6 +3,9 @@ package org.game.world;
 import java.util.ArrayDeque;
 import java.util.Queue;
 
+import org.engine.profiling.Profiler;
+import org.engine.profiling.jfr.ChunkLitEvent;
+
 public class ChunkLightingSystem {
     private static final int MAX_LIGHT_LEVEL = 15;
     private World world;
@@ -377,9 +380,20 @@ public class ChunkLightingSystem {
         if (!chunk.isLightingDirty())
             return;
 
-        calculateSunlight(chunk);
-        calculateBlockLight(chunk);
-        chunk.markLightingClean();
+        ChunkLitEvent event = new ChunkLitEvent();
+        event.begin();
+        Profiler.begin("ChunkLightingSystem.updateChunkLighting");
+        try {
+            calculateSunlight(chunk);
+            calculateBlockLight(chunk);
+            chunk.markLightingClean();
+        } finally {
+            Profiler.end();
+        }
+        if (event.shouldCommit()) {
+            event.set(chunk);
+            event.commit();
+        }
     }
 
     /**
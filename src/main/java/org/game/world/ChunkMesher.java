@@ -1,67 +1,145 @@
 package org.game.world;
 
-import org.game.meshes.LightedMesh;
-import org.game.meshes.Mesh;
-import org.game.meshes.Model;
+import org.engine.profiling.Profiler;
+import org.engine.profiling.jfr.ChunkMeshedEvent;
+import org.game.meshes.ChunkGeometry;
 import org.game.meshes.Quad;
-import org.game.utils.AtlasBuilder;
-
-import java.util.ArrayList;
-import java.util.List;
+import org.game.utils.BlockTextureArray;
 
 public class ChunkMesher {
     private static ChunkLightingSystem lightingSystem;
 
+    // Smooth lighting + ambient occlusion: per-vertex light averaged over the 4
+    // voxels around each corner, darkened by the 3-neighbour AO term
+    private static volatile boolean smoothLighting = true;
+    private static final float[] AO_CURVE = { 0.45f, 0.6f, 0.8f, 1.0f };
+    private static final float MIN_LIGHT = 2.0f;
+    private static final float MAX_LIGHT = 15.0f;
+
+    // Per-thread scratch for the snapshot, vertex light and connectivity flood fill
+    private static final ThreadLocal<MeshScratch> SCRATCH = ThreadLocal.withInitial(MeshScratch::new);
+
+    private static final class MeshScratch {
+        final ChunkSnapshot snapshot = new ChunkSnapshot();
+        final float[] vertexSky = new float[ChunkGeometry.VERTICES_PER_QUAD];
+        final float[] vertexBlock = new float[ChunkGeometry.VERTICES_PER_QUAD];
+        final boolean[] connectivityVisited = new boolean[SectionVisibility.SCRATCH_SIZE];
+        final int[] connectivityQueue = new int[SectionVisibility.SCRATCH_SIZE];
+    }
+
     public static void setLightingSystem(ChunkLightingSystem system) {
         lightingSystem = system;
     }
 
-    public static Model buildModel(World world, Chunk chunk) {
-        return buildModel(world, chunk, 1.0f);
+    public static void setSmoothLighting(boolean enabled) {
+        smoothLighting = enabled;
+    }
+
+    public static boolean isSmoothLighting() {
+        return smoothLighting;
+    }
+
+    /**
+     * Meshes a chunk into CPU-side geometry, one per {@link RenderLayer}
+     * (indexed by ordinal) so each layer can be drawn with its own blend and
+     * alpha-test state. No GL calls happen here; the result is uploaded into
+     * the chunk arena by WorldRenderer.
+     *
+     * Sky light and block light are stored separately per vertex. The time of
+     * day only scales sky light, in cube.vert, so the day/night cycle never
+     * requires a remesh.
+     */
+    public static ChunkGeometry[] buildGeometry(World world, Chunk chunk) {
+        ChunkMeshedEvent event = new ChunkMeshedEvent();
+        event.begin();
+        ChunkGeometry[] layers;
+        Profiler.begin("ChunkMesher.buildGeometry");
+        try {
+            layers = buildLayers(world, chunk);
+        } finally {
+            Profiler.end();
+        }
+        if (event.shouldCommit()) {
+            event.set(chunk);
+            for (ChunkGeometry layer : layers) event.vertices += layer.getVertexCount();
+            event.commit();
+        }
+        return layers;
     }
 
-    public static Model buildModel(World world, Chunk chunk, float dayNightCycle) {
-        List<Float> vertices = new ArrayList<>();
-        List<Float> texCoords = new ArrayList<>();
-        List<Integer> indices = new ArrayList<>();
+    private static ChunkGeometry[] buildLayers(World world, Chunk chunk) {
+        ChunkGeometry[] layers = new ChunkGeometry[RenderLayer.COUNT];
+        layers[RenderLayer.OPAQUE.ordinal()] = new ChunkGeometry();
+        layers[RenderLayer.CUTOUT.ordinal()] = new ChunkGeometry(64);
+        layers[RenderLayer.TRANSLUCENT.ordinal()] = new ChunkGeometry(256);
 
         int chunkWorldX = chunk.getChunkX() * Chunk.SIZE_X;
         int chunkWorldY = 0;
         int chunkWorldZ = chunk.getChunkZ() * Chunk.SIZE_Z;
 
-        for (int x = 0; x < Chunk.SIZE_X; x++) {
-            for (int y = 0; y < Chunk.SIZE_Y; y++) {
+        MeshScratch scratch = SCRATCH.get();
+        ChunkSnapshot snapshot = null;
+        if (smoothLighting) {
+            snapshot = scratch.snapshot;
+            snapshot.fill(world, chunk);
+        }
+
+        // Vertical extent of the emitted faces, so culling can use a tight AABB
+        int minFaceY = Chunk.SIZE_Y;
+        int maxFaceY = -1;
+
+        // Y is the outer loop so each 16-high section's quads are one contiguous
+        // range of the vertex buffer; the occlusion culler draws sections separately.
+        for (int y = 0; y < Chunk.SIZE_Y; y++) {
+            if (y % SectionVisibility.SECTION_SIZE == 0) {
+                for (ChunkGeometry layer : layers) layer.beginSection(y / SectionVisibility.SECTION_SIZE);
+            }
+            for (int x = 0; x < Chunk.SIZE_X; x++) {
                 for (int z = 0; z < Chunk.SIZE_Z; z++) {
                     int blockId = chunk.getBlock(x, y, z);
                     if (blockId == 0) continue;
+                    Block block = BlockRegistry.getBlock(blockId);
+                    if (block == null) continue;
+                    ChunkGeometry geometry = layers[block.getRenderLayer().ordinal()];
 
                     int wx = chunkWorldX + x;
                     int wy = chunkWorldY + y;
                     int wz = chunkWorldZ + z;
+                    int vertexCountBefore = geometry.getVertexCount();
+
+                    if (isFaceVisible(world, chunk, blockId, x, y, z, wx, wy, wz,  1,  0,  0))
+                        addFaceWithLighting(geometry, chunk, snapshot, scratch, x, y, z, Quad.FaceType.RIGHT_FACE, block);
 
-                    if (isFaceVisible(world, chunk, x, y, z, wx, wy, wz,  1,  0,  0))
-                        addFaceWithLighting(vertices, texCoords, indices, chunk, x, y, z, Quad.FaceType.RIGHT_FACE,  blockId, dayNightCycle);
+                    if (isFaceVisible(world, chunk, blockId, x, y, z, wx, wy, wz, -1,  0,  0))
+                        addFaceWithLighting(geometry, chunk, snapshot, scratch, x, y, z, Quad.FaceType.LEFT_FACE, block);
 
-                    if (isFaceVisible(world, chunk, x, y, z, wx, wy, wz, -1,  0,  0))
-                        addFaceWithLighting(vertices, texCoords, indices, chunk, x, y, z, Quad.FaceType.LEFT_FACE,   blockId, dayNightCycle);
+                    if (isFaceVisible(world, chunk, blockId, x, y, z, wx, wy, wz,  0,  1,  0))
+                        addFaceWithLighting(geometry, chunk, snapshot, scratch, x, y, z, Quad.FaceType.TOP_FACE, block);
 
-                    if (isFaceVisible(world, chunk, x, y, z, wx, wy, wz,  0,  1,  0))
-                        addFaceWithLighting(vertices, texCoords, indices, chunk, x, y, z, Quad.FaceType.TOP_FACE,    blockId, dayNightCycle);
+                    if (isFaceVisible(world, chunk, blockId, x, y, z, wx, wy, wz,  0, -1,  0))
+                        addFaceWithLighting(geometry, chunk, snapshot, scratch, x, y, z, Quad.FaceType.BOTTOM_FACE, block);
 
-                    if (isFaceVisible(world, chunk, x, y, z, wx, wy, wz,  0, -1,  0))
-                        addFaceWithLighting(vertices, texCoords, indices, chunk, x, y, z, Quad.FaceType.BOTTOM_FACE, blockId, dayNightCycle);
+                    if (isFaceVisible(world, chunk, blockId, x, y, z, wx, wy, wz,  0,  0,  1))
+                        addFaceWithLighting(geometry, chunk, snapshot, scratch, x, y, z, Quad.FaceType.FRONT_FACE, block);
 
-                    if (isFaceVisible(world, chunk, x, y, z, wx, wy, wz,  0,  0,  1))
-                        addFaceWithLighting(vertices, texCoords, indices, chunk, x, y, z, Quad.FaceType.FRONT_FACE,  blockId, dayNightCycle);
+                    if (isFaceVisible(world, chunk, blockId, x, y, z, wx, wy, wz,  0,  0, -1))
+                        addFaceWithLighting(geometry, chunk, snapshot, scratch, x, y, z, Quad.FaceType.BACK_FACE, block);
 
-                    if (isFaceVisible(world, chunk, x, y, z, wx, wy, wz,  0,  0, -1))
-                        addFaceWithLighting(vertices, texCoords, indices, chunk, x, y, z, Quad.FaceType.BACK_FACE,   blockId, dayNightCycle);
+                    if (geometry.getVertexCount() != vertexCountBefore) {
+                        minFaceY = Math.min(minFaceY, y);
+                        maxFaceY = Math.max(maxFaceY, y);
+                    }
                 }
             }
         }
 
-        Mesh mesh = createMeshWithLighting(vertices, texCoords, indices);
-        return new Model(mesh);
+        if (maxFaceY < 0) chunk.setMeshBounds(0, 0);
+        else chunk.setMeshBounds(minFaceY, maxFaceY + 1);
+
+        chunk.setSectionConnectivity(SectionVisibility.computeAll(chunk,
+                scratch.connectivityVisited, scratch.connectivityQueue));
+
+        return layers;
     }
 
     /**
@@ -79,8 +157,10 @@ public class ChunkMesher {
      *      • chunk not loaded             → CULL (it will draw its own face when it loads)
      *      • chunk loaded, block opaque   → CULL
      *      • chunk loaded, block transparent (air/water/glass) → DRAW
+     *  - Neighbor is the same transparent block (water next to water) → CULL,
+     *    so a body of water only has faces on its surface and edges
      */
-    private static boolean isFaceVisible(World world, Chunk chunk,
+    private static boolean isFaceVisible(World world, Chunk chunk, int blockId,
                                          int lx, int ly, int lz,   // local coords in chunk
                                          int wx, int wy, int wz,   // world coords of block
                                          int dx, int dy, int dz) { // face direction
@@ -95,7 +175,7 @@ public class ChunkMesher {
 
         // 2. Neighbor is inside the same chunk — use local data, no map lookup needed
         if (nx >= 0 && nx < Chunk.SIZE_X && nz >= 0 && nz < Chunk.SIZE_Z) {
-            return chunk.isTransparent(nx, ny, nz);
+            return chunk.isSeeThrough(nx, ny, nz) && chunk.getBlock(nx, ny, nz) != blockId;
         }
 
         // 3. Neighbor is in an adjacent chunk — resolve which one
@@ -113,23 +193,19 @@ public class ChunkMesher {
         int localNX = ((nx % Chunk.SIZE_X) + Chunk.SIZE_X) % Chunk.SIZE_X;
         int localNZ = ((nz % Chunk.SIZE_Z) + Chunk.SIZE_Z) % Chunk.SIZE_Z;
 
-        return neighborChunk.isTransparent(localNX, ny, localNZ);
+        return neighborChunk.isSeeThrough(localNX, ny, localNZ)
+                && neighborChunk.getBlock(localNX, ny, localNZ) != blockId;
     }
 
-    // -------------------------------------------------------------------------
-    // Everything below is unchanged from your original ChunkMesher
-    // -------------------------------------------------------------------------
-
     private static void addFaceWithLighting(
-            List<Float> vertices, List<Float> texCoords, List<Integer> indices,
-            Chunk chunk, int x, int y, int z,
-            Quad.FaceType faceType, int blockId, float dayNightCycle) {
+            ChunkGeometry geometry,
+            Chunk chunk, ChunkSnapshot snapshot, MeshScratch scratch, int x, int y, int z,
+            Quad.FaceType faceType, Block block) {
 
         Quad quad = Quad.getQuad(faceType);
-        Block block = BlockRegistry.getBlock(blockId);
-        if (block == null) return;
 
-        float[] atlasRect = AtlasBuilder.getDefault().getUV(block.getName());
+        // The block's texture is a whole array layer, so face UVs are used as-is
+        float layer = getTextureLayer(block);
         float[] facePixels = getFacePixels(block, faceType);
 
         float u0b = facePixels[0] / 16f;
@@ -137,93 +213,155 @@ public class ChunkMesher {
         float u1b = facePixels[2] / 16f;
         float v1b = facePixels[3] / 16f;
 
-        float uMinAtlas = atlasRect[0];
-        float vMinAtlas = atlasRect[1];
-        float uMaxAtlas = atlasRect[2];
-        float vMaxAtlas = atlasRect[3];
-
-        int baseIndex = vertices.size() / 4;
-
-        for (int i = 0; i < quad.positions.length; i += 3) {
-            float vx = quad.positions[i]     + x;
-            float vy = quad.positions[i + 1] + y;
-            float vz = quad.positions[i + 2] + z;
-
-            float lightLevel = getVertexLightLevel(chunk, x, y, z, faceType, dayNightCycle);
-
-            vertices.add(vx);
-            vertices.add(vy);
-            vertices.add(vz);
-            vertices.add(lightLevel);
+        // Flat face normal from the first triangle's winding (what Mesh.generateNormals produced)
+        float[] p = quad.positions;
+        int i0 = quad.indices[0] * 3, i1 = quad.indices[1] * 3, i2 = quad.indices[2] * 3;
+        float e1x = p[i1] - p[i0], e1y = p[i1 + 1] - p[i0 + 1], e1z = p[i1 + 2] - p[i0 + 2];
+        float e2x = p[i2] - p[i0], e2y = p[i2 + 1] - p[i0 + 1], e2z = p[i2 + 2] - p[i0 + 2];
+        float nx = e1y * e2z - e1z * e2y;
+        float ny = e1z * e2x - e1x * e2z;
+        float nz = e1x * e2y - e1y * e2x;
+        float length = (float) Math.sqrt(nx * nx + ny * ny + nz * nz);
+        nx /= length;
+        ny /= length;
+        nz /= length;
+
+        float[] sky = scratch.vertexSky, blockLight = scratch.vertexBlock;
+        if (snapshot != null) {
+            int[] normal = getFaceOffset(faceType);
+            for (int v = 0; v < ChunkGeometry.VERTICES_PER_QUAD; v++) {
+                setSmoothVertexLight(snapshot, x, y, z, normal, p[v * 3], p[v * 3 + 1], p[v * 3 + 2], sky, blockLight, v);
+            }
+        } else {
+            // Flat: every vertex of a face samples the same neighbour cell
+            setFlatLight(chunk, x, y, z, faceType, sky, blockLight);
         }
 
-        for (int i = 0; i < quad.texCoords.length; i += 2) {
-            float u = quad.texCoords[i];
-            float v = quad.texCoords[i + 1];
-
-            float uBlock  = u0b + u * (u1b - u0b);
-            float vBlock  = v0b + v * (v1b - v0b);
-            float atlasU  = uMinAtlas + uBlock * (uMaxAtlas - uMinAtlas);
-            float atlasV  = vMinAtlas + vBlock * (vMaxAtlas - vMinAtlas);
-
-            texCoords.add(atlasU);
-            texCoords.add(atlasV);
+        // Only the 4 corners are emitted; QuadIndexBuffer splits every quad along
+        // its 0-2 diagonal. When the 1-3 corners are darker, start one corner later
+        // so the split runs through them instead; otherwise the AO gradient looks
+        // different depending on the face's orientation.
+        float b0 = Math.max(sky[0], blockLight[0]), b1 = Math.max(sky[1], blockLight[1]);
+        float b2 = Math.max(sky[2], blockLight[2]), b3 = Math.max(sky[3], blockLight[3]);
+        int start = b0 + b2 > b1 + b3 ? 1 : 0;
+
+        for (int k = 0; k < ChunkGeometry.VERTICES_PER_QUAD; k++) {
+            int corner = (start + k) & 3;
+            int i = corner * 3, t = corner * 2;
+            float u = quad.texCoords[t];
+            float v = quad.texCoords[t + 1];
+
+            geometry.addVertex(
+                    p[i] + x, p[i + 1] + y, p[i + 2] + z,
+                    u0b + u * (u1b - u0b), v0b + v * (v1b - v0b),
+                    nx, ny, nz,
+                    sky[corner], blockLight[corner], layer);
         }
+    }
 
-        for (int i = 0; i < quad.indices.length; i++) {
-            indices.add(quad.indices[i] + baseIndex);
+    /**
+     * Light at one face corner: the voxel in front of the face plus its two
+     * side neighbours and the diagonal toward the corner. Open voxels are
+     * averaged; each opaque side or corner adds occlusion. Two opaque sides
+     * fully occlude the corner and also hide its light. Writes sky and block
+     * light (0..1, AO applied) to index {@code v} of the output arrays.
+     */
+    private static void setSmoothVertexLight(ChunkSnapshot snapshot, int bx, int by, int bz, int[] normal,
+                                             float cornerX, float cornerY, float cornerZ,
+                                             float[] skyOut, float[] blockOut, int v) {
+        int fx = bx + normal[0], fy = by + normal[1], fz = bz + normal[2];
+
+        // Steps from the front voxel toward the corner along the face's two in-plane axes
+        int ax = 0, ay = 0, az = 0, bxStep = 0, byStep = 0, bzStep = 0;
+        if (normal[0] != 0) {
+            ay = cornerY > 0.5f ? 1 : -1;
+            bzStep = cornerZ > 0.5f ? 1 : -1;
+        } else if (normal[1] != 0) {
+            ax = cornerX > 0.5f ? 1 : -1;
+            bzStep = cornerZ > 0.5f ? 1 : -1;
+        } else {
+            ax = cornerX > 0.5f ? 1 : -1;
+            byStep = cornerY > 0.5f ? 1 : -1;
         }
-    }
 
-    private static float getVertexLightLevel(Chunk chunk, int blockX, int blockY, int blockZ,
-                                             Quad.FaceType faceType, float dayNightCycle) {
-        if (lightingSystem == null) return 1.0f;
+        boolean side1 = snapshot.isOpaque(fx + ax, fy + ay, fz + az);
+        boolean side2 = snapshot.isOpaque(fx + bxStep, fy + byStep, fz + bzStep);
+        boolean diagonal = snapshot.isOpaque(fx + ax + bxStep, fy + ay + byStep, fz + az + bzStep);
 
-        int[] offset = getFaceOffset(faceType);
-        int sampleX = blockX + offset[0];
-        int sampleY = blockY + offset[1];
-        int sampleZ = blockZ + offset[2];
+        int ao = side1 && side2 ? 0 : 3 - ((side1 ? 1 : 0) + (side2 ? 1 : 0) + (diagonal ? 1 : 0));
 
-        byte sunlight   = lightingSystem.getSunlightWithNeighbors(chunk, sampleX, sampleY, sampleZ);
-        byte blocklight = lightingSystem.getBlocklightWithNeighbors(chunk, sampleX, sampleY, sampleZ);
+        int i = ChunkSnapshot.index(fx, fy, fz);
+        float skySum = snapshot.getSkyLight(i), blockSum = snapshot.getBlockLight(i);
+        int count = 1;
+        if (!side1) {
+            i = ChunkSnapshot.index(fx + ax, fy + ay, fz + az);
+            skySum += snapshot.getSkyLight(i);
+            blockSum += snapshot.getBlockLight(i);
+            count++;
+        }
+        if (!side2) {
+            i = ChunkSnapshot.index(fx + bxStep, fy + byStep, fz + bzStep);
+            skySum += snapshot.getSkyLight(i);
+            blockSum += snapshot.getBlockLight(i);
+            count++;
+        }
+        if (!diagonal && ao != 0) {
+            i = ChunkSnapshot.index(fx + ax + bxStep, fy + ay + byStep, fz + az + bzStep);
+            skySum += snapshot.getSkyLight(i);
+            blockSum += snapshot.getBlockLight(i);
+            count++;
+        }
 
-        float effectiveSunLight = sunlight * dayNightCycle;
-        float maxLight = Math.max(effectiveSunLight, blocklight);
-        maxLight = Math.max(maxLight, 2.0f);
+        // The minimum brightness rides on block light, which the time of day doesn't scale
+        float occlusion = AO_CURVE[ao] / MAX_LIGHT;
+        skyOut[v] = skySum / count * occlusion;
+        blockOut[v] = Math.max(blockSum / count, MIN_LIGHT) * occlusion;
+    }
 
-        return maxLight / 15.0f;
+    /** Texture array layer of the block; 0 when meshing headless without the array (tools, benchmarks). */
+    private static float getTextureLayer(Block block) {
+        BlockTextureArray textures = BlockTextureArray.getDefault();
+        return textures != null ? textures.getLayer(block.getName()) : 0;
     }
 
-    private static int[] getFaceOffset(Quad.FaceType faceType) {
-        switch (faceType) {
-            case TOP_FACE:    return new int[]{ 0,  1,  0};
-            case BOTTOM_FACE: return new int[]{ 0, -1,  0};
-            case RIGHT_FACE:  return new int[]{ 1,  0,  0};
-            case LEFT_FACE:   return new int[]{-1,  0,  0};
-            case FRONT_FACE:  return new int[]{ 0,  0,  1};
-            case BACK_FACE:   return new int[]{ 0,  0, -1};
-            default:          return new int[]{ 0,  0,  0};
+    /** Flat lighting: sky and block light of the cell in front of the face, on all 4 corners. */
+    private static void setFlatLight(Chunk chunk, int blockX, int blockY, int blockZ,
+                                     Quad.FaceType faceType, float[] skyOut, float[] blockOut) {
+        float sky = 1.0f, block = MIN_LIGHT / MAX_LIGHT;
+        if (lightingSystem != null) {
+            int[] offset = getFaceOffset(faceType);
+            int sampleX = blockX + offset[0];
+            int sampleY = blockY + offset[1];
+            int sampleZ = blockZ + offset[2];
+
+            byte sunlight   = lightingSystem.getSunlightWithNeighbors(chunk, sampleX, sampleY, sampleZ);
+            byte blocklight = lightingSystem.getBlocklightWithNeighbors(chunk, sampleX, sampleY, sampleZ);
+            sky = sunlight / MAX_LIGHT;
+            block = Math.max(blocklight, MIN_LIGHT) / MAX_LIGHT;
+        }
+        for (int v = 0; v < ChunkGeometry.VERTICES_PER_QUAD; v++) {
+            skyOut[v] = sky;
+            blockOut[v] = block;
         }
     }
 
-    private static Mesh createMeshWithLighting(List<Float> vertices, List<Float> texCoords, List<Integer> indices) {
-        float[] positions = new float[(vertices.size() / 4) * 3];
-        float[] lighting  = new float[vertices.size() / 4];
+    private static final int[] UP = { 0, 1, 0 }, DOWN = { 0, -1, 0 }, EAST = { 1, 0, 0 },
+            WEST = { -1, 0, 0 }, SOUTH = { 0, 0, 1 }, NORTH = { 0, 0, -1 }, NONE = { 0, 0, 0 };
 
-        for (int i = 0; i < vertices.size() / 4; i++) {
-            positions[i * 3]     = vertices.get(i * 4);
-            positions[i * 3 + 1] = vertices.get(i * 4 + 1);
-            positions[i * 3 + 2] = vertices.get(i * 4 + 2);
-            lighting[i]          = vertices.get(i * 4 + 3);
+    /** Face normal as a block offset. Shared arrays, do not modify. */
+    private static int[] getFaceOffset(Quad.FaceType faceType) {
+        switch (faceType) {
+            case TOP_FACE:    return UP;
+            case BOTTOM_FACE: return DOWN;
+            case RIGHT_FACE:  return EAST;
+            case LEFT_FACE:   return WEST;
+            case FRONT_FACE:  return SOUTH;
+            case BACK_FACE:   return NORTH;
+            default:          return NONE;
         }
-
-        float[] texCoordArray = listToFloatArray(texCoords);
-        int[]   indexArray    = listToIntArray(indices);
-
-        return new LightedMesh(positions, texCoordArray, lighting, indexArray);
     }
 
-    private static float[] getFacePixels(Block block, Quad.FaceType faceType) {
+    static float[] getFacePixels(Block block, Quad.FaceType faceType) {
         switch (faceType) {
             case TOP_FACE:    return block.model.elements.get(0).faces.get("up").uv;
             case BOTTOM_FACE: return block.model.elements.get(0).faces.get("down").uv;
@@ -234,16 +372,4 @@ public class ChunkMesher {
             default:          return new float[]{0, 0, 16, 16};
         }
     }
-
-    private static float[] listToFloatArray(List<Float> list) {
-        float[] arr = new float[list.size()];
-        for (int i = 0; i < list.size(); i++) arr[i] = list.get(i);
-        return arr;
-    }
-
-    private static int[] listToIntArray(List<Integer> list) {
-        int[] arr = new int[list.size()];
-        for (int i = 0; i < list.size(); i++) arr[i] = list.get(i);
-        return arr;
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,102 @@
+package org.game.world;
+
+/**
+ * Copy of a chunk plus a one-voxel border from its neighbours (18 x 66 x 18),
+ * holding just what smooth lighting needs: opacity, sky light and block light per voxel.
+ *
+ * Per-vertex lighting reads up to 16 voxels per face, many of them across a
+ * chunk border. Reading them from the flat arrays here avoids a neighbour
+ * chunk lookup per voxel. One instance per thread is reused for every chunk,
+ * so the lighting pass doesn't allocate.
+ *
+ * This only covers lighting: face culling still reads neighbour blocks from
+ * the live world, and the mesher writes mesh bounds and section connectivity
+ * back into the chunk, so meshing still has to run on the render thread.
+ *
+ * Border rules: a missing neighbour chunk repeats the nearest column of this
+ * chunk, so borders don't darken before the neighbour arrives (it triggers a
+ * rebuild when it does). The layer above the world is open sky, and the layer
+ * below repeats y = 0.
+ */
+public class ChunkSnapshot {
+    public static final int SIZE_X = Chunk.SIZE_X + 2;
+    public static final int SIZE_Y = Chunk.SIZE_Y + 2;
+    public static final int SIZE_Z = Chunk.SIZE_Z + 2;
+    private static final float MAX_LIGHT = 15.0f;
+
+    private final boolean[] opaque = new boolean[SIZE_X * SIZE_Y * SIZE_Z];
+    private final float[] skyLight = new float[SIZE_X * SIZE_Y * SIZE_Z];
+    private final float[] blockLight = new float[SIZE_X * SIZE_Y * SIZE_Z];
+
+    /** Copies the chunk and its border. */
+    public void fill(World world, Chunk chunk) {
+        for (int x = -1; x <= Chunk.SIZE_X; x++) {
+            int dx = x < 0 ? -1 : x >= Chunk.SIZE_X ? 1 : 0;
+            // Each x slice reads from up to three chunks: z = -1, 0..15 and 16
+            for (int dz = -1; dz <= 1; dz++) {
+                int zFrom = dz < 0 ? -1 : dz == 0 ? 0 : Chunk.SIZE_Z;
+                int zTo = dz < 0 ? -1 : dz == 0 ? Chunk.SIZE_Z - 1 : Chunk.SIZE_Z;
+
+                Chunk source = chunk;
+                int sx = x, zShift = 0;
+                boolean clamp = false;
+                if (dx != 0 || dz != 0) {
+                    Chunk neighbor = world.getChunk(chunk.getChunkX() + dx, chunk.getChunkZ() + dz);
+                    if (neighbor != null) {
+                        source = neighbor;
+                        sx = x - dx * Chunk.SIZE_X;
+                        zShift = dz * Chunk.SIZE_Z;
+                    } else {
+                        sx = Math.clamp(x, 0, Chunk.SIZE_X - 1);
+                        clamp = true;
+                    }
+                }
+
+                // Row-wise copy in the chunk's own [x][y][z] order
+                for (int y = 0; y < Chunk.SIZE_Y; y++) {
+                    int[] ids = source.blockRow(sx, y);
+                    byte[] sun = source.sunlightRow(sx, y);
+                    byte[] block = source.blocklightRow(sx, y);
+                    int i = index(x, y, zFrom);
+                    for (int z = zFrom; z <= zTo; z++, i++) {
+                        int sz = clamp ? Math.clamp(z, 0, Chunk.SIZE_Z - 1) : z - zShift;
+                        opaque[i] = BlockRegistry.isOpaque(ids[sz]);
+                        skyLight[i] = sun[sz];
+                        blockLight[i] = block[sz];
+                    }
+                }
+            }
+
+            for (int z = -1; z <= Chunk.SIZE_Z; z++) {
+                int below = index(x, -1, z), bottom = index(x, 0, z);
+                opaque[below] = opaque[bottom];
+                skyLight[below] = skyLight[bottom];
+                blockLight[below] = blockLight[bottom];
+
+                int above = index(x, Chunk.SIZE_Y, z);
+                opaque[above] = false;
+                skyLight[above] = MAX_LIGHT;
+                blockLight[above] = 0;
+            }
+        }
+    }
+
+    /** Index of chunk-local (x, y, z); each coordinate may be one voxel outside the chunk. */
+    public static int index(int x, int y, int z) {
+        return ((x + 1) * SIZE_Y + (y + 1)) * SIZE_Z + (z + 1);
+    }
+
+    public boolean isOpaque(int x, int y, int z) {
+        return opaque[index(x, y, z)];
+    }
+
+    /** Sky light at an {@link #index}, 0..15. */
+    public float getSkyLight(int index) {
+        return skyLight[index];
+    }
+
+    /** Block light at an {@link #index}, 0..15. */
+    public float getBlockLight(int index) {
+        return blockLight[index];
+    }
+}
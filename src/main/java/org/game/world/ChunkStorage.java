@@ -0,0 +1,91 @@
+package org.game.world;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Chunks on disk, one deflated file per column: {@code <dir>/c.<cx>.<cz>.bin}.
+ *
+ * A file holds a magic, the chunk coordinates, then block ids, sunlight and
+ * block light in the chunk's own [x][y][z] order. Light is stored so a loaded
+ * chunk can be sent or meshed without relighting.
+ */
+public class ChunkStorage {
+    private static final int MAGIC = 0x43484B31; // "CHK1"
+
+    private final Path directory;
+
+    public ChunkStorage(Path directory) throws IOException {
+        this.directory = directory;
+        Files.createDirectories(directory);
+    }
+
+    public Path fileFor(int cx, int cz) {
+        return directory.resolve("c." + cx + "." + cz + ".bin");
+    }
+
+    public boolean exists(int cx, int cz) {
+        return Files.exists(fileFor(cx, cz));
+    }
+
+    /** Writes the chunk; safe to call for different chunks from several threads. */
+    public void save(Chunk chunk) throws IOException {
+        Path file = fileFor(chunk.getChunkX(), chunk.getChunkZ());
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (OutputStream os = Files.newOutputStream(temp);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new DeflaterOutputStream(os)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(chunk.getChunkX());
+            out.writeInt(chunk.getChunkZ());
+            for (int x = 0; x < Chunk.SIZE_X; x++) {
+                for (int y = 0; y < Chunk.SIZE_Y; y++) {
+                    for (int id : chunk.blockRow(x, y)) out.writeShort(id);
+                }
+            }
+            for (int x = 0; x < Chunk.SIZE_X; x++) {
+                for (int y = 0; y < Chunk.SIZE_Y; y++) {
+                    out.write(chunk.sunlightRow(x, y));
+                    out.write(chunk.blocklightRow(x, y));
+                }
+            }
+        }
+        // Replace in one step, so a crash never leaves a half-written chunk behind
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /** Reads a chunk written by {@link #save}, or returns null if there is none. */
+    public Chunk load(int cx, int cz) throws IOException {
+        Path file = fileFor(cx, cz);
+        if (!Files.exists(file)) return null;
+        try (InputStream is = Files.newInputStream(file);
+             DataInputStream in = new DataInputStream(new BufferedInputStream(new InflaterInputStream(is)))) {
+            if (in.readInt() != MAGIC || in.readInt() != cx || in.readInt() != cz) {
+                throw new IOException("Not a chunk file for " + cx + "," + cz + ": " + file);
+            }
+            Chunk chunk = new Chunk(cx, cz);
+            for (int x = 0; x < Chunk.SIZE_X; x++) {
+                for (int y = 0; y < Chunk.SIZE_Y; y++) {
+                    for (int z = 0; z < Chunk.SIZE_Z; z++) chunk.setBlock(x, y, z, in.readUnsignedShort());
+                }
+            }
+            for (int x = 0; x < Chunk.SIZE_X; x++) {
+                for (int y = 0; y < Chunk.SIZE_Y; y++) {
+                    in.readFully(chunk.sunlightRow(x, y));
+                    in.readFully(chunk.blocklightRow(x, y));
+                }
+            }
+            chunk.markLightingClean();
+            return chunk;
+        }
+    }
+}
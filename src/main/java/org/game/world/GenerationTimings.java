@@ -0,0 +1,33 @@
+package org.game.world;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Time spent per world-generation stage, summed over all chunks and threads.
+ * Filled by {@link WorldGenerator#generateChunk(Chunk, GenerationTimings)};
+ * lighting is timed by the caller, since it runs after neighbours exist.
+ */
+public class GenerationTimings {
+    private final LongAdder noiseNanos = new LongAdder();
+    private final LongAdder caveNanos = new LongAdder();
+    private final LongAdder fillNanos = new LongAdder();
+    private final LongAdder lightingNanos = new LongAdder();
+    private final LongAdder chunks = new LongAdder();
+
+    void add(long noise, long caves, long fill) {
+        noiseNanos.add(noise);
+        caveNanos.add(caves);
+        fillNanos.add(fill);
+        chunks.increment();
+    }
+
+    public void addLighting(long nanos) {
+        lightingNanos.add(nanos);
+    }
+
+    public long getNoiseNanos()    { return noiseNanos.sum(); }
+    public long getCaveNanos()     { return caveNanos.sum(); }
+    public long getFillNanos()     { return fillNanos.sum(); }
+    public long getLightingNanos() { return lightingNanos.sum(); }
+    public long getChunkCount()    { return chunks.sum(); }
+}
@@ -0,0 +1,137 @@
+package org.game.world;
+
+import org.game.meshes.ChunkGeometry;
+import org.game.meshes.Quad;
+import org.game.utils.BlockTextureArray;
+
+/**
+ * Builds low-detail terrain tiles straight from {@link WorldGenerator} height
+ * and biome data, with no chunk generation, lighting or block storage.
+ *
+ * A tile at level L covers 16x16 cells of {@code 2^L} x {@code 2^L} blocks.
+ * Each cell is one column: a top quad at the sampled surface height plus side
+ * walls wherever a neighbouring cell is lower. Cells on the tile border also
+ * hang a skirt below their walls. Next to a tile of another level, the two
+ * heightmaps don't meet exactly, and the skirt covers the crack.
+ *
+ * Below sea level the column is the sea floor, and a flat water quad at sea
+ * level goes into the water block's layer, so it is blended in the translucent
+ * pass like full-detail water.
+ *
+ * Output is the same per-{@link RenderLayer} {@link ChunkGeometry} the chunk
+ * mesher produces (world positions relative to the tile origin), so tiles share
+ * the chunk arena and shader. GL-free.
+ */
+public class LodMesher {
+    public static final int CELLS = 16;
+    private static final float FULL_SKY_LIGHT = 1.0f;
+    private static final float MIN_BLOCK_LIGHT = 2.0f / 15.0f; // same floor as ChunkMesher
+
+    private LodMesher() {
+    }
+
+    /** World-space edge length of a tile at the given level. */
+    public static int tileSize(int level) {
+        return CELLS << level;
+    }
+
+    /** Builds one tile, indexed by {@link RenderLayer} like {@link ChunkMesher#buildGeometry}. */
+    public static ChunkGeometry[] buildTile(WorldGenerator generator, int level, int tileX, int tileZ) {
+        int scale = 1 << level;
+        int originX = tileX * tileSize(level);
+        int originZ = tileZ * tileSize(level);
+
+        // Ground heights (top face Y) and surface blocks for the tile plus a one-cell border ring
+        int[] heights = new int[(CELLS + 2) * (CELLS + 2)];
+        int[] blocks = new int[(CELLS + 2) * (CELLS + 2)];
+        boolean[] underwater = new boolean[(CELLS + 2) * (CELLS + 2)];
+        for (int cz = -1; cz <= CELLS; cz++) {
+            for (int cx = -1; cx <= CELLS; cx++) {
+                int wx = originX + cx * scale + scale / 2;
+                int wz = originZ + cz * scale + scale / 2;
+                int surfaceY = generator.getSurfaceHeight(wx, wz);
+                int i = cellIndex(cx, cz);
+                heights[i] = surfaceY + 1;
+                blocks[i] = generator.getSurfaceBlock(generator.getBiomeAt(wx, wz), surfaceY);
+                // The full-detail generator fills with water up to sea level
+                underwater[i] = surfaceY < WorldGenerator.SEA_LEVEL;
+            }
+        }
+
+        ChunkGeometry[] layers = new ChunkGeometry[RenderLayer.COUNT];
+        layers[RenderLayer.OPAQUE.ordinal()] = new ChunkGeometry(CELLS * CELLS * 4 * 2);
+        layers[RenderLayer.CUTOUT.ordinal()] = new ChunkGeometry(0);
+        layers[RenderLayer.TRANSLUCENT.ordinal()] = new ChunkGeometry(0);
+        Block water = BlockRegistry.getBlock(BlockRegistry.getId("water"));
+        int waterTop = WorldGenerator.SEA_LEVEL + 1;
+        int skirt = scale + 1;
+        for (int cz = 0; cz < CELLS; cz++) {
+            for (int cx = 0; cx < CELLS; cx++) {
+                int i = cellIndex(cx, cz);
+                int top = heights[i];
+                float x0 = cx * scale, x1 = x0 + scale;
+                float z0 = cz * scale, z1 = z0 + scale;
+
+                if (underwater[i] && water != null) {
+                    // Flat surface only: neighbouring water cells are level, and shores have walls
+                    addQuad(layers[water.getRenderLayer().ordinal()], faceRect(water, Quad.FaceType.TOP_FACE),
+                            BlockTextureArray.getDefault().getLayer(water.getName()), 0, 1, 0,
+                            x0, waterTop, z0,  x1, waterTop, z0,  x1, waterTop, z1,  x0, waterTop, z1);
+                }
+
+                Block block = BlockRegistry.getBlock(blocks[i]);
+                if (block == null) continue;
+
+                // Columns are solid whatever the surface block, so they always go in the opaque layer
+                ChunkGeometry geometry = layers[RenderLayer.OPAQUE.ordinal()];
+                float layer = BlockTextureArray.getDefault().getLayer(block.getName());
+                float[] topUV = faceRect(block, Quad.FaceType.TOP_FACE);
+                addQuad(geometry, topUV, layer, 0, 1, 0,
+                        x0, top, z0,  x1, top, z0,  x1, top, z1,  x0, top, z1);
+
+                float[] sideUV = faceRect(block, Quad.FaceType.FRONT_FACE);
+                // -X, +X, -Z, +Z neighbours
+                addWall(geometry, sideUV, layer, -1, 0, top, heights[cellIndex(cx - 1, cz)], cx == 0 ? skirt : 0,
+                        x0, z0, x0, z1);
+                addWall(geometry, sideUV, layer, 1, 0, top, heights[cellIndex(cx + 1, cz)], cx == CELLS - 1 ? skirt : 0,
+                        x1, z0, x1, z1);
+                addWall(geometry, sideUV, layer, 0, -1, top, heights[cellIndex(cx, cz - 1)], cz == 0 ? skirt : 0,
+                        x0, z0, x1, z0);
+                addWall(geometry, sideUV, layer, 0, 1, top, heights[cellIndex(cx, cz + 1)], cz == CELLS - 1 ? skirt : 0,
+                        x0, z1, x1, z1);
+            }
+        }
+        return layers;
+    }
+
+    private static int cellIndex(int cx, int cz) {
+        return (cz + 1) * (CELLS + 2) + (cx + 1);
+    }
+
+    /** Vertical wall from the neighbour's surface (minus any skirt) up to this cell's top. */
+    private static void addWall(ChunkGeometry geometry, float[] uv, float layer, int nx, int nz,
+                                int top, int neighborTop, int skirt,
+                                float ax, float az, float bx, float bz) {
+        int bottom = Math.min(top, neighborTop) - skirt;
+        if (bottom >= top) return;
+        bottom = Math.max(0, bottom);
+        addQuad(geometry, uv, layer, nx, 0, nz,
+                ax, bottom, az,  bx, bottom, bz,  bx, top, bz,  ax, top, az);
+    }
+
+    /** One quad in Quad corner order (indices come from the shared quad pattern). */
+    private static void addQuad(ChunkGeometry geometry, float[] uv, float layer, float nx, float ny, float nz,
+                                float ax, float ay, float az, float bx, float by, float bz,
+                                float cx, float cy, float cz, float dx, float dy, float dz) {
+        geometry.addVertex(ax, ay, az, uv[0], uv[3], nx, ny, nz, FULL_SKY_LIGHT, MIN_BLOCK_LIGHT, layer);
+        geometry.addVertex(bx, by, bz, uv[2], uv[3], nx, ny, nz, FULL_SKY_LIGHT, MIN_BLOCK_LIGHT, layer);
+        geometry.addVertex(cx, cy, cz, uv[2], uv[1], nx, ny, nz, FULL_SKY_LIGHT, MIN_BLOCK_LIGHT, layer);
+        geometry.addVertex(dx, dy, dz, uv[0], uv[1], nx, ny, nz, FULL_SKY_LIGHT, MIN_BLOCK_LIGHT, layer);
+    }
+
+    /** UV rectangle {uMin, vMin, uMax, vMax} of one face within the block's texture layer. */
+    private static float[] faceRect(Block block, Quad.FaceType face) {
+        float[] pixels = ChunkMesher.getFacePixels(block, face);
+        return new float[] { pixels[0] / 16f, pixels[1] / 16f, pixels[2] / 16f, pixels[3] / 16f };
+    }
+}
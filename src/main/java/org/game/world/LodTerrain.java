@@ -0,0 +1,273 @@
+package org.game.world;
+
+import org.game.meshes.ChunkGeometry;
+import org.game.rendering.ChunkGeometryArena;
+import org.game.rendering.OcclusionCuller;
+import org.joml.Vector3f;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Distant terrain drawn as heightmap tiles (see {@link LodMesher}) in rings
+ * around the full-detail chunks.
+ *
+ * Each frame a quadtree is walked from level-{@value #MAX_LEVEL} root tiles
+ * around the player. A tile is split into its four children when it overlaps
+ * the full-detail square or the player is close to it, so detail drops off
+ * 1x -> 2x -> 4x -> 8x with distance and the leaves never overlap. Level-0
+ * leaves are single chunks: inside the full-detail square, a meshed chunk is
+ * left to WorldRenderer; otherwise (not streamed in yet, or just outside the
+ * square) a 1x heightmap tile stands in for it.
+ *
+ * As the player moves, the selection changes and new tiles are meshed nearest
+ * first, within a per-frame budget. Until a split tile's children are all
+ * built, the tile (or its nearest built ancestor) keeps being drawn in their
+ * place, so splits never open holes in the horizon. Tiles that stay
+ * unselected are evicted from the arena after a few seconds.
+ *
+ * Tiles are drawn in the opaque pass; their water is drawn afterwards in the
+ * translucent pass, farthest tile first.
+ */
+public class LodTerrain {
+    public static final int MAX_LEVEL = 3;
+    private static final int ROOT_RADIUS = 3;          // root tiles (128 blocks) around the player
+    private static final float SPLIT_DISTANCE = 1.5f;  // split when closer than this many tile sizes
+    private static final int BUILDS_PER_FRAME = 2;
+    private static final int EVICT_AFTER_FRAMES = 300;
+    private static final int EVICT_CHECK_INTERVAL = 60;
+
+    private final Map<String, Tile> tiles = new HashMap<>();
+    private final List<Tile> selected = new ArrayList<>();
+    private final List<Tile> pendingBuilds = new ArrayList<>();
+    private final List<Tile> drawnWaterTiles = new ArrayList<>();
+    private final Vector3f tileOrigin = new Vector3f();
+    private int frame;
+    private int drawnTileCount;
+
+    // Full-detail square (chunk coords) for the current frame
+    private int detailMinX, detailMaxX, detailMinZ, detailMaxZ;
+    private float eyeX, eyeZ;
+    private int fullDetailChunks; // meshed chunks met by select() so far this frame
+
+    /** Picks this frame's tiles and meshes up to the per-frame budget of missing ones. */
+    public void update(World world, Vector3f eye, ChunkGeometryArena arena) {
+        frame++;
+        eyeX = eye.x;
+        eyeZ = eye.z;
+        int eyeChunkX = Math.floorDiv((int) Math.floor(eye.x), Chunk.SIZE_X);
+        int eyeChunkZ = Math.floorDiv((int) Math.floor(eye.z), Chunk.SIZE_Z);
+        int viewDistance = world.getViewDistance();
+        detailMinX = eyeChunkX - viewDistance;
+        detailMaxX = eyeChunkX + viewDistance;
+        detailMinZ = eyeChunkZ - viewDistance;
+        detailMaxZ = eyeChunkZ + viewDistance;
+
+        selected.clear();
+        fullDetailChunks = 0;
+        pendingBuilds.clear();
+        int rootSize = LodMesher.tileSize(MAX_LEVEL);
+        int rootX = Math.floorDiv((int) Math.floor(eye.x), rootSize);
+        int rootZ = Math.floorDiv((int) Math.floor(eye.z), rootSize);
+        for (int dx = -ROOT_RADIUS; dx <= ROOT_RADIUS; dx++) {
+            for (int dz = -ROOT_RADIUS; dz <= ROOT_RADIUS; dz++) {
+                select(world, MAX_LEVEL, rootX + dx, rootZ + dz);
+            }
+        }
+
+        pendingBuilds.sort(Comparator.comparingDouble(this::distanceSq));
+        for (int i = 0; i < pendingBuilds.size() && i < BUILDS_PER_FRAME; i++) {
+            build(world, arena, pendingBuilds.get(i));
+        }
+
+        if (frame % EVICT_CHECK_INTERVAL == 0) evictStale();
+    }
+
+    /**
+     * Selects the tiles drawn for this area. Returns whether the area is fully
+     * covered this frame by built tiles or meshed chunks.
+     */
+    private boolean select(World world, int level, int tileX, int tileZ) {
+        int span = 1 << level; // chunks per tile edge
+        int minCX = tileX * span, maxCX = minCX + span - 1;
+        int minCZ = tileZ * span, maxCZ = minCZ + span - 1;
+
+        if (level == 0) {
+            boolean inDetail = minCX >= detailMinX && minCX <= detailMaxX && minCZ >= detailMinZ && minCZ <= detailMaxZ;
+            Chunk chunk = inDetail ? world.getChunk(minCX, minCZ) : null;
+            if (chunk != null && chunk.isMeshBuilt()) {
+                fullDetailChunks++;
+                return true; // full detail
+            }
+            return use(0, tileX, tileZ).built;
+        }
+
+        boolean overlapsDetail = maxCX >= detailMinX && minCX <= detailMaxX && maxCZ >= detailMinZ && minCZ <= detailMaxZ;
+        int size = LodMesher.tileSize(level);
+        float centerX = tileX * size + size * 0.5f, centerZ = tileZ * size + size * 0.5f;
+        float dx = centerX - eyeX, dz = centerZ - eyeZ;
+        boolean near = dx * dx + dz * dz < (SPLIT_DISTANCE * size) * (SPLIT_DISTANCE * size);
+
+        if (overlapsDetail || near) {
+            int firstChild = selected.size();
+            int firstDetail = fullDetailChunks;
+            // Non-short-circuit: every child must be selected (and queued for building)
+            boolean covered = select(world, level - 1, tileX * 2, tileZ * 2)
+                    & select(world, level - 1, tileX * 2 + 1, tileZ * 2)
+                    & select(world, level - 1, tileX * 2, tileZ * 2 + 1)
+                    & select(world, level - 1, tileX * 2 + 1, tileZ * 2 + 1);
+            // Never drawn over meshed full-detail chunks, where a coarse tile would z-fight them
+            if (covered || fullDetailChunks != firstDetail) return covered;
+
+            // FIX: a split into unbuilt children left a hole until they were built. Keep
+            // drawing this tile instead; if it isn't built either, returning false lets
+            // the nearest built ancestor do the same one level up.
+            Tile self = tiles.get(key(level, tileX, tileZ));
+            if (self == null || !self.built) return false;
+            selected.subList(firstChild, selected.size()).clear();
+            self.lastUsedFrame = frame;
+            selected.add(self);
+            return true;
+        } else {
+            Tile tile = use(level, tileX, tileZ);
+            return tile.built || childrenBuilt(tile);
+        }
+    }
+
+    private Tile use(int level, int tileX, int tileZ) {
+        String key = key(level, tileX, tileZ);
+        Tile tile = tiles.get(key);
+        if (tile == null) {
+            tile = new Tile(level, tileX, tileZ);
+            tiles.put(key, tile);
+        }
+        tile.lastUsedFrame = frame;
+        selected.add(tile);
+        if (!tile.built) pendingBuilds.add(tile);
+        return tile;
+    }
+
+    private static String key(int level, int tileX, int tileZ) {
+        return level + "," + tileX + "," + tileZ;
+    }
+
+    private Tile child(Tile tile, int c) {
+        return tiles.get(key(tile.level - 1, tile.tileX * 2 + (c & 1), tile.tileZ * 2 + (c >> 1)));
+    }
+
+    private boolean childrenBuilt(Tile tile) {
+        if (tile.level == 0) return false;
+        for (int c = 0; c < 4; c++) {
+            Tile child = child(tile, c);
+            if (child == null || !child.built) return false;
+        }
+        return true;
+    }
+
+    private void build(World world, ChunkGeometryArena arena, Tile tile) {
+        ChunkGeometry[] layers = LodMesher.buildTile(world.getGenerator(), tile.level, tile.tileX, tile.tileZ);
+        int size = LodMesher.tileSize(tile.level);
+        tileOrigin.set(tile.tileX * size, 0, tile.tileZ * size);
+        for (RenderLayer layer : RenderLayer.values()) {
+            tile.geometry[layer.ordinal()] = arena.upload(layers[layer.ordinal()], tileOrigin);
+        }
+        tile.built = true;
+    }
+
+    /**
+     * Queues the opaque layer of the selected tiles that pass the
+     * frustum test. A tile still waiting to be meshed is covered by its
+     * already-built children, if any, so zooming out does not leave holes.
+     * Zooming in is handled in {@link #select}: a tile stays selected until all
+     * four of its children are built.
+     */
+    public void queueVisible(ChunkGeometryArena arena, OcclusionCuller.BoxTest frustum) {
+        drawnTileCount = 0;
+        drawnWaterTiles.clear();
+        for (int i = 0; i < selected.size(); i++) {
+            Tile tile = selected.get(i);
+            if (tile.built) {
+                queueTile(arena, frustum, tile);
+            } else if (tile.level > 0) {
+                for (int c = 0; c < 4; c++) {
+                    Tile child = child(tile, c);
+                    if (child != null && child.built) {
+                        child.lastUsedFrame = frame;
+                        queueTile(arena, frustum, child);
+                    }
+                }
+            }
+        }
+    }
+
+    private void queueTile(ChunkGeometryArena arena, OcclusionCuller.BoxTest frustum, Tile tile) {
+        int size = LodMesher.tileSize(tile.level);
+        float minX = tile.tileX * size, minZ = tile.tileZ * size;
+        if (!frustum.isVisible(minX, 0, minZ, minX + size, Chunk.SIZE_Y, minZ + size)) return;
+        ChunkGeometryArena.Allocation opaque = tile.geometry[RenderLayer.OPAQUE.ordinal()];
+        if (opaque != null) arena.queue(opaque, ChunkGeometryArena.ALL_SECTIONS);
+        if (tile.geometry[RenderLayer.TRANSLUCENT.ordinal()] != null) drawnWaterTiles.add(tile);
+        drawnTileCount++;
+    }
+
+    /**
+     * Queues the translucent layer (water) of the tiles drawn by the last
+     * {@link #queueVisible} call, farthest first. Call before queueing the
+     * chunks' translucent layers, which are nearer.
+     */
+    public void queueTranslucent(ChunkGeometryArena arena) {
+        drawnWaterTiles.sort(Comparator.comparingDouble(this::distanceSq).reversed());
+        for (int i = 0; i < drawnWaterTiles.size(); i++) {
+            arena.queue(drawnWaterTiles.get(i).geometry[RenderLayer.TRANSLUCENT.ordinal()], ChunkGeometryArena.ALL_SECTIONS);
+        }
+    }
+
+    private void evictStale() {
+        Iterator<Tile> it = tiles.values().iterator();
+        while (it.hasNext()) {
+            Tile tile = it.next();
+            if (frame - tile.lastUsedFrame > EVICT_AFTER_FRAMES) {
+                for (ChunkGeometryArena.Allocation geometry : tile.geometry) {
+                    if (geometry != null) geometry.free();
+                }
+                it.remove();
+            }
+        }
+    }
+
+    private double distanceSq(Tile tile) {
+        int size = LodMesher.tileSize(tile.level);
+        double dx = tile.tileX * size + size * 0.5 - eyeX;
+        double dz = tile.tileZ * size + size * 0.5 - eyeZ;
+        return dx * dx + dz * dz;
+    }
+
+    public int getTileCount() {
+        return tiles.size();
+    }
+
+    public int getDrawnTileCount() {
+        return drawnTileCount;
+    }
+
+    public int getPendingBuildCount() {
+        return Math.max(0, pendingBuilds.size() - BUILDS_PER_FRAME);
+    }
+
+    private static class Tile {
+        final int level, tileX, tileZ;
+        final ChunkGeometryArena.Allocation[] geometry = new ChunkGeometryArena.Allocation[RenderLayer.COUNT];
+        boolean built;
+        int lastUsedFrame;
+
+        Tile(int level, int tileX, int tileZ) {
+            this.level = level;
+            this.tileX = tileX;
+            this.tileZ = tileZ;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package org.game.world;
+
+/**
+ * Which chunk pass a block's faces are drawn in.
+ *
+ *  - OPAQUE: solid blocks, blending off, no alpha test
+ *  - CUTOUT: fully opaque or fully clear texels (alpha-tested), blending off
+ *  - TRANSLUCENT: blended (water); drawn last, back to front, without depth writes
+ */
+public enum RenderLayer {
+    OPAQUE, CUTOUT, TRANSLUCENT;
+
+    public static final int COUNT = values().length;
+}
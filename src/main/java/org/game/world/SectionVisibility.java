@@ -0,0 +1,142 @@
+package org.game.world;
+
+/**
+ * Face-to-face connectivity of a 16x16x16 chunk section, used by the
+ * occlusion culler to decide whether a view ray entering through one face can
+ * leave through another.
+ *
+ * Computed at mesh time by flood-filling the section's see-through voxels: every
+ * connected pocket of air links all the section faces it touches. A section of
+ * solid stone links nothing, so sight lines stop there; a cave that runs from
+ * the west face to the east face links only those two.
+ *
+ * The result is a 36-bit mask, bit (a * 6 + b) set when face a connects to face b.
+ */
+public final class SectionVisibility {
+    public static final int SECTION_SIZE = 16;
+    public static final int SECTIONS = Chunk.SIZE_Y / SECTION_SIZE;
+
+    // Face indices; opposite(f) == f ^ 1
+    public static final int DOWN = 0, UP = 1, NORTH = 2, SOUTH = 3, WEST = 4, EAST = 5;
+    public static final int FACE_COUNT = 6;
+    public static final int[] FACE_DX = { 0, 0,  0, 0, -1, 1 };
+    public static final int[] FACE_DY = { -1, 1, 0, 0,  0, 0 };
+    public static final int[] FACE_DZ = { 0, 0, -1, 1,  0, 0 };
+
+    /** Every face connected to every face: an empty or all-transparent section. */
+    public static final long ALL_CONNECTED = (1L << (FACE_COUNT * FACE_COUNT)) - 1;
+
+    private static final int VOXELS = SECTION_SIZE * SECTION_SIZE * SECTION_SIZE;
+    /** Length of the scratch arrays taken by {@link #computeAll(Chunk, boolean[], int[])}. */
+    public static final int SCRATCH_SIZE = VOXELS;
+
+    private SectionVisibility() {
+    }
+
+    public static int opposite(int face) {
+        return face ^ 1;
+    }
+
+    public static boolean isConnected(long connectivity, int from, int to) {
+        return (connectivity & (1L << (from * FACE_COUNT + to))) != 0;
+    }
+
+    /** Connectivity masks for every section of the chunk, bottom to top. */
+    public static long[] computeAll(Chunk chunk) {
+        return computeAll(chunk, new boolean[VOXELS], new int[VOXELS]);
+    }
+
+    /**
+     * Same as {@link #computeAll(Chunk)} with caller-owned scratch arrays of
+     * {@link #SCRATCH_SIZE} entries, so repeated calls don't allocate them.
+     */
+    public static long[] computeAll(Chunk chunk, boolean[] visited, int[] queue) {
+        long[] result = new long[SECTIONS];
+        for (int s = 0; s < SECTIONS; s++) {
+            result[s] = compute(chunk, s, visited, queue);
+        }
+        return result;
+    }
+
+    /**
+     * @param visited scratch array of {@code 16^3} entries, cleared here
+     * @param queue   scratch array of {@code 16^3} entries
+     */
+    static long compute(Chunk chunk, int section, boolean[] visited, int[] queue) {
+        int baseY = section * SECTION_SIZE;
+        int opaqueCount = 0;
+        for (int i = 0; i < VOXELS; i++) {
+            int x = i >> 8, y = (i >> 4) & 15, z = i & 15;
+            boolean open = chunk.isSeeThrough(x, baseY + y, z);
+            visited[i] = !open; // opaque voxels never get flooded
+            if (!open) opaqueCount++;
+        }
+        if (opaqueCount == 0) return ALL_CONNECTED;
+        // Fewer than one full 16x16 wall of opaque voxels can't separate any two faces
+        if (opaqueCount < SECTION_SIZE * SECTION_SIZE) return ALL_CONNECTED;
+
+        long connectivity = 0;
+        // Only pockets that touch the boundary matter, so seed from boundary voxels
+        for (int i = 0; i < VOXELS; i++) {
+            if (visited[i] || !isOnBoundary(i)) continue;
+            int faces = flood(i, visited, queue);
+            connectivity |= linkFaces(faces);
+        }
+        return connectivity;
+    }
+
+    /** Floods one pocket starting at {@code start}; returns the bit set of faces it touches. */
+    private static int flood(int start, boolean[] visited, int[] queue) {
+        int head = 0, tail = 0;
+        queue[tail++] = start;
+        visited[start] = true;
+        int faces = 0;
+
+        while (head < tail) {
+            int i = queue[head++];
+            int x = i >> 8, y = (i >> 4) & 15, z = i & 15;
+            faces |= boundaryFaces(x, y, z);
+
+            if (x > 0)  tail = visit(i - 256, visited, queue, tail);
+            if (x < 15) tail = visit(i + 256, visited, queue, tail);
+            if (y > 0)  tail = visit(i - 16,  visited, queue, tail);
+            if (y < 15) tail = visit(i + 16,  visited, queue, tail);
+            if (z > 0)  tail = visit(i - 1,   visited, queue, tail);
+            if (z < 15) tail = visit(i + 1,   visited, queue, tail);
+        }
+        return faces;
+    }
+
+    private static int visit(int i, boolean[] visited, int[] queue, int tail) {
+        if (visited[i]) return tail;
+        visited[i] = true;
+        queue[tail] = i;
+        return tail + 1;
+    }
+
+    private static boolean isOnBoundary(int i) {
+        return boundaryFaces(i >> 8, (i >> 4) & 15, i & 15) != 0;
+    }
+
+    private static int boundaryFaces(int x, int y, int z) {
+        int faces = 0;
+        if (y == 0)  faces |= 1 << DOWN;
+        if (y == 15) faces |= 1 << UP;
+        if (z == 0)  faces |= 1 << NORTH;
+        if (z == 15) faces |= 1 << SOUTH;
+        if (x == 0)  faces |= 1 << WEST;
+        if (x == 15) faces |= 1 << EAST;
+        return faces;
+    }
+
+    private static long linkFaces(int faces) {
+        long links = 0;
+        for (int a = 0; a < FACE_COUNT; a++) {
+            if ((faces & (1 << a)) == 0) continue;
+            for (int b = 0; b < FACE_COUNT; b++) {
+                if ((faces & (1 << b)) != 0) links |= 1L << (a * FACE_COUNT + b);
+            }
+        }
+        return links;
+    }
+}
@@ -1,6 +1,12 @@
 package org.game.world;
 
+import java.io.IOException;
 import java.util.*;
+import org.engine.metrics.Counter;
+import org.engine.metrics.Metrics;
+import org.engine.profiling.jfr.ChunkGeneratedEvent;
+import org.engine.utils.LatencyHistogram;
+import org.engine.utils.Log;
 import org.joml.Vector3f;
 
 /**
@@ -9,17 +15,32 @@ import org.joml.Vector3f;
  */
 public class World {
     private HashMap<String, Chunk> chunks;
-    private int viewDistance = 6;
-    private final WorldGenerator generator = new WorldGenerator(4000);
+    public static final int DEFAULT_SEED = 4000;
+
+    private static final Counter chunksGenerated = Metrics.counter("world.chunks_generated");
+    private static final LatencyHistogram generateTime = Metrics.histogram("world.generate_chunk");
+    private static final Counter chunksRead = Metrics.counter("world.chunks_read");
 
-    // FIX: Track which chunk keys have already been sent to the client.
-    // Without this, GenerateNewChunks re-sends every chunk in view on every
-    // player move, which floods the client with LoadSingleChunkCommands and
-    // causes every already-meshed chunk to be replaced and re-meshed.
-    private final Set<String> sentChunkKeys = new HashSet<>();
+    private int viewDistance = 6;
+    private final WorldGenerator generator;
+    private ChunkStorage storage; // optional pre-generated chunks, read before generating
 
     public World() {
+        this(DEFAULT_SEED);
+    }
+
+    public World(int seed) {
         chunks = new HashMap<>();
+        generator = new WorldGenerator(seed);
+    }
+
+    /**
+     * Reads chunks from this storage when present (e.g. written by
+     * {@code WorldPregen --out}) instead of generating them. The chunks must
+     * have been generated with the same seed.
+     */
+    public void setStorage(ChunkStorage storage) {
+        this.storage = storage;
     }
 
     public void generateNewChunks(Vector3f playerPosition) {
@@ -34,9 +55,7 @@ public class World {
                 String chunkKey = key(targetChunkX, targetChunkZ);
 
                 if (!chunks.containsKey(chunkKey)) {
-                    Chunk chunk = new Chunk(targetChunkX, targetChunkZ);
-                    generator.generateChunk(chunk);
-                    chunks.put(chunkKey, chunk);
+                    chunks.put(chunkKey, loadOrGenerate(targetChunkX, targetChunkZ));
                 }
             }
         }
@@ -45,58 +64,25 @@ public class World {
     public void generateInitialChunks() {
         for (int cx = -15; cx < 15; cx++) {
             for (int cz = -15; cz < 15; cz++) {
-                Chunk chunk = new Chunk(cx, cz);
-                generator.generateChunk(chunk);
-                chunks.put(key(cx, cz), chunk);
+                chunks.put(key(cx, cz), loadOrGenerate(cx, cz));
             }
         }
     }
 
-    /**
-     * FIX: Returns only chunks that exist but have NOT been sent to the client yet.
-     * Call markChunkSent() for each one after you actually send it.
-     * This is the key method GenerateNewChunks should use instead of getAllChunks().
-     */
-    public List<Chunk> getNewChunksNear(int playerChunkX, int playerChunkZ) {
-        List<Chunk> newChunks = new ArrayList<>();
-
-        for (int x = -viewDistance; x <= viewDistance; x++) {
-            for (int z = -viewDistance; z <= viewDistance; z++) {
-                int targetX = playerChunkX + x;
-                int targetZ = playerChunkZ + z;
-                String chunkKey = key(targetX, targetZ);
-
-                Chunk chunk = chunks.get(chunkKey);
-                if (chunk != null && !sentChunkKeys.contains(chunkKey)) {
-                    newChunks.add(chunk);
-                }
-            }
-        }
-
-        return newChunks;
-    }
-
-    /** Mark a chunk as already sent so it won't be returned by getNewChunksNear again. */
-    public void markChunkSent(Chunk chunk) {
-        sentChunkKeys.add(key(chunk.getChunkX(), chunk.getChunkZ()));
-    }
-
-    /** Call this if you want to force-resend a chunk (e.g. after a block change). */
-    public void markChunkUnsent(int chunkX, int chunkZ) {
-        sentChunkKeys.remove(key(chunkX, chunkZ));
-    }
-
     public void copyFrom(World other) {
         this.chunks.clear();
-        this.sentChunkKeys.clear();
         for (Map.Entry<String, Chunk> entry : other.chunks.entrySet()) {
             this.chunks.put(entry.getKey(), entry.getValue().clone());
         }
-        this.sentChunkKeys.addAll(other.sentChunkKeys);
         this.viewDistance = other.viewDistance;
     }
 
     private String key(int cx, int cz) {
+        return chunkKey(cx, cz);
+    }
+
+    /** Map key used for a chunk column; shared with server-side chunk tracking. */
+    public static String chunkKey(int cx, int cz) {
         return cx + "," + cz;
     }
 
@@ -113,6 +99,15 @@ public class World {
         return BlockRegistry.getBlock(id);
     }
 
+    /** Raw block id at a world position; 0 for air or unloaded/out-of-range positions. */
+    public int getBlockIdAt(int worldX, int worldY, int worldZ) {
+        int chunkX = Math.floorDiv(worldX, Chunk.SIZE_X);
+        int chunkZ = Math.floorDiv(worldZ, Chunk.SIZE_Z);
+        Chunk chunk = chunks.get(key(chunkX, chunkZ));
+        if (chunk == null) return 0;
+        return chunk.getBlock(worldX - chunkX * Chunk.SIZE_X, worldY, worldZ - chunkZ * Chunk.SIZE_Z);
+    }
+
     public Chunk setBlockAt(int worldX, int worldY, int worldZ, int blockId) {
         int chunkX = Math.floorDiv(worldX, Chunk.SIZE_X);
         int chunkZ = Math.floorDiv(worldZ, Chunk.SIZE_Z);
@@ -126,6 +121,57 @@ public class World {
         return chunk;
     }
 
+    /**
+     * Returns the chunk at the given chunk coordinates, generating it first if it
+     * does not exist yet. Used by chunk streaming so only chunks that are actually
+     * about to be sent pay the generation cost. Pre-generated chunks in the
+     * {@link #setStorage storage} are read instead.
+     */
+    public Chunk getOrGenerateChunk(int cx, int cz) {
+        String chunkKey = key(cx, cz);
+        Chunk chunk = chunks.get(chunkKey);
+        if (chunk == null) {
+            chunk = loadOrGenerate(cx, cz);
+            chunks.put(chunkKey, chunk);
+        }
+        return chunk;
+    }
+
+    private Chunk loadOrGenerate(int cx, int cz) {
+        if (storage != null) {
+            try {
+                Chunk chunk = storage.load(cx, cz);
+                if (chunk != null) {
+                    chunksRead.increment();
+                    return chunk;
+                }
+            } catch (IOException e) {
+                Log.warn("Generating chunk {} instead of reading it: {}", key(cx, cz), e.getMessage());
+            }
+        }
+        return generate(cx, cz);
+    }
+
+    private Chunk generate(int cx, int cz) {
+        ChunkGeneratedEvent event = new ChunkGeneratedEvent();
+        event.begin();
+        long start = System.nanoTime();
+        Chunk chunk = new Chunk(cx, cz);
+        generator.generateChunk(chunk);
+        generateTime.record(System.nanoTime() - start);
+        chunksGenerated.increment();
+        if (event.shouldCommit()) {
+            event.set(cx, cz);
+            event.commit();
+        }
+        return chunk;
+    }
+
+    /** Removes a chunk from this world and returns it, or null if it was not loaded. */
+    public Chunk removeChunk(int cx, int cz) {
+        return chunks.remove(key(cx, cz));
+    }
+
     public List<Chunk> getAllChunks() {
         return new ArrayList<>(chunks.values());
     }
@@ -151,6 +197,10 @@ public class World {
         return visible;
     }
 
+    public WorldGenerator getGenerator() {
+        return generator;
+    }
+
     public int getViewDistance() {
         return viewDistance;
     }
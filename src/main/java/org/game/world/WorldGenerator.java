@@ -8,7 +8,8 @@ public class WorldGenerator {
     private final FastNoiseLite biomeNoise;
     private final FastNoiseLite caveNoise; // NEW: Added back for cave generation
 
-    private static final int SEA_LEVEL = 20;
+    public static final int SEA_LEVEL = 20;
+    private static final int BIOME_BLEND_RADIUS = 2;
 
     public WorldGenerator(int seed) {
         this.seed = seed;
@@ -44,80 +45,117 @@ public class WorldGenerator {
         }
     }
 
+    /**
+     * Height of the topmost solid block of the column, from biome-blended base
+     * height plus terrain noise. Needs no chunk, so distant LOD terrain can
+     * sample it directly without generating anything.
+     */
+    public int getSurfaceHeight(int worldX, int worldZ) {
+        // 1. Smooth biome blending
+        float blendedBaseHeight = 0;
+        float blendedVariation = 0;
+        float totalSampleCount = 0;
+
+        for (int bx = -BIOME_BLEND_RADIUS; bx <= BIOME_BLEND_RADIUS; bx++) {
+            for (int bz = -BIOME_BLEND_RADIUS; bz <= BIOME_BLEND_RADIUS; bz++) {
+                BiomeConfig neighbor = getBiomeAt(worldX + bx, worldZ + bz);
+                blendedBaseHeight += neighbor.baseHeight;
+                blendedVariation += neighbor.heightVariation;
+                totalSampleCount++;
+            }
+        }
+
+        float finalBaseHeight = blendedBaseHeight / totalSampleCount;
+        float finalVariation = blendedVariation / totalSampleCount;
+
+        // 2. Get underlying structural height noise
+        float rawHeightNoise = (terrainNoise.GetNoise(worldX * 0.2f, worldZ * 0.2f) + 1.0f) / 2.0f;
+        float curvedNoise = (float) Math.pow(rawHeightNoise, 2.0);
+
+        // 3. Calculate final surface height
+        int surfaceY = (int) (finalBaseHeight + (curvedNoise * finalVariation));
+        return Math.max(1, Math.min(surfaceY, Chunk.SIZE_Y - 1));
+    }
+
+    /** Block placed at {@code surfaceY} for a column of the given biome. */
+    public int getSurfaceBlock(BiomeConfig biome, int surfaceY) {
+        if (surfaceY < SEA_LEVEL + 1 && biome == BiomeConfig.PLAINS) {
+            return BiomeConfig.DESERT.surfaceBlock;
+        }
+        return biome.surfaceBlock;
+    }
+
     public void generateChunk(Chunk chunk) {
+        generateChunk(chunk, null);
+    }
+
+    /**
+     * Fills a chunk in three passes: per-column noise (biome + surface height),
+     * the solid/water fill, then carving caves out of the deep core. With a
+     * non-null {@code timings}, the time spent in each pass is added to it;
+     * safe to call from several threads at once.
+     */
+    public void generateChunk(Chunk chunk, GenerationTimings timings) {
         int chunkWorldX = chunk.getChunkX() * Chunk.SIZE_X;
         int chunkWorldZ = chunk.getChunkZ() * Chunk.SIZE_Z;
-        int blendRadius = 2; 
-
+        int dirt = BlockRegistry.getId("dirt");
+        int water = BlockRegistry.getId("water");
+        int air = BlockRegistry.getId("air");
+
+        // 1. Noise: biome and surface height per column
+        long start = timings != null ? System.nanoTime() : 0;
+        int[] surfaceBlocks = new int[Chunk.SIZE_X * Chunk.SIZE_Z];
+        int[] surfaceHeights = new int[Chunk.SIZE_X * Chunk.SIZE_Z];
         for (int x = 0; x < Chunk.SIZE_X; x++) {
             for (int z = 0; z < Chunk.SIZE_Z; z++) {
                 int worldX = chunkWorldX + x;
                 int worldZ = chunkWorldZ + z;
+                int surfaceY = getSurfaceHeight(worldX, worldZ);
+                surfaceHeights[x * Chunk.SIZE_Z + z] = surfaceY;
+                surfaceBlocks[x * Chunk.SIZE_Z + z] = getSurfaceBlock(getBiomeAt(worldX, worldZ), surfaceY);
+            }
+        }
 
-                // 1. Determine Biome & Smooth Blending
-                BiomeConfig primaryBiome = getBiomeAt(worldX, worldZ);
-                float blendedBaseHeight = 0;
-                float blendedVariation = 0;
-                float totalSampleCount = 0;
-
-                for (int bx = -blendRadius; bx <= blendRadius; bx++) {
-                    for (int bz = -blendRadius; bz <= blendRadius; bz++) {
-                        BiomeConfig neighbor = getBiomeAt(worldX + bx, worldZ + bz);
-                        blendedBaseHeight += neighbor.baseHeight;
-                        blendedVariation += neighbor.heightVariation;
-                        totalSampleCount++;
-                    }
-                }
-
-                float finalBaseHeight = blendedBaseHeight / totalSampleCount;
-                float finalVariation = blendedVariation / totalSampleCount;
-
-                // 2. Get underlying structural height noise
-                float rawHeightNoise = (terrainNoise.GetNoise(worldX * 0.2f, worldZ * 0.2f) + 1.0f) / 2.0f;
-                float curvedNoise = (float) Math.pow(rawHeightNoise, 2.0); 
-
-                // 3. Calculate final surface height
-                int surfaceY = (int) (finalBaseHeight + (curvedNoise * finalVariation));
-                surfaceY = Math.max(1, Math.min(surfaceY, Chunk.SIZE_Y - 1));
-
-                // 4. Fill Column along the Y axis
+        // 2. Fill: dirt bedrock floor and core, surface block, water up to sea level
+        long noiseEnd = timings != null ? System.nanoTime() : 0;
+        for (int x = 0; x < Chunk.SIZE_X; x++) {
+            for (int z = 0; z < Chunk.SIZE_Z; z++) {
+                int surfaceY = surfaceHeights[x * Chunk.SIZE_Z + z];
                 for (int y = 0; y < Chunk.SIZE_Y; y++) {
-                    if (y == 0) {
-                        // Bedrock Floor
-                        chunk.setBlock(x, y, z, BlockRegistry.getId("dirt"));
-                    } else if (y < surfaceY - 4) {
-                        // DEEP UNDERGROUND CORE: Carve caves here
-                        
-                        // We sample noise using X, Y, and Z. This creates 3D worm-like tunnels.
-                        float caveSample = caveNoise.GetNoise(worldX * 0.5f, y * 0.9f, worldZ * 0.5f);
-                        
-                        // If the noise value is high (above 0.55), we turn the dirt into air!
-                        if (caveSample > 0.44f) {
-                            chunk.setBlock(x, y, z, BlockRegistry.getId("air")); 
-                        } else {
-                            chunk.setBlock(x, y, z, BlockRegistry.getId("dirt"));
-                        }
-
-                    } else if (y < surfaceY) {
-                        // Sub-surface filler layer (Safe zone, no caves puncture here)
-                        chunk.setBlock(x, y, z, BlockRegistry.getId("dirt"));
+                    int id;
+                    if (y < surfaceY) {
+                        id = dirt;
                     } else if (y == surfaceY) {
-                        // Topmost layer
-                        if (surfaceY < SEA_LEVEL + 1 && primaryBiome == BiomeConfig.PLAINS) {
-                            chunk.setBlock(x, y, z, BiomeConfig.DESERT.surfaceBlock);
-                        } else {
-                            chunk.setBlock(x, y, z, primaryBiome.surfaceBlock);
-                        }
+                        id = surfaceBlocks[x * Chunk.SIZE_Z + z];
                     } else {
-                        // Above surface terrain
-                        if (y <= SEA_LEVEL) {
-                            chunk.setBlock(x, y, z, BlockRegistry.getId("water"));
-                        } else {
-                            chunk.setBlock(x, y, z, BlockRegistry.getId("air"));
-                        }
+                        id = y <= SEA_LEVEL ? water : air;
                     }
+                    chunk.setBlock(x, y, z, id);
                 }
             }
         }
+
+        // 3. Caves: carve the deep core (below surfaceY - 4, above the floor) with 3D noise.
+        // The sub-surface layer is never punctured.
+        long fillEnd = timings != null ? System.nanoTime() : 0;
+        for (int x = 0; x < Chunk.SIZE_X; x++) {
+            for (int z = 0; z < Chunk.SIZE_Z; z++) {
+                int worldX = chunkWorldX + x;
+                int worldZ = chunkWorldZ + z;
+                int caveTop = surfaceHeights[x * Chunk.SIZE_Z + z] - 4;
+                for (int y = 1; y < caveTop; y++) {
+                    // Sampling X, Y and Z gives 3D worm-like tunnels
+                    float caveSample = caveNoise.GetNoise(worldX * 0.5f, y * 0.9f, worldZ * 0.5f);
+                    if (caveSample > 0.44f) {
+                        chunk.setBlock(x, y, z, air);
+                    }
+                }
+            }
+        }
+
+        if (timings != null) {
+            long end = System.nanoTime();
+            timings.add(noiseEnd - start, end - fillEnd, fillEnd - noiseEnd);
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,19 +1,77 @@
 package org.game.world;
 
+import org.engine.loop.FrameScheduler;
+import org.engine.metrics.Counter;
+import org.engine.metrics.Gauge;
+import org.engine.metrics.Metrics;
+import org.engine.profiling.Profiler;
+import org.engine.profiling.jfr.ChunkUploadedEvent;
+import org.engine.rendering.GpuTimer;
 import org.engine.rendering.Renderer;
+import org.engine.utils.LatencyHistogram;
 import org.game.entities.Camera;
 import org.game.lighting.DirectionalLight;
-import org.game.meshes.Model;
+import org.game.meshes.ChunkGeometry;
+import org.game.rendering.ChunkGeometryArena;
+import org.game.rendering.FrustumCuller;
+import org.game.rendering.OcclusionCuller;
 import org.joml.Vector3f;
+
+import java.util.ArrayList;
 import java.util.List;
 
 public class WorldRenderer {
     private static ChunkLightingSystem lightingSystem;
-    private static float currentDayNightCycle = 1.0f;
+
+    // Per-frame culling state, reused so the draw loop does not allocate
+    private static final FrustumCuller frustumCuller = new FrustumCuller();
+    private static final OcclusionCuller occlusionCuller = new OcclusionCuller();
+    private static final LodTerrain lodTerrain = new LodTerrain();
+    private static final Counter chunksMeshed = Metrics.counter("render.chunks_meshed");
+    private static final Counter meshUploadBytes = Metrics.counter("render.mesh_upload_bytes");
+    private static final LatencyHistogram meshTime = Metrics.histogram("render.mesh_chunk");
+    private static final Gauge pendingMeshes = Metrics.gauge("render.chunks_pending_mesh");
+    private static final GpuTimer chunkPassTimer = new GpuTimer("chunks");
+
+    // Chunks still unmeshed after the guaranteed one per frame are meshed in the
+    // time left at the end of the frame (see FrameScheduler)
+    private static final FrameScheduler.FrameTask meshBacklog = WorldRenderer::meshBacklog;
+    private static World backlogWorld;
+    private static int backlogChunkX, backlogChunkZ;
+    // Recent cost of one meshChunk; the lifetime histogram mean is dominated by startup
+    private static final double MESH_COST_SMOOTHING = 0.1;
+    private static double meshCostNanos;
+
+    private static int visibleChunkCount = 0;
+    private static int culledChunkCount = 0;
+
+    // Translucent layer: re-sorted only once the eye has moved this far since the
+    // chunk's last sort, and only for a few chunks per frame (nearest first)
+    private static final float TRANSLUCENT_RESORT_DISTANCE = 1.0f;
+    private static final int MAX_TRANSLUCENT_RESORTS_PER_FRAME = 4;
+    private static final List<Chunk> translucentChunks = new ArrayList<>();
+    private static final Vector3f sortEye = new Vector3f();
+    private static int translucentResortCount = 0;
+
+    // Every chunk mesh lives in this one arena; created lazily on the GL thread.
+    // Sized for roughly a 16-chunk radius of surface terrain before it has to grow.
+    private static final int ARENA_INITIAL_VERTICES = 1 << 20;
+    private static ChunkGeometryArena arena;
+
+    static {
+        Metrics.gauge("render.chunks_visible", WorldRenderer::getVisibleChunkCount);
+        Metrics.gauge("render.sections_visible", WorldRenderer::getVisibleSectionCount);
+        Metrics.gauge("render.lod_tiles_drawn", lodTerrain::getDrawnTileCount);
+        Metrics.gauge("render.arena_vram_bytes", () -> arena != null ? arena.getCapacityBytes() : 0);
+        // Gauges are whole numbers, so the arena's fractions are reported as percentages
+        Metrics.gauge("render.arena_occupancy_pct", () -> arena != null ? Math.round(arena.getOccupancy() * 100) : 0);
+        Metrics.gauge("render.arena_fragmentation_pct", () -> arena != null ? Math.round(arena.getFragmentation() * 100) : 0);
+    }
 
     public static void initialize(World world) {
         lightingSystem = new ChunkLightingSystem(world);
         ChunkMesher.setLightingSystem(lightingSystem);
+        FrameScheduler.addTask(meshBacklog);
     }
 
     /**
@@ -22,24 +80,37 @@ public class WorldRenderer {
      * a block change or explicit markDirty() call.
      */
     public static void generateVisibleMeshes(World world, Vector3f playerPosition) {
+        Profiler.begin("WorldRenderer.generateVisibleMeshes");
+        try {
+            meshNewChunks(world, playerPosition);
+        } finally {
+            Profiler.end();
+        }
+    }
+
+    private static void meshNewChunks(World world, Vector3f playerPosition) {
         int playerChunkX = (int) Math.floor(playerPosition.x / 16.0);
         int playerChunkZ = (int) Math.floor(playerPosition.z / 16.0);
+        backlogWorld = world;
+        backlogChunkX = playerChunkX;
+        backlogChunkZ = playerChunkZ;
 
         List<Chunk> visibleChunks = world.getChunksNear(playerChunkX, playerChunkZ);
 
         int meshesBuiltThisFrame = 0;
         int maxMeshBuildsPerFrame = 1;
+        int pending = 0;
 
         for (Chunk chunk : visibleChunks) {
             // THE GATEKEEPER: skip every chunk that already has a valid mesh.
             if (chunk.isMeshBuilt()) continue;
 
-            if (meshesBuiltThisFrame >= maxMeshBuildsPerFrame) break;
+            if (meshesBuiltThisFrame >= maxMeshBuildsPerFrame) {
+                pending++; // only counted for the metrics gauge
+                continue;
+            }
 
-            lightingSystem.updateChunkLighting(chunk);
-            Model chunkModel = ChunkMesher.buildModel(world, chunk, currentDayNightCycle);
-            chunk.setModel(chunkModel);
-            chunk.setMeshBuilt(true);
+            meshChunk(world, chunk);
 
             // When this chunk is meshed for the first time, its neighbors may have
             // culled their border faces because this chunk wasn't loaded yet.
@@ -49,6 +120,31 @@ public class WorldRenderer {
 
             meshesBuiltThisFrame++;
         }
+        pendingMeshes.set(pending);
+    }
+
+    /**
+     * Meshes further new chunks around the last player position while another
+     * one still fits before the deadline. A step costs the chunk itself plus
+     * the already-meshed neighbours whose borders it rebuilds, each judged by
+     * the recent (smoothed) mesh time.
+     */
+    private static boolean meshBacklog(long deadlineNanos) {
+        if (backlogWorld == null || pendingMeshes.get() == 0) return false;
+
+        int pending = 0;
+        for (Chunk chunk : backlogWorld.getChunksNear(backlogChunkX, backlogChunkZ)) {
+            if (chunk.isMeshBuilt()) continue;
+            int remeshes = 1 + countMeshedNeighbors(backlogWorld, chunk.getChunkX(), chunk.getChunkZ());
+            if (deadlineNanos - System.nanoTime() < meshCostNanos * remeshes) {
+                pending++;
+                continue;
+            }
+            meshChunk(backlogWorld, chunk);
+            refreshNeighborBorders(backlogWorld, chunk.getChunkX(), chunk.getChunkZ());
+        }
+        pendingMeshes.set(pending);
+        return pending > 0;
     }
 
     /**
@@ -57,14 +153,56 @@ public class WorldRenderer {
      */
     public static void rebuildChunkAt(World world, Chunk chunk) {
         if (chunk == null) return;
+        meshChunk(world, chunk);
+    }
 
+    /** Lights and meshes a chunk, replacing its previous arena slices (if any). */
+    private static void meshChunk(World world, Chunk chunk) {
+        long start = System.nanoTime();
         lightingSystem.updateChunkLighting(chunk);
-        Model newModel = ChunkMesher.buildModel(world, chunk, currentDayNightCycle);
+        ChunkGeometry[] layers = ChunkMesher.buildGeometry(world, chunk);
 
-        // setMeshBuilt(false) frees the old GPU buffers before we replace the model
+        // Translucent quads go up already sorted for the last known eye position
+        ChunkGeometry translucent = layers[RenderLayer.TRANSLUCENT.ordinal()];
+        if (!translucent.isEmpty()) sortTranslucent(chunk, translucent);
+
+        // setMeshBuilt(false) frees the old slices first so the new mesh can reuse the space
+        ChunkUploadedEvent upload = new ChunkUploadedEvent();
+        upload.begin();
         chunk.setMeshBuilt(false);
-        chunk.setModel(newModel);
+        ChunkGeometryArena arena = getArena();
+        long uploadBytes = 0;
+        for (RenderLayer layer : RenderLayer.values()) {
+            ChunkGeometry geometry = layers[layer.ordinal()];
+            chunk.setGeometry(layer, arena.upload(geometry, chunk.getPosition()));
+            uploadBytes += (long) geometry.getVertexCount() * ChunkGeometry.FLOATS_PER_VERTEX * Float.BYTES;
+        }
+        chunk.setTranslucentGeometry(translucent.isEmpty() ? null : translucent);
         chunk.setMeshBuilt(true);
+        if (upload.shouldCommit()) {
+            upload.set(chunk);
+            upload.bytes = uploadBytes;
+            upload.commit();
+        }
+
+        chunksMeshed.increment();
+        meshUploadBytes.add(uploadBytes);
+        long cost = System.nanoTime() - start;
+        meshTime.record(cost);
+        meshCostNanos = meshCostNanos == 0 ? cost : meshCostNanos + (cost - meshCostNanos) * MESH_COST_SMOOTHING;
+    }
+
+    private static void sortTranslucent(Chunk chunk, ChunkGeometry translucent) {
+        Vector3f origin = chunk.getPosition();
+        Vector3f localEye = chunk.getTranslucentSortEye().set(sortEye).sub(origin);
+        translucent.sortQuadsBackToFront(localEye.x, localEye.y, localEye.z);
+    }
+
+    public static ChunkGeometryArena getArena() {
+        if (arena == null) {
+            arena = new ChunkGeometryArena(ARENA_INITIAL_VERTICES);
+        }
+        return arena;
     }
 
     /**
@@ -112,6 +250,20 @@ public class WorldRenderer {
         }
     }
 
+    /** How many chunks {@link #refreshNeighborBorders} would rebuild. */
+    private static int countMeshedNeighbors(World world, int chunkX, int chunkZ) {
+        int count = 0;
+        if (isMeshed(world.getChunk(chunkX - 1, chunkZ))) count++;
+        if (isMeshed(world.getChunk(chunkX + 1, chunkZ))) count++;
+        if (isMeshed(world.getChunk(chunkX, chunkZ - 1))) count++;
+        if (isMeshed(world.getChunk(chunkX, chunkZ + 1))) count++;
+        return count;
+    }
+
+    private static boolean isMeshed(Chunk chunk) {
+        return chunk != null && chunk.isMeshBuilt();
+    }
+
     private static void rebuildNeighboringChunksIfNeeded(World world, int chunkX, int chunkZ) {
         int[][] neighbors = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
         for (int[] n : neighbors) {
@@ -125,28 +277,146 @@ public class WorldRenderer {
         }
     }
 
-    public static void updateDayNightCycle(World world, float newDayNightCycle) {
-        if (Math.abs(currentDayNightCycle - newDayNightCycle) > 0.05f) {
-            currentDayNightCycle = newDayNightCycle;
-            // Pass as a uniform to cube.frag instead of rebuilding CPU meshes.
+    /**
+     * Draws the chunk sections that are both inside the camera frustum and
+     * reachable from the camera through the section connectivity graph.
+     *
+     * The frustum is rebuilt once per frame and the occlusion BFS produces the
+     * visible chunk list (with per-section bits) before any GL work happens.
+     * Roughly half the loaded ring is behind the camera and sealed caves are
+     * never reached, so both are skipped without touching their geometry.
+     *
+     * Layers go in order: opaque (plus distant LOD tiles), then cutout, both
+     * front to back with blending off so early depth rejection culls overdraw;
+     * then translucent back to front with blending on and depth writes off.
+     */
+    public static void renderWorld(World world, Renderer renderer, Camera camera, DirectionalLight light) {
+        frustumCuller.update(camera.getProjection(), camera.getView());
+        Vector3f eye = camera.getPosition();
+        List<Chunk> visibleChunks = occlusionCuller.cull(world, eye.x, eye.y, eye.z, frustumCuller::isBoxVisible);
+        visibleChunkCount = visibleChunks.size();
+        culledChunkCount = countMeshedChunksInRange(world, eye) - visibleChunkCount;
+
+        ChunkGeometryArena arena = getArena();
+        arena.maybeDefragment();
+        lodTerrain.update(world, eye, arena);
+
+        // Per-frame state goes up once, then one multi-draw per layer. The
+        // occlusion BFS discovers chunks outward from the camera, so the visible
+        // list is already roughly front to back.
+        chunkPassTimer.begin();
+        renderer.beginChunkPass(camera, light);
+        int frame = occlusionCuller.getFrame();
+
+        renderer.setChunkLayer(RenderLayer.OPAQUE);
+        queueLayer(arena, visibleChunks, RenderLayer.OPAQUE, frame);
+        lodTerrain.queueVisible(arena, frustumCuller::isBoxVisible);
+        arena.flush();
+
+        renderer.setChunkLayer(RenderLayer.CUTOUT);
+        queueLayer(arena, visibleChunks, RenderLayer.CUTOUT, frame);
+        arena.flush();
+
+        renderer.setChunkLayer(RenderLayer.TRANSLUCENT);
+        lodTerrain.queueTranslucent(arena);
+        queueTranslucent(arena, visibleChunks, eye);
+        arena.flush();
+
+        renderer.endChunkPass();
+        chunkPassTimer.end();
+    }
+
+    private static void queueLayer(ChunkGeometryArena arena, List<Chunk> chunks, RenderLayer layer, int frame) {
+        for (int i = 0; i < chunks.size(); i++) {
+            Chunk chunk = chunks.get(i);
+            ChunkGeometryArena.Allocation geometry = chunk.getGeometry(layer);
+            if (geometry == null) continue; // nothing in this layer
+            arena.queue(geometry, chunk.getVisibleSections(frame));
+        }
+    }
+
+    /**
+     * Queues translucent geometry farthest chunk first. Within a chunk the quads
+     * are kept sorted back to front, but re-sorting costs a CPU sort and a buffer
+     * rewrite, so it only happens once the eye has moved
+     * {@link #TRANSLUCENT_RESORT_DISTANCE} since the chunk's last sort, for at most
+     * {@link #MAX_TRANSLUCENT_RESORTS_PER_FRAME} chunks a frame, nearest first.
+     * The layer is sorted as a whole, so it is drawn whole rather than per section.
+     */
+    private static void queueTranslucent(ChunkGeometryArena arena, List<Chunk> visibleChunks, Vector3f eye) {
+        sortEye.set(eye);
+        translucentChunks.clear();
+        translucentResortCount = 0;
+        float resortDistanceSq = TRANSLUCENT_RESORT_DISTANCE * TRANSLUCENT_RESORT_DISTANCE;
+
+        for (int i = 0; i < visibleChunks.size(); i++) {
+            Chunk chunk = visibleChunks.get(i);
+            ChunkGeometryArena.Allocation geometry = chunk.getGeometry(RenderLayer.TRANSLUCENT);
+            if (geometry == null) continue;
+            translucentChunks.add(chunk);
+
+            if (translucentResortCount >= MAX_TRANSLUCENT_RESORTS_PER_FRAME) continue;
+            Vector3f sortedFrom = chunk.getTranslucentSortEye();
+            Vector3f origin = chunk.getPosition();
+            float dx = eye.x - origin.x - sortedFrom.x;
+            float dy = eye.y - origin.y - sortedFrom.y;
+            float dz = eye.z - origin.z - sortedFrom.z;
+            if (dx * dx + dy * dy + dz * dz < resortDistanceSq) continue;
+
+            ChunkGeometry translucent = chunk.getTranslucentGeometry();
+            sortTranslucent(chunk, translucent);
+            arena.rewrite(geometry, translucent, origin);
+            translucentResortCount++;
+        }
+
+        translucentChunks.sort(WorldRenderer::compareFarthestFirst);
+        for (int i = 0; i < translucentChunks.size(); i++) {
+            arena.queue(translucentChunks.get(i).getGeometry(RenderLayer.TRANSLUCENT), ChunkGeometryArena.ALL_SECTIONS);
         }
     }
 
-    public static void renderWorld(World world, Renderer renderer, Camera camera, DirectionalLight light) {
-        int cameraChunkX = (int) Math.floor(camera.getPosition().x / Chunk.SIZE_X);
-        int cameraChunkZ = (int) Math.floor(camera.getPosition().z / Chunk.SIZE_Z);
+    private static int compareFarthestFirst(Chunk a, Chunk b) {
+        return Float.compare(distanceSqToCenter(b), distanceSqToCenter(a));
+    }
+
+    private static float distanceSqToCenter(Chunk chunk) {
+        Vector3f origin = chunk.getPosition();
+        float dx = origin.x + Chunk.SIZE_X * 0.5f - sortEye.x;
+        float dz = origin.z + Chunk.SIZE_Z * 0.5f - sortEye.z;
+        return dx * dx + dz * dz;
+    }
 
+    private static int countMeshedChunksInRange(World world, Vector3f eye) {
+        int cameraChunkX = (int) Math.floor(eye.x / Chunk.SIZE_X);
+        int cameraChunkZ = (int) Math.floor(eye.z / Chunk.SIZE_Z);
+        int count = 0;
         for (Chunk chunk : world.getChunksNear(cameraChunkX, cameraChunkZ)) {
-            if (!chunk.isMeshBuilt()) continue;
+            if (chunk.isMeshBuilt()) count++;
+        }
+        return count;
+    }
 
-            Model model = chunk.getModel();
-            if (model == null) continue;
+    public static LodTerrain getLodTerrain() {
+        return lodTerrain;
+    }
 
-            Vector3f pos = chunk.getPosition();
-            Vector3f chunkCenter = new Vector3f(pos.x + 8, 8, pos.z + 8);
-            float radius = (float) Math.sqrt(16 * 16 * 3) / 2;
+    /** Chunks whose translucent layer was re-sorted in the last frame. */
+    public static int getTranslucentResortCount() {
+        return translucentResortCount;
+    }
 
-            renderer.render(model, camera, light, chunk.getPosition(), chunkCenter, radius);
-        }
+    /** Chunks drawn in the last frame. */
+    public static int getVisibleChunkCount() {
+        return visibleChunkCount;
+    }
+
+    /** Chunk sections drawn in the last frame. */
+    public static int getVisibleSectionCount() {
+        return occlusionCuller.getVisibleSectionCount();
+    }
+
+    /** Meshed chunks in range skipped entirely (frustum or occlusion) in the last frame. */
+    public static int getCulledChunkCount() {
+        return culledChunkCount;
     }
-}
\ No newline at end of file
+}
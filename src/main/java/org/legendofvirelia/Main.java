@@ -5,7 +5,10 @@ import java.util.Queue;
 
 import org.engine.io.Window;
 import org.engine.loop.GameLoop;
-import org.engine.utils.Debug;
+import org.engine.loop.TickScheduler;
+import org.engine.metrics.GcMetrics;
+import org.engine.metrics.Metrics;
+import org.engine.profiling.Profiler;
 import org.legendofvirelia.client.ClientGameLogic;
 import org.legendofvirelia.server.ServerGameLogic;
 import org.legendofvirelia.shared.ClientWorldState;
@@ -15,6 +18,9 @@ import org.legendofvirelia.shared.command.ServerCommand;
 
 public class Main {
     public static void main(String[] args) {
+        Profiler.initFromSystemProperties();
+        GcMetrics.install();
+
         // Create separate world states for client and server
         ClientWorldState clientWorld = new ClientWorldState();  // Client-side
         ServerWorldState serverWorld = new ServerWorldState(); // Server-side
@@ -22,28 +28,21 @@ public class Main {
         // Simple communication bridge (in real game, this would be network)
         CommunicationBridge bridge = new CommunicationBridge(clientWorld, serverWorld);
 
-        // Start server logic in its own thread
-        ServerGameLogic serverLogic = new ServerGameLogic(serverWorld);
+        // Start server logic in its own thread, ticking at a fixed 20 TPS
+        TickScheduler scheduler = new TickScheduler(20);
+        ServerGameLogic serverLogic = new ServerGameLogic(serverWorld, scheduler.getTimings());
         Thread serverThread = new Thread(() -> {
             serverLogic.init();
-            while (true) {
-                try {
-                    // Process client actions on server
-                    bridge.processClientToServer();
-                    
-                    // Update server world
-                    serverLogic.update(1f / 20f); // 20 TPS
-                    
-                    // Send server responses back to client
-                    bridge.processServerToClient();
-                    
-                    Thread.sleep(50); // 20 TPS
-                } catch (InterruptedException e) {
-                    break;
-                } catch (Exception e) {
-                    e.printStackTrace();
-                }
-            }
+            scheduler.run(() -> {
+                // Process client actions on server
+                bridge.processClientToServer();
+
+                // Update server world
+                serverLogic.update(scheduler.getTickDelta());
+
+                // Send server responses back to client
+                bridge.processServerToClient();
+            });
         }, "ServerThread");
         
         serverThread.setDaemon(true);
@@ -58,6 +57,8 @@ public class Main {
         
         // Cleanup
         serverThread.interrupt();
+        Profiler.shutdown();
+        Metrics.dumpFromSystemProperties();
     }
     
     /**
@@ -89,7 +90,6 @@ public class Main {
             ClientCommand action;
             
             while ((action = serverActions.poll()) != null) {
-                Debug.log(action.toString());
                 clientWorld.receiveServerCommands(action);
             }
         }
@@ -3,27 +3,31 @@ package org.legendofvirelia.client;
 
 import static org.lwjgl.opengl.GL11.*;
 
-import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.Future;
 
 import org.engine.io.Input;
 import org.engine.io.Window;
 import org.engine.loop.ClientSide;
+import org.engine.rendering.GpuTimer;
 import org.engine.rendering.Renderer;
 import org.engine.rendering.ShaderProgram;
 import org.engine.rendering.UIRenderer;
-import org.engine.utils.Debug;
-import org.engine.utils.Logger;
+import org.engine.rendering.UIText;
+import org.engine.utils.Log;
 import org.engine.utils.Resource;
+import org.engine.utils.StartupPipeline;
 import org.game.core.GameObject;
 import org.game.entities.Camera;
 import org.game.lighting.DirectionalLight;
+import org.game.meshes.ModelLoader;
 
 import org.game.ui.ColorRect;
 import org.game.ui.Container;
 import org.game.ui.Label;
+import org.game.ui.MetricsOverlay;
 import org.game.utils.AtlasBuilder;
-import org.game.world.Block;
+import org.game.utils.BlockTextureArray;
 import org.game.world.BlockPlacer;
 import org.game.world.BlockRegistry;
 import org.game.world.Blocks;
@@ -44,6 +48,9 @@ public class ClientGameLogic implements ClientSide {
     public float cooldown = 0.1f; // Fast response for building
     private List<GameObject> objects;
     private Container ui;
+    private MetricsOverlay metricsOverlay;
+    private final GpuTimer uiPassTimer = new GpuTimer("ui");
+    private static final int UI_FONT_SIZE = 16;
     // Building system state
     private int selectedBlockId = 1;
     private boolean buildMode = true;
@@ -64,47 +71,74 @@ public class ClientGameLogic implements ClientSide {
         this.window = window;
         camera = new Camera((float) (window.getWidth()) / (float) (window.getHeight()));
         prev_pos = new Vector2f(camera.position.x, camera.position.z);
-        var vs = Resource.loadText("shaders/cube.vert");
-        var fs = Resource.loadText("shaders/cube.frag");
-        Debug.log("Client initialization");
-        var uiv = Resource.loadText("shaders/ui.vert");
-        var uif = Resource.loadText("shaders/ui.frag");
-        try {
-            AtlasBuilder atlas = AtlasBuilder.create("assets/textures", 1600, 32);
-            Debug.log("Atlas UVs: " + atlas.getAllUVs().keySet());
-        } catch (IOException e) {
-            Logger.log("Failed to create texture atlas", e);
-        }
-
-        if (vs == null || fs == null) {
-            return;
+        Log.info("Client initialization");
+
+        // Everything that doesn't need GL starts on loader threads right away;
+        // the main thread then uploads each result as it is needed
+        try (StartupPipeline startup = new StartupPipeline()) {
+            Future<String[]> shaderSources = startup.background("Read shaders", () -> new String[] {
+                    Resource.loadText("shaders/cube.vert"), Resource.loadText("shaders/cube.frag"),
+                    Resource.loadText("shaders/ui.vert"), Resource.loadText("shaders/ui.frag") });
+            Future<AtlasBuilder.Pixels> atlasPixels = startup.background("Decode atlas",
+                    () -> AtlasBuilder.decode("assets/textures", 1600, 32));
+            // Chunk meshes sample block textures from the array; the atlas above
+            // only serves standalone models
+            Future<BlockTextureArray.Pixels> arrayPixels = startup.background("Block texture array",
+                    () -> BlockTextureArray.prepare("assets/textures", "cache/block_textures.bin"));
+            Future<Integer> models = startup.background("Parse models",
+                    () -> ModelLoader.preloadFolder("assets/models"));
+            Future<Void> fonts = startup.background("Bake fonts", () -> {
+                UIText.preload(Label.FONT, UI_FONT_SIZE);
+                UIText.preload(Label.FONT, MetricsOverlay.FONT_SIZE);
+                return null;
+            });
+
+            startup.main("Upload atlas", () -> {
+                AtlasBuilder.Pixels pixels = startup.await(atlasPixels);
+                if (pixels == null) return;
+                AtlasBuilder atlas = AtlasBuilder.create(pixels);
+                Log.debug("Atlas UVs: {}", atlas.getAllUVs().keySet());
+            });
+            startup.main("Upload texture array", () -> {
+                BlockTextureArray.Pixels pixels = startup.await(arrayPixels);
+                if (pixels != null) BlockTextureArray.create(pixels);
+            });
+
+            String[] sources = startup.await(shaderSources);
+            if (sources == null || sources[0] == null || sources[1] == null) {
+                return;
+            }
+            startup.main("Compile shaders", () -> {
+                renderer = new Renderer(new ShaderProgram(sources[0], sources[1]));
+                Log.debug("UI shaders loaded: {}", sources[2] != null && sources[3] != null);
+                uishader = new ShaderProgram(sources[2], sources[3]);
+                uiRenderer = new UIRenderer(uishader);
+            });
+
+            startup.await(models);
+            startup.main("Create blocks", () -> {
+                Blocks.registerAll(Blocks.Definition::create);
+                // FIX: reuse the registered dirt block; creating another re-parsed dirt.json,
+                // because the first one already took the preloaded model
+                objects = List.of(BlockRegistry.getBlock(BlockRegistry.getId("dirt")));
+            });
+
+            startup.await(fonts);
+            startup.main("Build UI", () -> {
+                ui = new Container(0, 80, 180, 600);
+                ui.addChild(new ColorRect(10, 10, 200, 30, 1f, 0f, 0f, 1f));
+                // Position and scale the UI rectangle
+                Label label = new Label(10, 10, 200, 30, "Health: 100%", UI_FONT_SIZE);
+                ui.addChild(label);
+                metricsOverlay = new MetricsOverlay(920, 10, 350);
+            });
+
+            startup.main("World init", () -> {
+                sun = DirectionalLight.createSunlight();
+                worldState.init();
+            });
+            Log.info(startup.report());
         }
-
-        Block block = Blocks.DIRT.get();
-
-        objects = List.of(block);
-        ShaderProgram shader = new ShaderProgram(vs, fs);
-        Debug.log("UI shaders loaded: " + (uiv != null && uif != null));
-        uishader = new ShaderProgram(uiv, uif);
-
-        // Create a semi-transparent red rectangle for UI
-        // healthBar =
-
-        ui = new Container(0, 80, 180, 600);
-        ui.addChild(new ColorRect(10, 10, 200, 30, 1f, 0f, 0f, 1f));
-        // Position and scale the UI rectangle
-        Label label = new Label(10, 10, 200, 30, "Health: 100%", 16);
-        ui.addChild(label);
-        renderer = new Renderer(shader);
-        uiRenderer = new UIRenderer(uishader);
-        BlockRegistry.register("dirt", Blocks.DIRT.get());
-        BlockRegistry.register("torch", Blocks.Torch.get());
-        BlockRegistry.register("dirt2", Blocks.DIRT2.get());
-        BlockRegistry.register("water", Blocks.WATER.get());
-
-        sun = DirectionalLight.createSunlight();
-        worldState.init();
-
     }
 
     @Override
@@ -117,12 +151,15 @@ public class ClientGameLogic implements ClientSide {
             window.setShouldClose(true);
         }
         if (Input.isKeyReleased(Input.KEY_Y)) {
-            Debug.enable = !Debug.enable;
+            Log.setLevel(Log.isDebugEnabled() ? Log.Level.INFO : Log.Level.DEBUG);
+        }
+        if (Input.isKeyPressed(Input.KEY_F3)) {
+            metricsOverlay.toggle();
         }
 
         if (Input.isKeyPressed(Input.KEY_B)) {
             buildMode = !buildMode;
-            Debug.log("Build mode: " + (buildMode ? "PLACE blocks" : "BREAK blocks"));
+            Log.debug("Build mode: {}", buildMode ? "PLACE blocks" : "BREAK blocks");
         }
 
         if (Input.isKeyPressed(Input.KEY_P)) {
@@ -170,14 +207,13 @@ public class ClientGameLogic implements ClientSide {
 
         if (result.hit && result.placePosition != null) {
             // Use the new client-side prediction system
-            Debug.log(BlockRegistry.getId("dirt"));
-            Debug.log(BlockRegistry.getId("torch"));
 
             PlaceBlockCommand action = new PlaceBlockCommand(result.placePosition, BlockRegistry.getId("torch"));
+            action.actionId = worldState.predictBlockChange(action.position, action.blockId);
             worldState.sendCommand(action);
-            Debug.log("Block placed immediately with client-side prediction: " + result.placePosition);
+            Log.debug("Block placed immediately with client-side prediction: {}", result.placePosition);
         } else {
-            Debug.log("No valid placement position found");
+            Log.debug("No valid placement position found");
         }
     }
 
@@ -187,8 +223,9 @@ public class ClientGameLogic implements ClientSide {
         if (result.hit && result.blockPosition != null) {
             // Break block by placing air (blockId = 0)
             BreakBlockCommand action = new BreakBlockCommand(result.blockPosition);
+            action.actionId = worldState.predictBlockChange(action.position, 0);
             worldState.sendCommand(action);
-            Debug.log("Block broken immediately with client-side prediction: " + result.blockPosition);
+            Log.debug("Block broken immediately with client-side prediction: {}", result.blockPosition);
         }
     }
 
@@ -198,6 +235,7 @@ public class ClientGameLogic implements ClientSide {
         worldState.update(delta); // Handles client-side prediction and server reconciliation
         timer += delta;
         // Update UI elements if needed
+        metricsOverlay.update(delta);
         time = time == 1 ? 0 : Math.clamp(time + delta / 100f, 0f, 1f);
         sun.updateForTimeOfDay(time);
         int currentChunkX = (int) Math.floor(camera.position.x / 16.0);
@@ -208,7 +246,7 @@ public class ClientGameLogic implements ClientSide {
 
         // Trigger only if the player actually crosses a chunk border threshold on either axis!
         if (currentChunkX != prevChunkX || currentChunkZ != prevChunkZ) {
-            worldState.sendCommand(new GenerateNewChunks(camera.position));
+            worldState.sendCommand(new GenerateNewChunks(camera.position, camera.getForward()));
             
             // Save the exact chunk midpoint coordinate to prevent duplicate spam triggers
             prev_pos.x = camera.position.x;
@@ -236,12 +274,15 @@ public class ClientGameLogic implements ClientSide {
     private void renderBuildingUI() {
         // Render UI elements
         // uiRenderer.render(healthBar, 1280, 720);
+        uiPassTimer.begin();
         ui.draw(uiRenderer, 1280, 720);
+        metricsOverlay.draw(uiRenderer, 1280, 720);
+        uiPassTimer.end();
     }
 
     @Override
     public void cleanup() {
         // Cleanup resources
-
+        UIText.destroyAll();
     }
 }
\ No newline at end of file
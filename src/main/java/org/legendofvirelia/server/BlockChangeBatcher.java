@@ -0,0 +1,76 @@
+package org.legendofvirelia.server;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.game.world.Chunk;
+import org.legendofvirelia.shared.ServerWorldState;
+import org.legendofvirelia.shared.commands.BlockActionAckCommand;
+import org.legendofvirelia.shared.commands.MultiBlockChangeCommand;
+
+/**
+ * Collects the block changes made during one server tick and turns them into a
+ * single {@link MultiBlockChangeCommand} per 16x16x16 chunk section.
+ *
+ * Repeated edits to the same block within a tick collapse into the last one,
+ * so an explosion or fill tool costs one command per touched section instead
+ * of one per block. Verdicts for the client's predicted actions are collected
+ * alongside and sent as one {@link BlockActionAckCommand} after the batches.
+ */
+public class BlockChangeBatcher {
+    private final Map<String, MultiBlockChangeCommand> sections = new LinkedHashMap<>();
+    private BlockActionAckCommand acks = new BlockActionAckCommand();
+
+    /** Record that the block at the given world position now holds {@code blockId}. */
+    public void record(int worldX, int worldY, int worldZ, int blockId) {
+        if (worldY < 0 || worldY >= Chunk.SIZE_Y) return;
+
+        int chunkX = Math.floorDiv(worldX, Chunk.SIZE_X);
+        int chunkZ = Math.floorDiv(worldZ, Chunk.SIZE_Z);
+        int sectionY = worldY / MultiBlockChangeCommand.SECTION_SIZE;
+
+        String key = chunkX + "," + sectionY + "," + chunkZ;
+        MultiBlockChangeCommand batch = sections.get(key);
+        if (batch == null) {
+            batch = new MultiBlockChangeCommand(chunkX, sectionY, chunkZ);
+            sections.put(key, batch);
+        }
+        batch.set(worldX - chunkX * Chunk.SIZE_X,
+                  worldY - sectionY * MultiBlockChangeCommand.SECTION_SIZE,
+                  worldZ - chunkZ * Chunk.SIZE_Z,
+                  blockId);
+    }
+
+    /** Record the server's verdict for a predicted client action (actionId 0 = untracked). */
+    public void ack(long actionId, boolean accepted) {
+        if (actionId != 0) {
+            acks.add(actionId, accepted);
+        }
+    }
+
+    public boolean isEmpty() {
+        return sections.isEmpty() && acks.isEmpty();
+    }
+
+    /**
+     * Send one command per touched section to the client and start a new tick.
+     * Sections in chunks the player does not hold are dropped: the client will
+     * get the up-to-date chunk data when it is streamed.
+     */
+    public void flush(ServerWorldState state) {
+        if (isEmpty()) return;
+
+        PlayerInterest interest = state.getPlayerInterest();
+        for (MultiBlockChangeCommand batch : sections.values()) {
+            if (interest.isLoaded(batch.getChunkX(), batch.getChunkZ())) {
+                state.sendCommand(batch);
+            }
+        }
+        sections.clear();
+
+        if (!acks.isEmpty()) {
+            state.sendCommand(acks);
+            acks = new BlockActionAckCommand();
+        }
+    }
+}
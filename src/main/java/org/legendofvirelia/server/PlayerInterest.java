@@ -0,0 +1,186 @@
+package org.legendofvirelia.server;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import org.engine.profiling.jfr.ChunkSentEvent;
+import org.game.world.Chunk;
+import org.game.world.World;
+import org.joml.Vector3f;
+import org.legendofvirelia.shared.ServerWorldState;
+import org.legendofvirelia.shared.commands.ChunkReceivedCommand;
+import org.legendofvirelia.shared.commands.LoadSingleChunkCommand;
+import org.legendofvirelia.shared.commands.UnloadChunkCommand;
+
+/**
+ * Server-side interest set for one player: which chunks the client currently
+ * holds, which ones it still needs, and in what order they should be streamed.
+ *
+ * Chunks are never sent in one burst. Every server tick {@link #tick} sends at
+ * most {@code chunksPerTick} chunks (generating them on demand), nearest first
+ * with a bias toward the direction the player is looking, and tells the client
+ * to drop chunks that moved out of range. The client acknowledges every chunk
+ * it has applied ({@link ChunkReceivedCommand}); while {@code maxChunksInFlight}
+ * sent chunks are still unacknowledged, streaming pauses, so a slow client
+ * never has more than that many chunks waiting in its incoming queue.
+ */
+public class PlayerInterest {
+    /** Chunks kept loaded past the view distance so walking back and forth does not thrash. */
+    private static final int UNLOAD_MARGIN = 2;
+
+    private int chunksPerTick = 4;
+    private int unloadsPerTick = 32;
+    private int maxChunksInFlight = 16;
+
+    // Chunk keys the client has been sent and not told to unload
+    private final Set<String> loaded = new HashSet<>();
+    // Chunk keys sent but not yet acknowledged by the client
+    private final Set<String> inFlight = new HashSet<>();
+    // Chunk coordinates still to send, sorted by priority (index 0 = next)
+    private final List<int[]> pending = new ArrayList<>();
+
+    private int centerX, centerZ;
+    private float forwardX = 0, forwardZ = 1;
+    private boolean hasPosition = false;
+    private boolean dirty = false;
+
+    /**
+     * Update the player's position and look direction. The pending list is only
+     * rebuilt on the next tick, so repeated moves within one tick cost nothing.
+     */
+    public void moveTo(Vector3f position, Vector3f forward) {
+        int cx = (int) Math.floor(position.x / Chunk.SIZE_X);
+        int cz = (int) Math.floor(position.z / Chunk.SIZE_Z);
+
+        float len = (float) Math.sqrt(forward.x * forward.x + forward.z * forward.z);
+        if (len > 1e-4f) {
+            forwardX = forward.x / len;
+            forwardZ = forward.z / len;
+        }
+
+        if (!hasPosition || cx != centerX || cz != centerZ) {
+            centerX = cx;
+            centerZ = cz;
+            hasPosition = true;
+        }
+        dirty = true;
+    }
+
+    /** Record a chunk the client already has (e.g. from the initial GenerateWorld batch). */
+    public void markLoaded(Chunk chunk) {
+        loaded.add(World.chunkKey(chunk.getChunkX(), chunk.getChunkZ()));
+    }
+
+    /** The client has applied this chunk; called by {@link ChunkReceivedCommand}. */
+    public void acknowledge(int chunkX, int chunkZ) {
+        inFlight.remove(World.chunkKey(chunkX, chunkZ));
+    }
+
+    public boolean isLoaded(int chunkX, int chunkZ) {
+        return loaded.contains(World.chunkKey(chunkX, chunkZ));
+    }
+
+    /**
+     * Stream chunks to the player within this tick's budget and unload chunks
+     * that left range. Called once per server tick on the server thread.
+     */
+    public void tick(ServerWorldState state) {
+        if (!hasPosition) return;
+
+        World world = state.getCurrentWorld();
+        if (dirty) {
+            rebuildPending(world.getViewDistance());
+            sendUnloads(state, world.getViewDistance() + UNLOAD_MARGIN);
+            dirty = false;
+        }
+
+        // FIX: backpressure used to look at the outgoing queue, which the bridge
+        // empties every tick, so it never engaged; count unacknowledged chunks instead
+        int budget = Math.min(chunksPerTick, maxChunksInFlight - inFlight.size());
+
+        int sent = 0;
+        Iterator<int[]> it = pending.iterator();
+        while (it.hasNext() && sent < budget) {
+            int[] c = it.next();
+            it.remove();
+
+            String key = World.chunkKey(c[0], c[1]);
+            if (loaded.contains(key)) continue;
+
+            ChunkSentEvent event = new ChunkSentEvent();
+            event.begin();
+            Chunk chunk = world.getOrGenerateChunk(c[0], c[1]);
+            state.sendCommand(new LoadSingleChunkCommand(chunk));
+            loaded.add(key);
+            inFlight.add(key);
+            if (event.shouldCommit()) {
+                event.set(chunk);
+                event.commit();
+            }
+            sent++;
+        }
+    }
+
+    /**
+     * Collect every chunk in view distance the client does not have yet and sort
+     * them nearest first. Chunks in front of the player get their distance halved
+     * relative to chunks behind, so the visible half of the ring fills in first.
+     */
+    private void rebuildPending(int viewDistance) {
+        pending.clear();
+        for (int x = -viewDistance; x <= viewDistance; x++) {
+            for (int z = -viewDistance; z <= viewDistance; z++) {
+                int cx = centerX + x;
+                int cz = centerZ + z;
+                if (!loaded.contains(World.chunkKey(cx, cz))) {
+                    pending.add(new int[] { cx, cz });
+                }
+            }
+        }
+        pending.sort((a, b) -> Float.compare(priority(a), priority(b)));
+    }
+
+    private float priority(int[] c) {
+        float dx = c[0] - centerX;
+        float dz = c[1] - centerZ;
+        float distSq = dx * dx + dz * dz;
+        if (distSq == 0) return 0;
+
+        float dot = (dx * forwardX + dz * forwardZ) / (float) Math.sqrt(distSq);
+        // dot = 1 straight ahead -> weight 1, dot <= 0 (side/behind) -> weight 2
+        return distSq * (2f - Math.max(0f, dot));
+    }
+
+    private void sendUnloads(ServerWorldState state, int unloadDistance) {
+        int unloaded = 0;
+        Iterator<String> it = loaded.iterator();
+        while (it.hasNext() && unloaded < unloadsPerTick) {
+            String key = it.next();
+            int comma = key.indexOf(',');
+            int cx = Integer.parseInt(key.substring(0, comma));
+            int cz = Integer.parseInt(key.substring(comma + 1));
+
+            if (Math.abs(cx - centerX) > unloadDistance || Math.abs(cz - centerZ) > unloadDistance) {
+                it.remove();
+                state.sendCommand(new UnloadChunkCommand(cx, cz));
+                unloaded++;
+            }
+        }
+        // More left than the budget allows: look again next tick.
+        if (unloaded == unloadsPerTick) dirty = true;
+    }
+
+    public int getPendingCount()     { return pending.size(); }
+    public int getLoadedCount()      { return loaded.size(); }
+    public int getInFlightCount()    { return inFlight.size(); }
+
+    public int getChunksPerTick()               { return chunksPerTick; }
+    public void setChunksPerTick(int n)         { this.chunksPerTick = Math.max(1, n); }
+    public int getUnloadsPerTick()              { return unloadsPerTick; }
+    public void setUnloadsPerTick(int n)        { this.unloadsPerTick = Math.max(1, n); }
+    public int getMaxChunksInFlight()           { return maxChunksInFlight; }
+    public void setMaxChunksInFlight(int n)     { this.maxChunksInFlight = Math.max(1, n); }
+}
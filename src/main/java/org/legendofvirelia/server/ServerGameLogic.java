@@ -1,27 +1,46 @@
 // org/legendofvirelia/server/ServerGameLogic.java
 package org.legendofvirelia.server;
 import org.engine.loop.ServerSide;
-import org.engine.utils.Debug;
+import org.engine.loop.TickTimings;
+import org.engine.loop.TickTimings.Phase;
+import org.engine.profiling.Profiler;
+import org.engine.utils.Log;
 import org.legendofvirelia.shared.ServerWorldState;
 public class ServerGameLogic implements ServerSide {
     private final ServerWorldState world; // authoritative server world
+    private final TickTimings timings;
 
-    public ServerGameLogic(ServerWorldState world) {
+    public ServerGameLogic(ServerWorldState world, TickTimings timings) {
         this.world = world;
+        this.timings = timings;
     }
 
     @Override
     public void init() {
         // Initialize server world
         world.init();
-        Debug.log("Server initialized");
+        Log.info("Server initialized");
         // generator
     }
 
     @Override
     public void update(float interval) {
         // Server update - the WorldState handles all the action processing
-        // including validation and sending confirmations back to clients
-        world.update(interval);
+        // including validation and sending confirmations back to clients.
+        // Same steps as ServerWorldState.update, split so each phase is timed.
+        Profiler.begin("Server commands");
+        world.processCommands();
+        Profiler.end();
+        timings.mark(Phase.COMMANDS);
+
+        Profiler.begin("Server world");
+        world.getCurrentWorld().update(interval);
+        Profiler.end();
+        timings.mark(Phase.WORLD);
+
+        Profiler.begin("Server flush");
+        world.flushOutgoing();
+        Profiler.end();
+        timings.mark(Phase.FLUSH);
     }
 }
\ No newline at end of file
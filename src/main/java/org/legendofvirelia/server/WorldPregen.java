@@ -0,0 +1,169 @@
+package org.legendofvirelia.server;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.engine.profiling.Profiler;
+import org.game.world.Blocks;
+import org.game.world.Chunk;
+import org.game.world.ChunkLightingSystem;
+import org.game.world.ChunkStorage;
+import org.game.world.GenerationTimings;
+import org.game.world.World;
+
+/**
+ * Headless world generation: generates and lights an area of chunks with
+ * {@code WorldGenerator} and {@link ChunkLightingSystem}, no GLFW or GL, and
+ * optionally writes them through {@link ChunkStorage}. Used to pre-bake the
+ * spawn area before opening a server, and to compare generator changes.
+ * A server started with {@code -Dworld.dir=DIR} (or {@code gradle run
+ * -Pworld=DIR}) reads chunks from the {@code --out} directory instead of
+ * generating them; use the same seed as the server ({@link World#DEFAULT_SEED}).
+ *
+ * Generation runs in parallel, one task per chunk. Lighting spreads into
+ * neighbouring chunks, so it runs in 9 phases: within a phase, chunks are 3
+ * apart on both axes and never touch the same neighbours.
+ *
+ * Reports chunks per second, the time per stage (noise, caves, fill,
+ * lighting; summed over threads) and peak heap.
+ *
+ * Usage: {@code WorldPregen [--radius N] [--square] [--center cx,cz] [--seed N]
+ * [--threads N] [--out DIR]} (or {@code gradle pregen --args="..."}).
+ * Without {@code --square}, chunks within a circle of the radius are generated.
+ */
+public class WorldPregen {
+
+    public static void main(String[] args) throws Exception {
+        int radius = 8, seed = World.DEFAULT_SEED, centerX = 0, centerZ = 0;
+        int threads = Runtime.getRuntime().availableProcessors();
+        boolean square = false;
+        String out = null;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--radius" -> radius = Integer.parseInt(args[++i]);
+                case "--square" -> square = true;
+                case "--seed" -> seed = Integer.parseInt(args[++i]);
+                case "--threads" -> threads = Math.max(1, Integer.parseInt(args[++i]));
+                case "--out" -> out = args[++i];
+                case "--center" -> {
+                    String[] parts = args[++i].split(",");
+                    centerX = Integer.parseInt(parts[0].trim());
+                    centerZ = Integer.parseInt(parts[1].trim());
+                }
+                default -> {
+                    System.err.println("Unknown argument: " + args[i]);
+                    System.err.println("Usage: WorldPregen [--radius N] [--square] [--center cx,cz] [--seed N] [--threads N] [--out DIR]");
+                    System.exit(2);
+                }
+            }
+        }
+
+        List<int[]> area = new ArrayList<>();
+        for (int dx = -radius; dx <= radius; dx++) {
+            for (int dz = -radius; dz <= radius; dz++) {
+                if (square || dx * dx + dz * dz <= radius * radius) area.add(new int[] { centerX + dx, centerZ + dz });
+            }
+        }
+
+        Profiler.initFromSystemProperties();
+        Blocks.registerHeadless();
+        World world = new World(seed);
+        ChunkLightingSystem lighting = new ChunkLightingSystem(world);
+        GenerationTimings timings = new GenerationTimings();
+        ChunkStorage storage = out != null ? new ChunkStorage(Paths.get(out)) : null;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) pool.resetPeakUsage();
+
+        System.out.printf("Generating %d chunks (%s, radius %d around %d,%d), seed %d, %d threads%n",
+                area.size(), square ? "square" : "circle", radius, centerX, centerZ, seed, threads);
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            long start = System.nanoTime();
+            List<Future<Chunk>> generated = new ArrayList<>(area.size());
+            for (int[] c : area) {
+                generated.add(pool.submit(() -> {
+                    Chunk chunk = new Chunk(c[0], c[1]);
+                    world.getGenerator().generateChunk(chunk, timings);
+                    return chunk;
+                }));
+            }
+            // World's chunk map isn't thread-safe: insert from this thread only
+            for (Future<Chunk> f : generated) {
+                Chunk chunk = f.get();
+                world.getChunks().put(World.chunkKey(chunk.getChunkX(), chunk.getChunkZ()), chunk);
+            }
+            long generatedAt = System.nanoTime();
+
+            for (int phase = 0; phase < 9; phase++) {
+                List<Future<?>> tasks = new ArrayList<>();
+                for (int[] c : area) {
+                    if (Math.floorMod(c[0], 3) + 3 * Math.floorMod(c[1], 3) != phase) continue;
+                    Chunk chunk = world.getChunk(c[0], c[1]);
+                    tasks.add(pool.submit(() -> {
+                        long t = System.nanoTime();
+                        lighting.updateChunkLighting(chunk);
+                        timings.addLighting(System.nanoTime() - t);
+                    }));
+                }
+                for (Future<?> f : tasks) f.get();
+            }
+            long litAt = System.nanoTime();
+
+            if (storage != null) {
+                List<Future<?>> saves = new ArrayList<>();
+                for (int[] c : area) {
+                    Chunk chunk = world.getChunk(c[0], c[1]);
+                    saves.add(pool.submit(() -> {
+                        try {
+                            storage.save(chunk);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    }));
+                }
+                for (Future<?> f : saves) f.get();
+            }
+            long end = System.nanoTime();
+
+            report(area.size(), timings, generatedAt - start, litAt - generatedAt, storage != null ? end - litAt : -1,
+                    end - start);
+        } finally {
+            pool.shutdown();
+            Profiler.shutdown();
+        }
+    }
+
+    private static void report(int chunks, GenerationTimings timings, long genNanos, long lightNanos,
+                               long saveNanos, long totalNanos) {
+        double seconds = totalNanos / 1e9;
+        System.out.printf("generate: %8.1f ms wall  %8.1f chunks/s%n", genNanos / 1e6, chunks / (genNanos / 1e9));
+        System.out.printf("light:    %8.1f ms wall%n", lightNanos / 1e6);
+        if (saveNanos >= 0) System.out.printf("save:     %8.1f ms wall%n", saveNanos / 1e6);
+        System.out.printf("total:    %8.1f ms wall  %8.1f chunks/s%n", totalNanos / 1e6, chunks / seconds);
+
+        System.out.println("stage       total ms   us/chunk   (summed over threads)");
+        printStage("noise", timings.getNoiseNanos(), chunks);
+        printStage("caves", timings.getCaveNanos(), chunks);
+        printStage("fill", timings.getFillNanos(), chunks);
+        printStage("lighting", timings.getLightingNanos(), chunks);
+
+        long peakHeap = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) peakHeap += pool.getPeakUsage().getUsed();
+        }
+        System.out.printf("peak heap: %.1f MB%n", peakHeap / (1024.0 * 1024.0));
+    }
+
+    private static void printStage(String name, long nanos, int chunks) {
+        System.out.printf("%-10s %9.1f %10.1f%n", name, nanos / 1e6, nanos / 1e3 / chunks);
+    }
+}
@@ -0,0 +1,78 @@
+package org.legendofvirelia.server.net;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.engine.utils.Log;
+
+import org.legendofvirelia.shared.ServerWorldState;
+import org.legendofvirelia.shared.command.ServerCommand;
+import org.legendofvirelia.shared.packet.Packet;
+import org.legendofvirelia.shared.packet.PacketHandler;
+
+/**
+ * One client connection as seen by the tick thread.
+ *
+ * The I/O side decodes packets, dispatches them through a {@link PacketHandler}
+ * that turns them into {@link ServerCommand}s, and hands those over through a
+ * bounded inbound queue. The tick thread drains that queue and queues replies
+ * with {@link #send(Packet)}, which never blocks: a client that stops reading
+ * fills its own outbound queue and is disconnected, it cannot stall the tick.
+ */
+public abstract class Connection {
+    public static final int INBOUND_CAPACITY = 256;
+    public static final int OUTBOUND_CAPACITY = 1024;
+
+    protected final int id;
+    protected final BlockingQueue<ServerCommand> inbound = new ArrayBlockingQueue<>(INBOUND_CAPACITY);
+    protected final PacketHandler handler = new ServerPacketHandler(this);
+    protected volatile boolean open = true;
+    private final LongAdder droppedPackets = new LongAdder();
+
+    protected Connection(int id) {
+        this.id = id;
+    }
+
+    /** Hand a decoded command to the tick thread. Called from the I/O side only. */
+    protected abstract void enqueue(ServerCommand command);
+
+    /**
+     * Queue a packet for this client without blocking. Returns false if the connection
+     * is closed, or if the queue was full and the client has just been disconnected.
+     */
+    public abstract boolean send(Packet packet);
+
+    public abstract void close();
+
+    /** Next command from this client, or null. Called from the tick thread. */
+    public ServerCommand pollInbound() {
+        return inbound.poll();
+    }
+
+    /** Move up to {@code max} pending commands into the server world's command queue. */
+    public int drainInto(ServerWorldState state, int max) {
+        int drained = 0;
+        ServerCommand command;
+        while (drained < max && (command = pollInbound()) != null) {
+            state.receiveServerCommands(command);
+            drained++;
+        }
+        return drained;
+    }
+
+    /**
+     * Called by {@link #send(Packet)} when the outbound queue is full. Dropping the packet
+     * and carrying on would leave the client with a silently inconsistent world, so a
+     * client that has fallen this far behind is disconnected instead.
+     */
+    protected void disconnectSlowClient() {
+        droppedPackets.increment();
+        Log.warn("Disconnecting client {}: {} outbound packets unread", id, OUTBOUND_CAPACITY);
+        close();
+    }
+
+    public int getId()                  { return id; }
+    public boolean isOpen()             { return open; }
+    public long getDroppedPackets()     { return droppedPackets.sum(); }
+}
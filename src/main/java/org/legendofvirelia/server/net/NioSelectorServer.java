@@ -0,0 +1,259 @@
+package org.legendofvirelia.server.net;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.engine.utils.Log;
+import org.legendofvirelia.shared.command.ServerCommand;
+import org.legendofvirelia.shared.packet.Packet;
+import org.legendofvirelia.shared.packet.PacketCodec;
+
+/**
+ * Server I/O on a single NIO selector thread, kept as the baseline that
+ * {@link VirtualThreadServer} is benchmarked against (see TransportBenchmark in src/harness).
+ *
+ * All sockets are non-blocking and multiplexed by one platform thread. Because
+ * that thread must never block, a full inbound queue pauses reads for that
+ * connection (OP_READ is cleared) until the tick thread drains it.
+ */
+public class NioSelectorServer implements ServerTransport {
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    private final CopyOnWriteArrayList<NioConnection> connections = new CopyOnWriteArrayList<>();
+    // Interest changes requested from other threads, applied on the selector thread
+    private final Queue<NioConnection> pendingInterest = new ConcurrentLinkedQueue<>();
+    private Selector selector;
+    private ServerSocketChannel serverChannel;
+    private Thread selectorThread;
+    private volatile boolean running;
+    private int nextConnectionId = 1;
+
+    @Override
+    public void start(int port) throws IOException {
+        selector = Selector.open();
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.configureBlocking(false);
+        serverChannel.bind(new InetSocketAddress(port), 512);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        running = true;
+        selectorThread = new Thread(this::selectLoop, "net-selector");
+        selectorThread.setDaemon(true);
+        selectorThread.start();
+        Log.info("NIO selector server listening on port {}", getPort());
+    }
+
+    private void selectLoop() {
+        try {
+            while (running) {
+                selector.select();
+
+                NioConnection pending;
+                while ((pending = pendingInterest.poll()) != null) {
+                    pending.applyInterest();
+                }
+
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (!key.isValid()) continue;
+
+                    if (key.isAcceptable()) {
+                        accept();
+                        continue;
+                    }
+                    NioConnection connection = (NioConnection) key.attachment();
+                    if (key.isReadable()) connection.onReadable();
+                    if (key.isValid() && key.isWritable()) connection.onWritable();
+                }
+            }
+        } catch (IOException | ClosedSelectorException e) {
+            if (running) Log.error("Selector loop failed", e);
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel;
+        while ((channel = serverChannel.accept()) != null) {
+            channel.configureBlocking(false);
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            NioConnection connection = new NioConnection(nextConnectionId++, channel);
+            connection.key = channel.register(selector, SelectionKey.OP_READ, connection);
+            connections.add(connection);
+        }
+    }
+
+    @Override
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    @Override
+    public Collection<? extends Connection> getConnections() {
+        return connections;
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        for (NioConnection connection : connections) {
+            connection.close();
+        }
+        try {
+            selector.close();
+            serverChannel.close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    private class NioConnection extends Connection {
+        private final SocketChannel channel;
+        private final ByteBuffer readBuffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+        private final ArrayBlockingQueue<Packet> outbound = new ArrayBlockingQueue<>(OUTBOUND_CAPACITY);
+        private final AtomicBoolean interestQueued = new AtomicBoolean(false);
+        private SelectionKey key;
+        private ByteBuffer writeBuffer;
+        private volatile boolean readPaused;
+
+        NioConnection(int id, SocketChannel channel) {
+            super(id);
+            this.channel = channel;
+        }
+
+        void onReadable() {
+            try {
+                if (channel.read(readBuffer) < 0) {
+                    close();
+                    return;
+                }
+                parseFrames();
+            } catch (IOException e) {
+                close();
+            }
+        }
+
+        /** Decode every complete frame in the read buffer, stopping early if the tick thread is behind. */
+        private void parseFrames() throws IOException {
+            readBuffer.flip();
+            while (readBuffer.remaining() >= Integer.BYTES) {
+                if (inbound.remainingCapacity() == 0) {
+                    readPaused = true;
+                    key.interestOps(key.interestOps() & ~SelectionKey.OP_READ);
+                    break;
+                }
+                int length = readBuffer.getInt(readBuffer.position());
+                PacketCodec.checkLength(length);
+                if (length > readBuffer.capacity() - Integer.BYTES) {
+                    throw new IOException("Frame larger than read buffer: " + length);
+                }
+                if (readBuffer.remaining() < Integer.BYTES + length) break;
+
+                int bodyStart = readBuffer.position() + Integer.BYTES;
+                Packet packet = PacketCodec.decode(readBuffer.array(), bodyStart, length);
+                readBuffer.position(bodyStart + length);
+                packet.handle(handler);
+            }
+            readBuffer.compact();
+        }
+
+        void onWritable() {
+            try {
+                while (true) {
+                    if (writeBuffer == null || !writeBuffer.hasRemaining()) {
+                        Packet packet = outbound.poll();
+                        if (packet == null) {
+                            writeBuffer = null;
+                            key.interestOps(key.interestOps() & ~SelectionKey.OP_WRITE);
+                            // A send may have raced with the poll above
+                            if (!outbound.isEmpty()) requestInterest();
+                            return;
+                        }
+                        writeBuffer = ByteBuffer.wrap(PacketCodec.encode(packet));
+                    }
+                    channel.write(writeBuffer);
+                    if (writeBuffer.hasRemaining()) return; // socket full, wait for OP_WRITE
+                }
+            } catch (IOException e) {
+                close();
+            }
+        }
+
+        /** Runs on the selector thread. */
+        void applyInterest() {
+            interestQueued.set(false);
+            if (!key.isValid()) return;
+            int ops = key.interestOps();
+            if (!outbound.isEmpty()) ops |= SelectionKey.OP_WRITE;
+            if (readPaused && inbound.remainingCapacity() > 0) {
+                readPaused = false;
+                ops |= SelectionKey.OP_READ;
+            }
+            key.interestOps(ops);
+            if (!readPaused && readBuffer.position() > 0) {
+                // Frames left behind when reads were paused
+                try {
+                    parseFrames();
+                } catch (IOException e) {
+                    close();
+                }
+            }
+        }
+
+        private void requestInterest() {
+            if (interestQueued.compareAndSet(false, true)) {
+                pendingInterest.offer(this);
+                selector.wakeup();
+            }
+        }
+
+        @Override
+        protected void enqueue(ServerCommand command) {
+            // Capacity was checked before decoding, so this cannot fail
+            inbound.offer(command);
+        }
+
+        @Override
+        public ServerCommand pollInbound() {
+            ServerCommand command = super.pollInbound();
+            if (readPaused && command != null) requestInterest();
+            return command;
+        }
+
+        @Override
+        public boolean send(Packet packet) {
+            if (!open) return false;
+            if (!outbound.offer(packet)) {
+                disconnectSlowClient();
+                return false;
+            }
+            requestInterest();
+            return true;
+        }
+
+        @Override
+        public void close() {
+            if (!open) return;
+            open = false;
+            connections.remove(this);
+            if (key != null) key.cancel();
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package org.legendofvirelia.server.net;
+
+import org.joml.Vector3i;
+import org.legendofvirelia.shared.commands.BreakBlockCommand;
+import org.legendofvirelia.shared.commands.PlaceBlockCommand;
+import org.legendofvirelia.shared.packet.BlockChangePacket;
+import org.legendofvirelia.shared.packet.PacketHandler;
+import org.legendofvirelia.shared.packet.PlaceBlockPacket;
+
+/**
+ * Turns packets received from one client into server commands for the tick thread.
+ * Runs on the connection's I/O thread, so it only builds commands and never
+ * touches the world.
+ */
+class ServerPacketHandler implements PacketHandler {
+    private final Connection connection;
+
+    ServerPacketHandler(Connection connection) {
+        this.connection = connection;
+    }
+
+    @Override
+    public void handle(PlaceBlockPacket pkt) {
+        Vector3i position = new Vector3i(pkt.x, pkt.y, pkt.z);
+        if (pkt.blockId == 0) {
+            connection.enqueue(new BreakBlockCommand(position));
+        } else {
+            connection.enqueue(new PlaceBlockCommand(position, pkt.blockId));
+        }
+    }
+
+    @Override
+    public void handle(BlockChangePacket pkt) {
+        // Server -> client only; a client sending one is ignored.
+    }
+}
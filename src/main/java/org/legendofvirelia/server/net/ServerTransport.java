@@ -0,0 +1,22 @@
+package org.legendofvirelia.server.net;
+
+import java.io.IOException;
+import java.util.Collection;
+
+/**
+ * Accepts client connections and runs their packet I/O off the tick thread.
+ * Implementations: {@link VirtualThreadServer} (blocking I/O, one virtual thread
+ * per direction per connection) and {@link NioSelectorServer} (one selector thread).
+ */
+public interface ServerTransport extends AutoCloseable {
+    /** Bind and start accepting. Port 0 picks a free port. */
+    void start(int port) throws IOException;
+
+    int getPort();
+
+    /** Currently open connections; safe to iterate from the tick thread. */
+    Collection<? extends Connection> getConnections();
+
+    @Override
+    void close();
+}
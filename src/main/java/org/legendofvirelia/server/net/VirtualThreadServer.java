@@ -0,0 +1,173 @@
+package org.legendofvirelia.server.net;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.util.Collection;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.engine.utils.Log;
+import org.legendofvirelia.shared.command.ServerCommand;
+import org.legendofvirelia.shared.packet.Packet;
+import org.legendofvirelia.shared.packet.PacketCodec;
+
+/**
+ * Server I/O on Java 21 virtual threads.
+ *
+ * Every connection gets a reader and a writer virtual thread doing plain
+ * blocking socket I/O. Blocking a virtual thread only parks it, so hundreds of
+ * players cost a few KB of stack each instead of a platform thread each, and
+ * the per-connection code stays a simple read-dispatch loop.
+ */
+public class VirtualThreadServer implements ServerTransport {
+    private static final int ACCEPT_BACKLOG = 512;
+
+    private final CopyOnWriteArrayList<VirtualConnection> connections = new CopyOnWriteArrayList<>();
+    private final AtomicInteger nextConnectionId = new AtomicInteger(1);
+    private ServerSocket serverSocket;
+    private Thread acceptThread;
+    private volatile boolean running;
+
+    @Override
+    public void start(int port) throws IOException {
+        serverSocket = new ServerSocket();
+        serverSocket.bind(new InetSocketAddress(port), ACCEPT_BACKLOG);
+        running = true;
+        acceptThread = Thread.ofVirtual().name("net-accept").start(this::acceptLoop);
+        Log.info("Virtual-thread server listening on port {}", getPort());
+    }
+
+    private void acceptLoop() {
+        while (running) {
+            try {
+                Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                VirtualConnection connection = new VirtualConnection(nextConnectionId.getAndIncrement(), socket);
+                connections.add(connection);
+                connection.start();
+            } catch (IOException e) {
+                if (running) Log.error("Accept failed", e);
+            }
+        }
+    }
+
+    @Override
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    @Override
+    public Collection<? extends Connection> getConnections() {
+        return connections;
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        try {
+            serverSocket.close();
+        } catch (IOException ignored) {
+        }
+        for (VirtualConnection connection : connections) {
+            connection.close();
+        }
+        if (acceptThread != null) acceptThread.interrupt();
+    }
+
+    private class VirtualConnection extends Connection {
+        private final Socket socket;
+        private final BlockingQueue<Packet> outbound = new ArrayBlockingQueue<>(OUTBOUND_CAPACITY);
+        private Thread reader;
+        private Thread writer;
+
+        VirtualConnection(int id, Socket socket) {
+            super(id);
+            this.socket = socket;
+        }
+
+        void start() {
+            reader = Thread.ofVirtual().name("net-read-" + id).start(this::readLoop);
+            writer = Thread.ofVirtual().name("net-write-" + id).start(this::writeLoop);
+        }
+
+        private void readLoop() {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()))) {
+                while (open) {
+                    Packet packet = PacketCodec.read(in);
+                    packet.handle(handler);
+                }
+            } catch (EOFException | SocketException e) {
+                // client went away
+            } catch (IOException e) {
+                Log.error("Connection " + id + " read failed", e);
+            } finally {
+                close();
+            }
+        }
+
+        private void writeLoop() {
+            try {
+                DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+                while (open) {
+                    Packet packet = outbound.take();
+                    PacketCodec.write(out, packet);
+                    // Coalesce everything already queued into one flush / syscall
+                    while ((packet = outbound.poll()) != null) {
+                        PacketCodec.write(out, packet);
+                    }
+                    out.flush();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException e) {
+                if (open) Log.error("Connection " + id + " write failed", e);
+            } finally {
+                close();
+            }
+        }
+
+        @Override
+        protected void enqueue(ServerCommand command) {
+            try {
+                // Blocking is fine here: it parks only this client's reader until
+                // the tick thread catches up, which throttles a flooding client.
+                inbound.put(command);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                close();
+            }
+        }
+
+        @Override
+        public boolean send(Packet packet) {
+            if (!open) return false;
+            if (!outbound.offer(packet)) {
+                disconnectSlowClient();
+                return false;
+            }
+            return true;
+        }
+
+        @Override
+        public void close() {
+            if (!open) return;
+            open = false;
+            connections.remove(this);
+            try {
+                socket.close();
+            } catch (IOException ignored) {
+            }
+            if (writer != null) writer.interrupt();
+        }
+    }
+}
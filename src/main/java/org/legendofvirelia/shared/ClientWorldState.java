@@ -1,21 +1,30 @@
 package org.legendofvirelia.shared;
 
+import java.util.HashMap;
+import java.util.Map;
+
+import org.engine.profiling.Profiler;
+import org.engine.profiling.jfr.CommandExecutedEvent;
 import org.engine.rendering.Renderer;
 import org.game.entities.Camera;
 import org.game.lighting.DirectionalLight;
 import org.game.world.BlockPlacer;
 import org.game.world.Chunk;
 import org.game.world.WorldRenderer;
+import org.joml.Vector3i;
 import org.legendofvirelia.shared.commands.ClientReady;
 import org.legendofvirelia.shared.command.ClientCommand;
 import org.legendofvirelia.shared.command.ServerCommand;
 
 public class ClientWorldState extends WorldState<ClientCommand, ServerCommand> {
+    // Block edits applied locally that the server has not acknowledged yet
+    private final Map<Long, PredictedChange> pendingPredictions = new HashMap<>();
 
     @Override
     public void init() {
         blockPlacer = new BlockPlacer(world);
         WorldRenderer.initialize(this.world);
+        registerMetrics("client");
         sendCommand(new ClientReady());
     }
 
@@ -27,9 +36,21 @@ public class ClientWorldState extends WorldState<ClientCommand, ServerCommand> {
     }
 
     private void processServerActions() {
-        ClientCommand command;
-        while ((command = incomingCommands.poll()) != null) {
-            command.execute(this);
+        Profiler.begin("Client commands");
+        try {
+            ClientCommand command;
+            while ((command = incomingCommands.poll()) != null) {
+                CommandExecutedEvent event = new CommandExecutedEvent();
+                event.begin();
+                command.execute(this);
+                if (event.shouldCommit()) {
+                    event.side = "client";
+                    event.command = command.getClass().getSimpleName();
+                    event.commit();
+                }
+            }
+        } finally {
+            Profiler.end();
         }
     }
 
@@ -37,6 +58,48 @@ public class ClientWorldState extends WorldState<ClientCommand, ServerCommand> {
         // Prediction systems
     }
 
+    /**
+     * Apply a block edit locally before the server confirms it and schedule the
+     * remesh right away. Returns the actionId to put on the outgoing command, or 0
+     * if the target chunk is not loaded here (nothing predicted, nothing to undo).
+     */
+    public long predictBlockChange(Vector3i position, int blockId) {
+        int previous = world.getBlockIdAt(position.x, position.y, position.z);
+        Chunk chunk = blockPlacer.placeBlock(position, blockId);
+        if (chunk == null) return 0;
+
+        long actionId = nextActionId.incrementAndGet();
+        pendingPredictions.put(actionId, new PredictedChange(new Vector3i(position), previous, blockId));
+
+        requestRerenderChunk(chunk);
+        checkAndUpdateNeighboringChunks(position);
+        return actionId;
+    }
+
+    /**
+     * Settle a predicted edit once the server's verdict arrives. Accepted edits
+     * were already applied (and their batch skipped as a no-op), so only a
+     * rejection touches the world: the block is put back unless something else
+     * has changed it since.
+     */
+    public void reconcilePrediction(long actionId, boolean accepted) {
+        PredictedChange change = pendingPredictions.remove(actionId);
+        if (change == null || accepted) return;
+
+        Vector3i pos = change.position;
+        if (world.getBlockIdAt(pos.x, pos.y, pos.z) != change.predictedId) return;
+
+        Chunk chunk = blockPlacer.placeBlock(pos, change.previousId);
+        if (chunk != null) {
+            requestRerenderChunk(chunk);
+            checkAndUpdateNeighboringChunks(pos);
+        }
+    }
+
+    public int getPendingPredictionCount() {
+        return pendingPredictions.size();
+    }
+
     private void rerenderChunks() {
         for (Chunk chunk : chunksToUpdate) {
             WorldRenderer.rebuildChunkAt(world, chunk);
@@ -70,4 +133,16 @@ public class ClientWorldState extends WorldState<ClientCommand, ServerCommand> {
     public void receiveServerCommands(ClientCommand command) {
         incomingCommands.offer(command);
     }
+
+    private static class PredictedChange {
+        final Vector3i position;
+        final int previousId;
+        final int predictedId;
+
+        PredictedChange(Vector3i position, int previousId, int predictedId) {
+            this.position = position;
+            this.previousId = previousId;
+            this.predictedId = predictedId;
+        }
+    }
 }
\ No newline at end of file
@@ -1,11 +1,25 @@
 package org.legendofvirelia.shared;
 
-import org.engine.utils.Debug;
+import java.io.IOException;
+import java.nio.file.Paths;
+
+import org.engine.metrics.Metrics;
+import org.engine.profiling.jfr.CommandExecutedEvent;
+import org.engine.utils.Log;
 import org.game.world.BlockPlacer;
+import org.game.world.ChunkStorage;
+import org.joml.Vector3i;
+import org.legendofvirelia.server.BlockChangeBatcher;
+import org.legendofvirelia.server.PlayerInterest;
 import org.legendofvirelia.shared.command.ClientCommand;
 import org.legendofvirelia.shared.command.ServerCommand;
 
 public class ServerWorldState extends WorldState<ServerCommand, ClientCommand>{
+    // Chunk streaming state for the connected player (the local bridge has exactly one)
+    private final PlayerInterest playerInterest = new PlayerInterest();
+    // Block edits made this tick, flushed as one command per chunk section
+    private final BlockChangeBatcher blockChanges = new BlockChangeBatcher();
+
     public ServerWorldState() {
         super();
         
@@ -14,29 +28,74 @@ public class ServerWorldState extends WorldState<ServerCommand, ClientCommand>{
     public void init() {
 
         blockPlacer = new BlockPlacer(world);
+        // Chunks pre-baked by WorldPregen --out, e.g. -Dworld.dir=world/chunks
+        String worldDir = System.getProperty("world.dir");
+        if (worldDir != null && !worldDir.isEmpty()) {
+            try {
+                world.setStorage(new ChunkStorage(Paths.get(worldDir)));
+                Log.info("Reading pre-generated chunks from {}", worldDir);
+            } catch (IOException e) {
+                Log.error("Cannot open chunk directory " + worldDir, e);
+            }
+        }
         isWorldGenerated = true;
+        registerMetrics("server");
+        Metrics.gauge("server.chunks_in_flight", playerInterest::getInFlightCount);
 
         // world.generateInitialChunks();
     }
 
     @Override
     public void update(float delta) {
+        processCommands();
+        world.update(delta);
+        flushOutgoing();
+    }
+
+    /** Execute every command received from the client since the last tick. */
+    public void processCommands() {
         ServerCommand command;
         while ((command = incomingCommands.poll()) != null) {
+            CommandExecutedEvent event = new CommandExecutedEvent();
+            event.begin();
             command.execute(this);
+            if (event.shouldCommit()) {
+                event.side = "server";
+                event.command = command.getClass().getSimpleName();
+                event.commit();
+            }
         }
-        world.update(delta);
+    }
+
+    /** Send this tick's block change batches and stream chunks within budget. */
+    public void flushOutgoing() {
+        blockChanges.flush(this);
+        playerInterest.tick(this);
     }
     @Override
     public void sendCommand(ClientCommand command) {
-        Debug.log("new Action from server!!");
+        Log.debug("Server command queued: {}", command);
         outgoingCommands.offer(command);
     }
 
+    /** Queue a block change for the end-of-tick batch sent to the client. */
+    public void recordBlockChange(Vector3i position, int blockId) {
+        blockChanges.record(position.x, position.y, position.z, blockId);
+    }
+
+    /** Queue the verdict for a client's predicted action for the end-of-tick batch. */
+    public void ackAction(long actionId, boolean accepted) {
+        blockChanges.ack(actionId, accepted);
+    }
+
+    public PlayerInterest getPlayerInterest() {
+        return playerInterest;
+    }
+
     // Server-side method to receive actions
     @Override
     public void receiveServerCommands(ServerCommand command) {
-        Debug.log("new Action from client!!");
+        Log.debug("Client command received: {}", command);
         incomingCommands.offer(command);
 
     }
@@ -1,12 +1,13 @@
 // shared/WorldState.java
 package org.legendofvirelia.shared;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.LinkedHashSet;
 import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicLong;
 
+import org.engine.metrics.Metrics;
 import org.game.world.Chunk;
 import org.game.world.World;
 
@@ -24,7 +25,7 @@ public abstract class WorldState<T extends Command<?>, U extends Command<?>> {
     protected Queue<U> outgoingCommands; // Actions to send to server
 
     protected boolean needRerender = false;
-    protected List<Chunk> chunksToUpdate;
+    protected Set<Chunk> chunksToUpdate; // insertion-ordered, one entry per chunk
     protected BlockPlacer blockPlacer;
 
     // Action ID tracking for client-side prediction
@@ -36,12 +37,28 @@ public abstract class WorldState<T extends Command<?>, U extends Command<?>> {
         world = new World();
         incomingCommands = new ConcurrentLinkedQueue<>();
         outgoingCommands = new ConcurrentLinkedQueue<>();
-        chunksToUpdate = new ArrayList<>();
+        chunksToUpdate = new LinkedHashSet<>();
 
     }
 
     public abstract void init();
 
+    /**
+     * Publishes this state's chunk count and queue depths as gauges under
+     * {@code side}, e.g. {@code client.chunks_loaded}. Sampled only when read,
+     * so the hot paths don't pay for them.
+     */
+    protected void registerMetrics(String side) {
+        Metrics.gauge(side + ".chunks_loaded", () -> world.getChunks().size());
+        Metrics.gauge(side + ".incoming_commands", () -> incomingCommands.size());
+        Metrics.gauge(side + ".outgoing_commands", () -> outgoingCommands.size());
+        Metrics.gauge(side + ".chunks_to_update", () -> {
+            synchronized (chunksToUpdate) {
+                return chunksToUpdate.size();
+            }
+        });
+    }
+
     public abstract void update(float delta);
     public abstract void sendCommand(U command);
 
@@ -49,8 +66,7 @@ public abstract class WorldState<T extends Command<?>, U extends Command<?>> {
         if (chunk == null)
             return;
         synchronized (chunksToUpdate) {
-            if (!chunksToUpdate.contains(chunk))
-                chunksToUpdate.add(chunk);
+            chunksToUpdate.add(chunk);
         }
     }
 
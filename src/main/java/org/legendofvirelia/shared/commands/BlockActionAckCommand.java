@@ -0,0 +1,43 @@
+package org.legendofvirelia.shared.commands;
+
+import java.util.Arrays;
+
+import org.legendofvirelia.shared.ClientWorldState;
+import org.legendofvirelia.shared.command.ClientCommand;
+
+/**
+ * Server verdicts for the client's predicted block actions handled this tick.
+ * Sent after the tick's {@link MultiBlockChangeCommand}s so accepted actions
+ * are already reflected in the client's world when they are acknowledged.
+ */
+public class BlockActionAckCommand implements ClientCommand {
+    private long[] actionIds = new long[4];
+    private boolean[] accepted = new boolean[4];
+    private int count = 0;
+
+    public void add(long actionId, boolean wasAccepted) {
+        if (count == actionIds.length) {
+            actionIds = Arrays.copyOf(actionIds, count * 2);
+            accepted = Arrays.copyOf(accepted, count * 2);
+        }
+        actionIds[count] = actionId;
+        accepted[count] = wasAccepted;
+        count++;
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    @Override
+    public void execute(ClientWorldState worldState) {
+        for (int i = 0; i < count; i++) {
+            worldState.reconcilePrediction(actionIds[i], accepted[i]);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "BlockActionAckCommand[x" + count + "]";
+    }
+}
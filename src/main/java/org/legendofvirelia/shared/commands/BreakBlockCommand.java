@@ -8,19 +8,21 @@ import org.legendofvirelia.shared.command.ServerCommand;
 public class BreakBlockCommand implements ServerCommand {
 
     public Vector3i position;
+    public long actionId; // For client-side prediction tracking
+
     public BreakBlockCommand(Vector3i position) {
         this.position = position;
-
+        this.actionId = 0; // Set by the client when it predicts the edit
     }
 
     @Override
     public void execute(ServerWorldState world) {
         Chunk chunk = world.getBlockPlacer().breakBlock(position);
         if (chunk != null) {
-            world.requestRerenderChunk(chunk);
-            world.sendCommand(new BreakBlockConfirmCommand(position));
-            world.checkAndUpdateNeighboringChunks(position);
+            // Sent to the client as part of this tick's MultiBlockChangeCommand batch
+            world.recordBlockChange(position, 0);
         }
+        world.ackAction(actionId, chunk != null);
 
     }
 
@@ -0,0 +1,29 @@
+package org.legendofvirelia.shared.commands;
+
+import org.legendofvirelia.shared.ServerWorldState;
+import org.legendofvirelia.shared.command.ServerCommand;
+
+/**
+ * Sent by the client once it has applied a {@link LoadSingleChunkCommand}.
+ * The server counts chunks sent but not yet received per player, and stops
+ * streaming while too many are in flight (see PlayerInterest).
+ */
+public class ChunkReceivedCommand implements ServerCommand {
+    private final int chunkX;
+    private final int chunkZ;
+
+    public ChunkReceivedCommand(int chunkX, int chunkZ) {
+        this.chunkX = chunkX;
+        this.chunkZ = chunkZ;
+    }
+
+    @Override
+    public void execute(ServerWorldState worldState) {
+        worldState.getPlayerInterest().acknowledge(chunkX, chunkZ);
+    }
+
+    @Override
+    public String toString() {
+        return "ChunkReceivedCommand[" + chunkX + "," + chunkZ + "]";
+    }
+}
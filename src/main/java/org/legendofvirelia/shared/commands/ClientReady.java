@@ -12,13 +12,13 @@ public class ClientReady implements ServerCommand {
 
         worldState.getCurrentWorld().generateInitialChunks();
 
-        // FIX: Mark every chunk in the initial batch as "sent" BEFORE sending
-        // the GenerateWorld bulk command. This prevents GenerateNewChunks (which
-        // fires on the first player move) from re-sending all the same chunks a
-        // second time, which would replace the client's Chunk objects (resetting
-        // isMeshBuilt to false) and trigger a full world re-mesh.
+        // FIX: Mark every chunk in the initial batch as loaded in the player's
+        // interest set BEFORE sending the GenerateWorld bulk command. This prevents
+        // chunk streaming (which starts on the first player move) from re-sending
+        // all the same chunks a second time, which would replace the client's Chunk
+        // objects (resetting isMeshBuilt to false) and trigger a full world re-mesh.
         for (Chunk chunk : worldState.getCurrentWorld().getAllChunks()) {
-            worldState.getCurrentWorld().markChunkSent(chunk);
+            worldState.getPlayerInterest().markLoaded(chunk);
         }
 
         worldState.sendCommand(new GenerateWorld(worldState.getCurrentWorld()));
@@ -20,5 +20,6 @@ public class LoadSingleChunkCommand implements ClientCommand {
  
         clientState.getCurrentWorld().setChunk(chunk);
         // clientState.requestRerenderChunk(chunk);
+        clientState.sendCommand(new ChunkReceivedCommand(chunkX, chunkZ));
     }
 }
\ No newline at end of file
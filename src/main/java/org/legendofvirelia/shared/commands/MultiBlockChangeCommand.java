@@ -0,0 +1,94 @@
+package org.legendofvirelia.shared.commands;
+
+import java.util.Arrays;
+
+import org.game.world.Chunk;
+import org.game.world.World;
+import org.legendofvirelia.shared.ClientWorldState;
+import org.legendofvirelia.shared.command.ClientCommand;
+
+/**
+ * All block changes the server made to one 16x16x16 chunk section during a tick.
+ *
+ * Positions are packed as {@code x << 8 | y << 4 | z} relative to the section
+ * origin. The client applies the whole batch and schedules a single remesh for
+ * the chunk (plus any neighbor whose border was touched). Changes the client
+ * already predicted are skipped, so a confirmed prediction is never remeshed twice.
+ */
+public class MultiBlockChangeCommand implements ClientCommand {
+    public static final int SECTION_SIZE = 16;
+
+    private final int chunkX, sectionY, chunkZ;
+    private short[] positions = new short[8];
+    private int[] blockIds = new int[8];
+    private int count = 0;
+
+    public MultiBlockChangeCommand(int chunkX, int sectionY, int chunkZ) {
+        this.chunkX = chunkX;
+        this.sectionY = sectionY;
+        this.chunkZ = chunkZ;
+    }
+
+    /** Add or overwrite the change for a section-local position. */
+    public void set(int x, int y, int z, int blockId) {
+        short packed = (short) ((x << 8) | (y << 4) | z);
+        for (int i = 0; i < count; i++) {
+            if (positions[i] == packed) {
+                blockIds[i] = blockId;
+                return;
+            }
+        }
+        if (count == positions.length) {
+            positions = Arrays.copyOf(positions, count * 2);
+            blockIds = Arrays.copyOf(blockIds, count * 2);
+        }
+        positions[count] = packed;
+        blockIds[count] = blockId;
+        count++;
+    }
+
+    @Override
+    public void execute(ClientWorldState worldState) {
+        World world = worldState.getCurrentWorld();
+        Chunk chunk = world.getChunk(chunkX, chunkZ);
+        if (chunk == null) return;
+
+        int baseY = sectionY * SECTION_SIZE;
+        boolean changed = false;
+        boolean west = false, east = false, north = false, south = false;
+
+        for (int i = 0; i < count; i++) {
+            int x = (positions[i] >> 8) & 0xF;
+            int y = (positions[i] >> 4) & 0xF;
+            int z = positions[i] & 0xF;
+
+            // Already there (usually our own predicted edit): nothing to apply or remesh
+            if (chunk.getBlock(x, baseY + y, z) == blockIds[i]) continue;
+
+            chunk.setBlock(x, baseY + y, z, blockIds[i]);
+            changed = true;
+            west  |= x == 0;
+            east  |= x == Chunk.SIZE_X - 1;
+            north |= z == 0;
+            south |= z == Chunk.SIZE_Z - 1;
+        }
+
+        if (!changed) return;
+
+        worldState.requestRerenderChunk(chunk);
+        if (west)  worldState.requestRerenderChunk(world.getChunk(chunkX - 1, chunkZ));
+        if (east)  worldState.requestRerenderChunk(world.getChunk(chunkX + 1, chunkZ));
+        if (north) worldState.requestRerenderChunk(world.getChunk(chunkX, chunkZ - 1));
+        if (south) worldState.requestRerenderChunk(world.getChunk(chunkX, chunkZ + 1));
+    }
+
+    public int getChunkX()   { return chunkX; }
+    public int getSectionY() { return sectionY; }
+    public int getChunkZ()   { return chunkZ; }
+    public int getCount()    { return count; }
+
+    @Override
+    public String toString() {
+        return "MultiBlockChangeCommand[" + chunkX + "," + sectionY + "," + chunkZ + " x" + count + "]";
+    }
+}
@@ -14,7 +14,7 @@ public class PlaceBlockCommand implements ServerCommand{
     public PlaceBlockCommand(Vector3i position, int blockId) {
         this.position = position;
         this.blockId = blockId;
-        this.actionId = 0; // Will be set by WorldState
+        this.actionId = 0; // Set by the client when it predicts the edit
     }
 
     @Override
@@ -24,9 +24,9 @@ public class PlaceBlockCommand implements ServerCommand{
         System.out.println("Placing block " + blockId + " at " + position);
         Chunk chunk = world.getBlockPlacer().placeBlock(position, blockId);
         if(chunk != null) {
-            world.requestRerenderChunk(chunk);
-            world.sendCommand(new PlaceBlockConfirmCommand(position, blockId));
-            world.checkAndUpdateNeighboringChunks(position);
+            // Sent to the client as part of this tick's MultiBlockChangeCommand batch
+            world.recordBlockChange(position, blockId);
         }
+        world.ackAction(actionId, chunk != null);
     }
 }
\ No newline at end of file
@@ -0,0 +1,40 @@
+package org.legendofvirelia.shared.commands;
+
+import org.engine.profiling.jfr.ChunkUnloadedEvent;
+import org.game.world.Chunk;
+import org.legendofvirelia.shared.ClientWorldState;
+import org.legendofvirelia.shared.command.ClientCommand;
+
+/**
+ * Sent by the server when a chunk leaves the player's interest range.
+ * The client drops the chunk data and frees its GPU mesh.
+ */
+public class UnloadChunkCommand implements ClientCommand {
+    private final int chunkX;
+    private final int chunkZ;
+
+    public UnloadChunkCommand(int chunkX, int chunkZ) {
+        this.chunkX = chunkX;
+        this.chunkZ = chunkZ;
+    }
+
+    @Override
+    public void execute(ClientWorldState clientState) {
+        ChunkUnloadedEvent event = new ChunkUnloadedEvent();
+        event.begin();
+        Chunk chunk = clientState.getCurrentWorld().removeChunk(chunkX, chunkZ);
+        if (chunk != null) {
+            // Client commands run on the main thread, so the GL delete is safe here
+            chunk.setMeshBuilt(false);
+            if (event.shouldCommit()) {
+                event.set(chunkX, chunkZ);
+                event.commit();
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "UnloadChunkCommand[" + chunkX + "," + chunkZ + "]";
+    }
+}
@@ -0,0 +1,109 @@
+package org.legendofvirelia.shared.packet;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Wire framing for {@link Packet}s: {@code [int length][byte id][payload]},
+ * where length counts the id byte plus the payload. The length prefix lets
+ * non-blocking readers tell when a whole frame has arrived.
+ */
+public final class PacketCodec {
+    /** Largest frame we accept; anything bigger is a broken or hostile peer. */
+    public static final int MAX_FRAME_LENGTH = 1 << 20;
+
+    private static final Map<Integer, Supplier<Packet>> factories = new HashMap<>();
+    private static final Map<Class<? extends Packet>, Integer> ids = new HashMap<>();
+
+    static {
+        register(1, PlaceBlockPacket.class, PlaceBlockPacket::new);
+        register(2, BlockChangePacket.class, BlockChangePacket::new);
+    }
+
+    private PacketCodec() {}
+
+    private static <T extends Packet> void register(int id, Class<T> type, Supplier<Packet> factory) {
+        factories.put(id, factory);
+        ids.put(type, id);
+    }
+
+    /** Serialize a packet into a complete frame, length prefix included. */
+    public static byte[] encode(Packet packet) throws IOException {
+        Integer id = ids.get(packet.getClass());
+        if (id == null) {
+            throw new IOException("Unregistered packet type " + packet.getClass().getSimpleName());
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(32);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(0); // length placeholder
+        out.writeByte(id);
+        packet.write(out);
+
+        byte[] frame = bytes.toByteArray();
+        int length = frame.length - Integer.BYTES;
+        frame[0] = (byte) (length >>> 24);
+        frame[1] = (byte) (length >>> 16);
+        frame[2] = (byte) (length >>> 8);
+        frame[3] = (byte) length;
+        return frame;
+    }
+
+    /** Write one frame to a stream. The caller decides when to flush. */
+    public static void write(DataOutputStream out, Packet packet) throws IOException {
+        out.write(encode(packet));
+    }
+
+    /**
+     * Blocking read of one frame from a stream. Exactly {@code length} bytes
+     * are consumed whatever the packet reads, so a malformed frame fails on
+     * its own instead of desynchronising the rest of the stream.
+     */
+    public static Packet read(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        checkLength(length);
+        byte[] body = new byte[length];
+        in.readFully(body);
+        return decode(body, 0, length);
+    }
+
+    /**
+     * Decode a frame body (id byte + payload, without the length prefix).
+     * Fails if the packet reads past the body or leaves bytes unread.
+     */
+    public static Packet decode(byte[] body, int offset, int length) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(body, offset, length));
+        Packet packet = create(in.readUnsignedByte());
+        try {
+            packet.read(in);
+        } catch (EOFException e) {
+            throw new IOException("Packet " + packet.getClass().getSimpleName() + " frame of "
+                    + length + " bytes is too short", e);
+        }
+        if (in.available() > 0) {
+            throw new IOException("Packet " + packet.getClass().getSimpleName() + " left "
+                    + in.available() + " of " + length + " frame bytes unread");
+        }
+        return packet;
+    }
+
+    public static void checkLength(int length) throws IOException {
+        if (length < 1 || length > MAX_FRAME_LENGTH) {
+            throw new IOException("Invalid packet frame length " + length);
+        }
+    }
+
+    private static Packet create(int id) throws IOException {
+        Supplier<Packet> factory = factories.get(id);
+        if (factory == null) {
+            throw new IOException("Unknown packet id " + id);
+        }
+        return factory.get();
+    }
+}